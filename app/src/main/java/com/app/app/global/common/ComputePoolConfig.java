@@ -0,0 +1,77 @@
+package com.app.app.global.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계산 전용 스레드 풀 설정
+ * - 상관계수, 효율적 투자선, 몬테카를로 등 CPU 집약 계산을 Tomcat 요청 스레드나 공용 ForkJoinPool과 분리
+ * - 병렬도를 코어 수보다 작게 제한하여 무거운 요청 하나가 다른 세션의 요청 처리를 막지 않도록 함
+ */
+@Configuration
+public class ComputePoolConfig {
+
+    /**
+     * 계산용 ForkJoinPool (상관계수, 포트폴리오 최적화/시뮬레이션 공용)
+     * @param parallelism 병렬도 (0 이하이면 코어 수 - 1, 최소 1, 이전 설정 키 correlation.pool.parallelism도 인식)
+     */
+    @Bean(name = "computeForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool computeForkJoinPool(
+            @Value("${compute.pool.parallelism:${correlation.pool.parallelism:0}}") int parallelism) {
+        int size = parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        return new ForkJoinPool(size, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("compute-fj-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * 비동기 상관관계 분석 작업 실행기
+     * - 동시 실행 작업 수와 대기열 크기를 제한 (대기열이 가득 차면 제출 거부)
+     * @param concurrency 동시 실행 작업 수
+     * @param queueCapacity 대기 작업 최대 수
+     */
+    @Bean(name = "correlationJobExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService correlationJobExecutor(@Value("${correlation.job.concurrency:2}") int concurrency,
+                                                  @Value("${correlation.job.queue-capacity:50}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "correlation-job-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 상관관계 분석 SSE 이벤트 전송 실행기
+     * - 느린 클라이언트로의 전송이 계산 스레드나 분석 트랜잭션을 붙잡지 않도록 전송만 분리
+     * @param threads 전송 스레드 수
+     */
+    @Bean(name = "correlationStreamSender", destroyMethod = "shutdownNow")
+    public ExecutorService correlationStreamSender(@Value("${correlation.stream.sender-threads:2}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "correlation-sse-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+}//class
@@ -0,0 +1,121 @@
+package com.app.app.global.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 + TTL 기반 LRU 캐시 (프로세스 공유용, 스레드 안전)
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 저장 후 TTL이 지난 항목은 조회 시 만료 처리
+ * - null 값은 저장하지 않음 (조회 결과 null = 캐시 미스)
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hitCount;
+    private long missCount;
+
+    public LruCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.value;
+    }
+
+    /**
+     * 조건에 맞는 키의 항목 조회 (만료 항목 제외)
+     * - 선형 탐색이므로 크기가 작은 캐시에서만 사용
+     * - 보조 탐색이므로 적중/미스 통계에는 반영하지 않음 (호출자가 요청 단위로 집계)
+     * @return 일치하는 항목 중 가장 최근에 사용된 값 (없으면 null)
+     */
+    public synchronized V find(Predicate<K> matcher) {
+        long now = System.currentTimeMillis();
+        K found = null;
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            if (!entry.getValue().isExpired(now) && matcher.test(entry.getKey())) {
+                found = entry.getKey();
+            }
+        }
+        return found != null ? entries.get(found).value : null;
+    }
+
+    /**
+     * 캐시 저장
+     */
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) return;
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 항목 제거
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 전체 항목 제거
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+
+}//class
@@ -3,17 +3,23 @@ package com.app.domain.correlation.controller;
 import com.app.app.global.common.ApiResponse;
 import com.app.app.global.util.SessionUtil;
 import com.app.domain.correlation.dto.*;
+import com.app.domain.correlation.service.CorrelationClustering;
+import com.app.domain.correlation.service.CorrelationJobService;
 import com.app.domain.correlation.service.CorrelationService;
+import com.app.domain.correlation.service.CorrelationStreamService;
 import com.app.domain.correlation.service.DiversificationService;
+import com.app.domain.correlation.service.RollingCorrelationService;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 상관관계 분석 컨트롤러
@@ -27,6 +33,9 @@ public class CorrelationController {
 
     private final CorrelationService correlationService;
     private final DiversificationService diversificationService;
+    private final CorrelationJobService correlationJobService;
+    private final CorrelationStreamService correlationStreamService;
+    private final RollingCorrelationService rollingCorrelationService;
     private final SessionUtil sessionUtil;  // 이것만 있으면 됨
 
     /**
@@ -95,6 +104,230 @@ public class CorrelationController {
         }
     }
 
+    /**
+     * 상관관계 분석 작업 제출 (비동기)
+     * - 작업 ID를 즉시 반환하고 진행 상황/결과는 /jobs/{jobId}로 조회
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse> submitAnalysisJob(
+            @Valid @RequestBody CorrelationAnalysisRequest request,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("상관관계 분석 작업 제출 요청 - 비즈니스 세션: {}, 종목수: {}", businessSessionId, request.getTickers().size());
+
+        try {
+            CorrelationJobStatus status = correlationJobService.submit(businessSessionId, request);
+
+            return ResponseEntity.accepted().body(ApiResponse.success(
+                    "상관관계 분석 작업이 접수되었습니다.",
+                    status
+            ));
+
+        } catch (RejectedExecutionException e) {
+            log.warn("상관관계 분석 작업 제출 거부: 작업 대기열 포화");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(
+                    "대기 중인 분석 작업이 많습니다. 잠시 후 다시 시도해주세요.",
+                    "JOB_QUEUE_FULL"
+            ));
+        } catch (Exception e) {
+            log.error("상관관계 분석 작업 제출 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "분석 작업 제출 중 오류가 발생했습니다.",
+                    "JOB_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 선택된 자산 상관관계 분석 작업 제출 (비동기)
+     */
+    @PostMapping("/jobs/selected")
+    public ResponseEntity<ApiResponse> submitSelectedAssetsJob(HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("선택된 자산 상관관계 분석 작업 제출 요청 - 비즈니스 세션: {}", businessSessionId);
+
+        try {
+            CorrelationJobStatus status = correlationJobService.submitSelectedAssets(businessSessionId);
+
+            return ResponseEntity.accepted().body(ApiResponse.success(
+                    "선택된 자산 상관관계 분석 작업이 접수되었습니다.",
+                    status
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("선택된 자산 분석 작업 제출 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
+        } catch (IllegalStateException e) {
+            log.warn("선택된 자산 분석 작업 제출 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "NO_SELECTED_ASSETS"
+            ));
+        } catch (RejectedExecutionException e) {
+            log.warn("선택된 자산 분석 작업 제출 거부: 작업 대기열 포화");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(
+                    "대기 중인 분석 작업이 많습니다. 잠시 후 다시 시도해주세요.",
+                    "JOB_QUEUE_FULL"
+            ));
+        } catch (Exception e) {
+            log.error("선택된 자산 분석 작업 제출 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "분석 작업 제출 중 오류가 발생했습니다.",
+                    "JOB_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 상관관계 분석 작업 상태 조회 (진행률, 예상 남은 시간, 완료 시 결과)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse> getAnalysisJobStatus(
+            @PathVariable String jobId,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+
+        CorrelationJobStatus status = correlationJobService.getStatus(businessSessionId, jobId);
+        if (status == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(
+                    "분석 작업을 찾을 수 없습니다.",
+                    "JOB_NOT_FOUND"
+            ));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(
+                "분석 작업 상태를 조회했습니다.",
+                status
+        ));
+    }
+
+    /**
+     * 상관관계 분석 스트리밍 (Server-Sent Events)
+     * - start: 전체 종목 쌍 수
+     * - cell: 종목 쌍 상관계수 (확정 즉시)
+     * - high-correlation: |1Y 상관계수| ≥ 임계값인 종목 쌍
+     * - guide: 분산투자 가이드라인 (분석 결과 저장 후)
+     * - complete / error: 종료
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<?> streamCorrelationAnalysis(
+            @RequestParam List<String> tickers,
+            @RequestParam(defaultValue = "ALL") CorrelationAnalysisRequest.AnalysisPeriod period,
+            @RequestParam(defaultValue = "0.7") Double threshold,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("상관관계 분석 스트리밍 요청 - 비즈니스 세션: {}, 종목수: {}", businessSessionId, tickers.size());
+
+        if (tickers.size() < 2 || tickers.size() > 10) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    "분석할 종목은 최소 2개, 최대 10개까지 선택 가능합니다.",
+                    "INVALID_REQUEST"
+            ));
+        }
+
+        CorrelationAnalysisRequest request = CorrelationAnalysisRequest.builder()
+                .tickers(tickers)
+                .period(period)
+                .highCorrelationThreshold(threshold)
+                .build();
+
+        try {
+            return ResponseEntity.ok(correlationStreamService.stream(businessSessionId, request));
+
+        } catch (RejectedExecutionException e) {
+            log.warn("상관관계 분석 스트리밍 거부: 작업 대기열 포화");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(
+                    "대기 중인 분석 작업이 많습니다. 잠시 후 다시 시도해주세요.",
+                    "JOB_QUEUE_FULL"
+            ));
+        }
+    }
+
+    /**
+     * 대규모 종목군(유니버스) 상관관계 분석
+     * - 스크리닝 결과, 업종 전체 등 수백~수천 종목 대상
+     * - 임계값 이상 종목 쌍만 반환 (결과는 저장하지 않음)
+     */
+    @PostMapping("/universe")
+    public ResponseEntity<ApiResponse> performUniverseAnalysis(
+            @Valid @RequestBody UniverseCorrelationRequest request) {
+
+        log.info("유니버스 상관관계 분석 요청 - 종목수: {}, 업종: {}",
+                request.getTickers() != null ? request.getTickers().size() : 0, request.getIndustry());
+
+        try {
+            UniverseCorrelationResponse response = correlationService.performUniverseAnalysis(request);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("유니버스 상관관계 분석이 완료되었습니다. (임계값 이상 %d쌍)",
+                            response.getMatchedPairCount()),
+                    response
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 유니버스 분석 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
+        } catch (Exception e) {
+            log.error("유니버스 상관관계 분석 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "유니버스 상관관계 분석 중 오류가 발생했습니다.",
+                    "ANALYSIS_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 이동 구간 상관계수 시계열 (국면 변화 차트용)
+     * - 여러 종목 쌍의 시계열과 포트폴리오 평균을 한 번에 조회 (결과는 저장하지 않음)
+     */
+    @PostMapping("/rolling")
+    public ResponseEntity<ApiResponse> getRollingCorrelation(
+            @Valid @RequestBody RollingCorrelationRequest request,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("이동 구간 상관계수 요청 - 비즈니스 세션: {}, 쌍: {}, 구간: {}", businessSessionId,
+                request.getPairs() != null ? request.getPairs().size() : 0, request.getWindow());
+
+        try {
+            RollingCorrelationResponse response = rollingCorrelationService.calculate(businessSessionId, request);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "이동 구간 상관계수 시계열을 계산했습니다.",
+                    response
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 이동 구간 상관계수 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
+        } catch (IllegalStateException e) {
+            log.warn("이동 구간 상관계수 계산 불가: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "NO_DATA"
+            ));
+        } catch (Exception e) {
+            log.error("이동 구간 상관계수 계산 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "이동 구간 상관계수 계산 중 오류가 발생했습니다.",
+                    "ANALYSIS_ERROR"
+            ));
+        }
+    }
+
     /**
      * 상관관계 분석 결과 조회
      */
@@ -123,16 +356,20 @@ public class CorrelationController {
 
     /**
      * 히트맵 데이터 생성
+     * - linkage(single, average)를 지정하면 1년 상관계수 기준 계층적 군집 순서로 정렬하고 덴드로그램 포함 (none은 요청 순서 유지)
      */
     @GetMapping("/heatmap")
     public ResponseEntity<ApiResponse> generateHeatmap(
             @RequestParam(required = false) List<String> tickers,
+            @RequestParam(defaultValue = "average") String linkage,
             HttpSession httpSession) {
 
         String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
-        log.info("히트맵 데이터 생성 요청 - 비즈니스 세션: {}", businessSessionId);
+        log.info("히트맵 데이터 생성 요청 - 비즈니스 세션: {}, 군집: {}", businessSessionId, linkage);
 
         try {
+            CorrelationClustering.Linkage clusterLinkage = CorrelationClustering.Linkage.fromCode(linkage);
+
             // 티커가 지정되지 않으면 선택된 자산 사용
             if (tickers == null || tickers.isEmpty()) {
                 // 기본적으로 분석된 종목들을 사용
@@ -147,13 +384,20 @@ public class CorrelationController {
                 }
             }
 
-            CorrelationHeatmapData heatmapData = correlationService.generateHeatmapData(businessSessionId, tickers);
+            CorrelationHeatmapData heatmapData =
+                    correlationService.generateHeatmapData(businessSessionId, tickers, clusterLinkage);
 
             return ResponseEntity.ok(ApiResponse.success(
                     "히트맵 데이터가 생성되었습니다.",
                     heatmapData
             ));
 
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 히트맵 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
         } catch (IllegalStateException e) {
             log.warn("히트맵 데이터 생성 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body(ApiResponse.error(
@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 상관관계 분석 응답 DTO
@@ -67,9 +66,9 @@ public class CorrelationAnalysisResponse {
     @AllArgsConstructor
     @Builder
     public static class PeriodCorrelationMatrix {
-        private Map<String, Map<String, Double>> threeMonthMatrix;
-        private Map<String, Map<String, Double>> sixMonthMatrix;
-        private Map<String, Map<String, Double>> oneYearMatrix;
+        private CorrelationMatrix threeMonthMatrix;
+        private CorrelationMatrix sixMonthMatrix;
+        private CorrelationMatrix oneYearMatrix;
     }
 
     /**
@@ -33,6 +33,11 @@ public class CorrelationHeatmapData {
      */
     private ColorScale colorScale;
 
+    /**
+     * 군집 정렬 덴드로그램 (군집 정렬 미적용 시 null)
+     */
+    private Dendrogram dendrogram;
+
     /**
      * 기간별 히트맵 데이터
      */
@@ -64,6 +69,35 @@ public class CorrelationHeatmapData {
         private Double highThreshold = 0.7;      // 높은 상관관계 임계값
     }
 
+    /**
+     * 계층적 군집 덴드로그램
+     * - 노드 번호: 0..n-1은 labels 인덱스(정렬된 순서), n+k는 k번째 병합으로 생긴 군집
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Dendrogram {
+        private String linkage; // "single", "average"
+        private String period; // 군집화 기준 기간 ("3M", "6M", "1Y")
+        private List<DendrogramMerge> merges; // 거리 오름차순
+    }
+
+    /**
+     * 덴드로그램 병합 단계
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DendrogramMerge {
+        private Integer clusterId; // 병합으로 생긴 군집 번호 (n+k)
+        private Integer left; // 병합된 노드 번호
+        private Integer right; // 병합된 노드 번호
+        private Double distance; // 병합 거리 (1 - 상관계수)
+        private Integer size; // 군집 종목 수
+    }
+
     /**
      * 히트맵 셀 정보 (툴팁용)
      */
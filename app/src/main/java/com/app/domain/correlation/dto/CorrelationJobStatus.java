@@ -0,0 +1,81 @@
+package com.app.domain.correlation.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 상관관계 분석 작업 상태 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CorrelationJobStatus {
+
+    /**
+     * 작업 ID
+     */
+    private String jobId;
+
+    /**
+     * 작업 상태
+     */
+    private JobState state;
+
+    /**
+     * 전체 종목 쌍 수 (계산 시작 전에는 0)
+     */
+    private Integer totalPairs;
+
+    /**
+     * 계산 완료된 종목 쌍 수
+     */
+    private Integer completedPairs;
+
+    /**
+     * 진행률 (0 ~ 100)
+     */
+    private Double progressPercent;
+
+    /**
+     * 경과 시간 (ms)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 예상 남은 시간 (ms, 추정 불가 시 null)
+     */
+    private Long etaMillis;
+
+    /**
+     * 작업 제출 시각
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * 실패 사유 (FAILED 상태일 때)
+     */
+    private String errorMessage;
+
+    /**
+     * 분석 결과 (COMPLETED 상태일 때)
+     */
+    private CorrelationAnalysisResponse result;
+
+    /**
+     * 작업 상태 열거형
+     */
+    public enum JobState {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+
+}//class
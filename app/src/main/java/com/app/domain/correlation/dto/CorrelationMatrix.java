@@ -0,0 +1,186 @@
+package com.app.domain.correlation.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.*;
+
+/**
+ * 대칭 상관계수 매트릭스 (primitive double 기반)
+ * - ticker → 인덱스 테이블 + 상삼각(대각 포함) packed double[] 저장
+ * - 값이 없는 셀은 Double.NaN
+ * - subMatrix()는 데이터 복사 없이 원본 배열을 공유하는 뷰를 반환
+ * - JSON 직렬화 형태는 기존 Map&lt;String, Map&lt;String, Double&gt;&gt;과 동일 (NaN 셀은 생략)
+ */
+public final class CorrelationMatrix {
+
+    private final List<String> tickers;
+    private final Map<String, Integer> tickerIndex;
+
+    /**
+     * 원본 매트릭스의 상삼각 packed 배열 (뷰끼리 공유)
+     */
+    private final double[] packed;
+
+    /**
+     * 원본 매트릭스 크기
+     */
+    private final int baseSize;
+
+    /**
+     * 이 매트릭스의 인덱스 → 원본 매트릭스 인덱스
+     */
+    private final int[] baseIndex;
+
+    private CorrelationMatrix(List<String> tickers, double[] packed, int baseSize, int[] baseIndex) {
+        this.tickers = Collections.unmodifiableList(tickers);
+        this.packed = packed;
+        this.baseSize = baseSize;
+        this.baseIndex = baseIndex;
+        this.tickerIndex = new HashMap<>(tickers.size() * 2);
+        for (int i = 0; i < tickers.size(); i++) {
+            tickerIndex.put(tickers.get(i), i);
+        }
+    }
+
+    /**
+     * 새 매트릭스 생성 (대각 1.0, 나머지 셀은 fill 값)
+     * @param tickers 종목 목록 (중복 제거됨)
+     * @param fill 초기값 (값 없음으로 두려면 Double.NaN)
+     */
+    public static CorrelationMatrix of(Collection<String> tickers, double fill) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(tickers));
+        int n = distinct.size();
+        double[] packed = new double[n * (n + 1) / 2];
+        Arrays.fill(packed, fill);
+
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) identity[i] = i;
+
+        CorrelationMatrix matrix = new CorrelationMatrix(distinct, packed, n, identity);
+        for (int i = 0; i < n; i++) {
+            matrix.set(i, i, 1.0);
+        }
+        return matrix;
+    }
+
+    /**
+     * JSON(Map 형태)으로부터 생성
+     */
+    @JsonCreator
+    public static CorrelationMatrix fromMap(Map<String, Map<String, Double>> rows) {
+        CorrelationMatrix matrix = of(rows.keySet(), Double.NaN);
+        rows.forEach((ticker1, row) -> {
+            if (row == null) return;
+            row.forEach((ticker2, value) -> {
+                if (value != null) matrix.set(ticker1, ticker2, value);
+            });
+        });
+        return matrix;
+    }
+
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    public int size() {
+        return tickers.size();
+    }
+
+    /**
+     * 종목 인덱스 조회 (없으면 -1)
+     */
+    public int indexOf(String ticker) {
+        Integer index = tickerIndex.get(ticker);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 인덱스 기반 조회 (값이 없으면 NaN)
+     */
+    public double get(int i, int j) {
+        return packed[offset(baseIndex[i], baseIndex[j])];
+    }
+
+    /**
+     * 티커 기반 조회 (종목이 없거나 값이 없으면 null)
+     */
+    public Double get(String ticker1, String ticker2) {
+        int i = indexOf(ticker1);
+        int j = indexOf(ticker2);
+        if (i < 0 || j < 0) return null;
+
+        double value = get(i, j);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * 값 존재 여부
+     */
+    public boolean has(int i, int j) {
+        return !Double.isNaN(get(i, j));
+    }
+
+    /**
+     * 인덱스 기반 설정 (대칭 셀에 동시 반영)
+     */
+    public void set(int i, int j, double value) {
+        packed[offset(baseIndex[i], baseIndex[j])] = value;
+    }
+
+    /**
+     * 티커 기반 설정 (매트릭스에 없는 종목이면 무시)
+     */
+    public void set(String ticker1, String ticker2, double value) {
+        int i = indexOf(ticker1);
+        int j = indexOf(ticker2);
+        if (i >= 0 && j >= 0) set(i, j, value);
+    }
+
+    /**
+     * 일부 종목만 포함하는 부분 매트릭스 뷰 (데이터 공유, 매트릭스에 없는 종목은 제외)
+     */
+    public CorrelationMatrix subMatrix(List<String> selectedTickers) {
+        List<String> subTickers = new ArrayList<>();
+        int[] subIndex = new int[selectedTickers.size()];
+        for (String ticker : new LinkedHashSet<>(selectedTickers)) {
+            int i = indexOf(ticker);
+            if (i < 0) continue;
+            subIndex[subTickers.size()] = baseIndex[i];
+            subTickers.add(ticker);
+        }
+        return new CorrelationMatrix(subTickers, packed, baseSize, Arrays.copyOf(subIndex, subTickers.size()));
+    }
+
+    /**
+     * JSON 직렬화용 Map 변환 (종목 순서 유지, 값이 없는 셀은 생략)
+     */
+    @JsonValue
+    public Map<String, Map<String, Double>> toMap() {
+        int n = size();
+        Map<String, Map<String, Double>> rows = new LinkedHashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            Map<String, Double> row = new LinkedHashMap<>(n * 2);
+            for (int j = 0; j < n; j++) {
+                double value = get(i, j);
+                if (!Double.isNaN(value)) row.put(tickers.get(j), value);
+            }
+            rows.put(tickers.get(i), row);
+        }
+        return rows;
+    }
+
+    /**
+     * 상삼각 packed 배열 오프셋 (i, j 순서 무관)
+     */
+    private int offset(int i, int j) {
+        if (i > j) {
+            int tmp = i;
+            i = j;
+            j = tmp;
+        }
+        return i * baseSize - i * (i - 1) / 2 + (j - i);
+    }
+
+
+}//class
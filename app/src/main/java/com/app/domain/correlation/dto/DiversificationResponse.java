@@ -7,7 +7,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 분산 최적화 결과 응답 DTO
@@ -56,7 +55,7 @@ public class DiversificationResponse {
     /**
      * 상관관계 매트릭스 (선택된 종목 기준)
      */
-    private Map<String, Map<String, Double>> correlationMatrix;
+    private CorrelationMatrix correlationMatrix;
 
     /**
      * 분산 최적화 요약
@@ -0,0 +1,79 @@
+package com.app.domain.correlation.dto;
+
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이동 구간 상관계수 시계열 요청 DTO
+ * - pairs: 종목 쌍별 시계열 (여러 쌍을 한 번에 조회)
+ * - 포트폴리오 평균: tickers(비어있으면 세션의 선택 자산) 전체 쌍의 날짜별 평균 상관계수
+ * - pairs가 비어있으면 포트폴리오 평균만 계산
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollingCorrelationRequest {
+
+    /**
+     * 시계열을 조회할 종목 쌍 목록 (최대 쌍 수는 correlation.rolling.max-pairs)
+     */
+    @Valid
+    private List<TickerPair> pairs;
+
+    /**
+     * 포트폴리오 평균 계산 대상 종목 (비어있으면 세션의 선택 자산)
+     */
+    private List<String> tickers;
+
+    /**
+     * 포트폴리오 평균 포함 여부 (pairs가 비어있으면 항상 포함)
+     */
+    @Builder.Default
+    private Boolean includeAverage = false;
+
+    /**
+     * 구간 길이 (거래일 수, 미지정 시 correlation.rolling.default-window)
+     */
+    @Min(value = 5, message = "구간 길이는 5일 이상이어야 합니다.")
+    @Max(value = 756, message = "구간 길이는 756일 이하여야 합니다.")
+    private Integer window;
+
+    /**
+     * 조회 시작일 (미지정 시 전체 주가 이력의 시작일)
+     */
+    private LocalDate startDate;
+
+    /**
+     * 조회 종료일 (미지정 시 오늘)
+     */
+    private LocalDate endDate;
+
+    /**
+     * 종목 쌍
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TickerPair {
+
+        @NotBlank(message = "종목 쌍의 첫 번째 티커는 필수입니다.")
+        private String ticker1;
+
+        @NotBlank(message = "종목 쌍의 두 번째 티커는 필수입니다.")
+        private String ticker2;
+    }
+
+
+}//class
@@ -0,0 +1,80 @@
+package com.app.domain.correlation.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이동 구간 상관계수 시계열 응답 DTO
+ * - 모든 시계열은 dates와 같은 길이/순서 (계산 불가 일자는 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollingCorrelationResponse {
+
+    private String sessionId;
+
+    /**
+     * 적용된 구간 길이 (거래일 수)
+     */
+    private Integer window;
+
+    /**
+     * 구간 내 최소 공통 관측일 수
+     */
+    private Integer minObservations;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    /**
+     * 구간 종료일 목록 (오름차순, 첫 구간이 채워진 날부터)
+     */
+    private List<LocalDate> dates;
+
+    /**
+     * 종목 쌍별 시계열
+     */
+    private List<PairSeries> pairs;
+
+    /**
+     * 포트폴리오 평균 계산 대상 종목
+     */
+    private List<String> averageTickers;
+
+    /**
+     * 날짜별 포트폴리오 평균 상관계수 (계산 가능한 쌍들의 평균)
+     */
+    private List<Double> portfolioAverage;
+
+    /**
+     * 계산 소요 시간 (ms, 시계열 로딩 제외)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 종목 쌍별 이동 구간 상관계수 시계열
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PairSeries {
+
+        private String ticker1;
+
+        private String ticker2;
+
+        private List<Double> correlations;
+    }
+
+
+}//class
@@ -0,0 +1,65 @@
+package com.app.domain.correlation.dto;
+
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대규모 종목군(유니버스) 상관관계 분석 요청 DTO
+ * - tickers 또는 industry 중 하나로 분석 대상 지정 (둘 다 있으면 tickers 우선)
+ * - 스크리닝 상위 종목, 업종 전체 등 수백~수천 종목 분석용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UniverseCorrelationRequest {
+
+    /**
+     * 분석할 종목 티커 목록 (최대 종목 수는 correlation.universe.max-tickers)
+     */
+    private List<String> tickers;
+
+    /**
+     * 업종명 (tickers가 비어있을 때 해당 업종 전체 종목 분석)
+     */
+    private String industry;
+
+    /**
+     * 분석 기간 (ALL은 1Y 기준)
+     */
+    @NotNull(message = "분석 기간은 필수입니다.")
+    @Builder.Default
+    private CorrelationAnalysisRequest.AnalysisPeriod period = CorrelationAnalysisRequest.AnalysisPeriod.ONE_YEAR;
+
+    /**
+     * 결과에 포함할 |상관계수| 임계값 (미지정 시 correlation.universe.threshold)
+     */
+    @DecimalMin(value = "0.0", message = "임계값은 0 이상이어야 합니다.")
+    @DecimalMax(value = "1.0", message = "임계값은 1 이하여야 합니다.")
+    private Double threshold;
+
+    /**
+     * 응답에 포함할 최대 종목 쌍 수 (|상관계수| 내림차순, 미지정 시 correlation.universe.max-pairs)
+     */
+    @Min(value = 1, message = "최대 종목 쌍 수는 1 이상이어야 합니다.")
+    @Max(value = 100000, message = "최대 종목 쌍 수는 100000 이하여야 합니다.")
+    private Integer maxPairs;
+
+    /**
+     * 계층적 군집 방식 (single, average / 미지정 또는 none이면 군집 정렬 안 함)
+     * - 지정 시 유효 종목 전체 매트릭스를 보관하므로 종목 수의 제곱에 비례하는 메모리 사용
+     */
+    private String linkage;
+
+
+}//class
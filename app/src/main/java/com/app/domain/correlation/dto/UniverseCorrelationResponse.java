@@ -0,0 +1,95 @@
+package com.app.domain.correlation.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대규모 종목군(유니버스) 상관관계 분석 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UniverseCorrelationResponse {
+
+    /**
+     * 분석 기간 코드 (3M, 6M, 1Y)
+     */
+    private String period;
+
+    /**
+     * 분석 기준일
+     */
+    private LocalDate analysisDate;
+
+    /**
+     * 요청 종목 수
+     */
+    private Integer requestedTickerCount;
+
+    /**
+     * 수익률 데이터가 충분하여 실제 계산에 포함된 종목 수
+     */
+    private Integer analyzedTickerCount;
+
+    /**
+     * 분석 구간 거래일 수
+     */
+    private Integer observationCount;
+
+    /**
+     * 계산된 전체 종목 쌍 수
+     */
+    private Long evaluatedPairCount;
+
+    /**
+     * |상관계수| 임계값
+     */
+    private Double threshold;
+
+    /**
+     * 임계값 이상 종목 쌍 수 (응답 상한 적용 전)
+     */
+    private Integer matchedPairCount;
+
+    /**
+     * 임계값 이상 종목 쌍 (|상관계수| 내림차순, 최대 maxPairs개)
+     */
+    private List<CorrelatedPair> pairs;
+
+    /**
+     * 계층적 군집 순서로 정렬한 유효 종목 목록 (군집 정렬 미요청 시 null)
+     */
+    private List<String> clusterOrder;
+
+    /**
+     * 군집 덴드로그램 (노드 번호는 clusterOrder 위치 기준, 군집 정렬 미요청 시 null)
+     */
+    private CorrelationHeatmapData.Dendrogram dendrogram;
+
+    /**
+     * 계산 소요 시간 (ms)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 종목 쌍 상관계수
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CorrelatedPair {
+        private String ticker1;
+        private String ticker2;
+        private Double correlation;
+    }
+
+
+}//class
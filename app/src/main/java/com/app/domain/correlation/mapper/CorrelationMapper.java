@@ -84,6 +84,22 @@ public interface CorrelationMapper {
      */
     void deleteAnalysisResults(@Param("sessionId") String sessionId);
 
+    /**
+     * 특정 종목이 포함된 상관관계 분석 결과 삭제 (선택 해제 시 행/열 제거)
+     * @return 삭제된 레코드 수
+     */
+    int deleteAnalysisResultsByTicker(@Param("sessionId") String sessionId, @Param("ticker") String ticker);
+
+    /**
+     * 세션의 분석 결과에 포함된 종목 목록
+     */
+    List<String> findAnalyzedTickers(@Param("sessionId") String sessionId);
+
+    /**
+     * 세션의 분석 결과 중 가장 오래된 분석일 (결과가 없으면 null)
+     */
+    LocalDate findOldestAnalysisDate(@Param("sessionId") String sessionId);
+
     /**
      * 특정 상관관계 분석 결과 삭제
      */
@@ -211,5 +227,12 @@ public interface CorrelationMapper {
      */
     String findStockNameByTicker(@Param("ticker") String ticker);
 
+    /**
+     * 업종별 티커 목록 조회 (유니버스 분석용)
+     * @param industry 업종명
+     * @return 티커 목록
+     */
+    List<String> findTickersByIndustry(@Param("industry") String industry);
+
 
 }//interface
@@ -0,0 +1,96 @@
+package com.app.domain.correlation.service;
+
+import com.app.app.global.util.LruCache;
+import com.app.domain.price.event.StockReturnsRefreshedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 세션 간 공유되는 상관계수 캐시
+ * - 키: (ticker1, ticker2, 기간, 기준일) — 종목 순서와 무관하게 동일 키로 정규화
+ * - 같은 날 같은 종목 쌍을 분석하는 세션들은 계산 결과를 재사용
+ * - 계산 불가(null) 결과도 NaN으로 저장하여 반복 계산을 방지
+ */
+@Component
+public class CorrelationCache {
+
+    private final LruCache<Key, Double> cache;
+
+    public CorrelationCache(@Value("${correlation.cache.max-size:20000}") int maxSize,
+                            @Value("${correlation.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.cache = new LruCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 기간별 상관계수 일괄 조회
+     * @param windows 조회할 기간 코드 (null 원소는 조회하지 않음)
+     * @return windows와 같은 순서의 상관계수 배열 (하나라도 미스이면 null)
+     */
+    public Double[] getAll(String ticker1, String ticker2, LocalDate endDate, String[] windows) {
+        Double[] values = new Double[windows.length];
+        for (int k = 0; k < windows.length; k++) {
+            if (windows[k] == null) continue;
+
+            Double cached = cache.get(Key.of(ticker1, ticker2, windows[k], endDate));
+            if (cached == null) return null;
+            values[k] = Double.isNaN(cached) ? null : cached;
+        }
+        return values;
+    }
+
+    /**
+     * 기간별 상관계수 일괄 저장
+     * @param windows 저장할 기간 코드 (null 원소는 저장하지 않음)
+     * @param values windows와 같은 순서의 상관계수 (null = 계산 불가)
+     */
+    public void putAll(String ticker1, String ticker2, LocalDate endDate, String[] windows, Double[] values) {
+        for (int k = 0; k < windows.length; k++) {
+            if (windows[k] == null) continue;
+
+            cache.put(Key.of(ticker1, ticker2, windows[k], endDate),
+                    values[k] != null ? values[k] : Double.NaN);
+        }
+    }
+
+    /**
+     * 전체 캐시 무효화 (주가 데이터 변경 시)
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * 수익률 데이터가 새로 적재되면 캐시 무효화 (적재 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReturnsRefreshed(StockReturnsRefreshedEvent event) {
+        invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * 캐시 키 (ticker1 < ticker2 로 정규화)
+     */
+    private record Key(String ticker1, String ticker2, String window, LocalDate endDate) {
+
+        static Key of(String ticker1, String ticker2, String window, LocalDate endDate) {
+            return ticker1.compareTo(ticker2) <= 0
+                    ? new Key(ticker1, ticker2, window, endDate)
+                    : new Key(ticker2, ticker1, window, endDate);
+        }
+    }
+
+
+}//class
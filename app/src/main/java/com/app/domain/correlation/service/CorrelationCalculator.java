@@ -0,0 +1,161 @@
+package com.app.domain.correlation.service;
+
+import java.util.Arrays;
+
+/**
+ * 피어슨 상관계수 계산기 (JVM 내 계산)
+ * - 정렬된 double[] 수익률 시계열을 입력으로 받음
+ * - 두 시계열 중 하나라도 NaN인 날짜는 제외 (SQL의 price_date INNER JOIN과 동일)
+ */
+public final class CorrelationCalculator {
+
+    /**
+     * 저장 정밀도 (correlation_analysis.correlation_* DECIMAL(8,6))
+     */
+    private static final double SCALE = 1_000_000.0;
+
+    /**
+     * 분산을 0으로 볼 상대 크기 (n·Σx² 대비)
+     * - n·Σx² - (Σx)²는 상수 시계열에서도 상쇄 오차로 0보다 조금 클 수 있음 (SQL의 STDDEV > 0 조건과 맞춤)
+     */
+    private static final double ZERO_VARIANCE_RATIO = 1e-10;
+
+    private CorrelationCalculator() {
+    }
+
+    /**
+     * 같은 종료 시점을 공유하는 여러 구간([starts[k], to))의 상관계수를 한 번의 순회로 계산
+     * - 최근 날짜부터 과거 방향으로 누적합(Σx, Σy, Σxy, Σx², Σy²)을 쌓으며
+     *   각 구간의 시작 인덱스에 도달할 때 상관계수를 읽어냄 (3M ⊂ 6M ⊂ 1Y)
+     * @param starts 구간별 시작 인덱스 (순서 무관)
+     * @return starts와 같은 순서의 상관계수 배열 (계산 불가 구간은 null)
+     */
+    public static Double[] pearsonNested(double[] x, double[] y, int[] starts, int to) {
+        Double[] result = new Double[starts.length];
+
+        // 시작 인덱스 내림차순(짧은 구간 먼저) 처리 순서
+        Integer[] order = new Integer[starts.length];
+        for (int k = 0; k < starts.length; k++) order[k] = k;
+        Arrays.sort(order, (a, b) -> Integer.compare(starts[b], starts[a]));
+
+        int n = 0;
+        double sumX = 0.0, sumY = 0.0, sumXY = 0.0, sumXX = 0.0, sumYY = 0.0;
+        int t = to - 1;
+
+        for (int k : order) {
+            int start = Math.max(starts[k], 0);
+            for (; t >= start; t--) {
+                double xv = x[t];
+                double yv = y[t];
+                if (Double.isNaN(xv) || Double.isNaN(yv)) continue;
+
+                n++;
+                sumX += xv;
+                sumY += yv;
+                sumXY += xv * yv;
+                sumXX += xv * xv;
+                sumYY += yv * yv;
+            }
+            result[k] = fromSums(n, sumX, sumY, sumXY, sumXX, sumYY);
+        }
+
+        return result;
+    }
+
+    /**
+     * 이동 구간 상관계수 시계열 계산 (O(T))
+     * - 각 t에 대해 [t - window + 1, t] 구간의 상관계수를 out[t]에 기록
+     * - 구간을 한 칸 옮길 때 들어오는 날의 값은 더하고 나가는 날의 값은 빼서 누적합을 갱신
+     * - 뺄셈 누적 오차를 막기 위해 window마다 현재 구간의 누적합을 새로 계산 (전체 비용은 여전히 O(T))
+     * @param window 구간 길이 (거래일 수)
+     * @param minObservations 구간 내 최소 공통 관측일 수 (미달 시 NaN)
+     * @param out 결과 배열 (길이는 시계열 길이, 첫 window - 1개와 계산 불가 구간은 NaN)
+     */
+    public static void rollingPearson(double[] x, double[] y, int window, int minObservations, double[] out) {
+        int length = out.length;
+        Arrays.fill(out, Double.NaN);
+        if (window < 2 || length < window) return;
+
+        int n = 0;
+        double sumX = 0.0, sumY = 0.0, sumXY = 0.0, sumXX = 0.0, sumYY = 0.0;
+
+        for (int t = 0; t < length; t++) {
+            int start = t - window + 1;
+
+            if (start > 0 && start % window == 0) {
+                // 재동기화: 현재 구간 [start, t]의 누적합을 처음부터 계산
+                n = 0;
+                sumX = sumY = sumXY = sumXX = sumYY = 0.0;
+                for (int k = start; k <= t; k++) {
+                    double xv = x[k];
+                    double yv = y[k];
+                    if (Double.isNaN(xv) || Double.isNaN(yv)) continue;
+
+                    n++;
+                    sumX += xv;
+                    sumY += yv;
+                    sumXY += xv * yv;
+                    sumXX += xv * xv;
+                    sumYY += yv * yv;
+                }
+            } else {
+                double xv = x[t];
+                double yv = y[t];
+                if (!Double.isNaN(xv) && !Double.isNaN(yv)) {
+                    n++;
+                    sumX += xv;
+                    sumY += yv;
+                    sumXY += xv * yv;
+                    sumXX += xv * xv;
+                    sumYY += yv * yv;
+                }
+
+                int leaving = start - 1;
+                if (leaving >= 0) {
+                    double xo = x[leaving];
+                    double yo = y[leaving];
+                    if (!Double.isNaN(xo) && !Double.isNaN(yo)) {
+                        n--;
+                        sumX -= xo;
+                        sumY -= yo;
+                        sumXY -= xo * yo;
+                        sumXX -= xo * xo;
+                        sumYY -= yo * yo;
+                    }
+                }
+            }
+
+            if (start >= 0 && n >= minObservations) {
+                out[t] = correlationFromSums(n, sumX, sumY, sumXY, sumXX, sumYY);
+            }
+        }
+    }
+
+    /**
+     * 누적합으로부터 피어슨 상관계수 계산
+     */
+    static Double fromSums(int n, double sumX, double sumY, double sumXY, double sumXX, double sumYY) {
+        double correlation = correlationFromSums(n, sumX, sumY, sumXY, sumXX, sumYY);
+        return Double.isNaN(correlation) ? null : correlation;
+    }
+
+    /**
+     * 누적합으로부터 피어슨 상관계수 계산 (계산 불가 시 NaN, 박싱 없음)
+     */
+    private static double correlationFromSums(int n, double sumX, double sumY, double sumXY, double sumXX, double sumYY) {
+        if (n < 2) return Double.NaN;
+
+        double covariance = n * sumXY - sumX * sumY;
+        double varianceX = n * sumXX - sumX * sumX;
+        double varianceY = n * sumYY - sumY * sumY;
+        if (varianceX <= n * sumXX * ZERO_VARIANCE_RATIO || varianceY <= n * sumYY * ZERO_VARIANCE_RATIO) {
+            return Double.NaN;
+        }
+
+        double correlation = covariance / Math.sqrt(varianceX * varianceY);
+        correlation = Math.max(-1.0, Math.min(1.0, correlation));
+        return Math.round(correlation * SCALE) / SCALE;
+    }
+
+
+}//class
@@ -0,0 +1,280 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationMatrix;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 상관계수 매트릭스 계층적 군집화 (히트맵 축 정렬용)
+ *
+ * 알고리즘:
+ * 1. 거리 d(i, j) = 1 - ρ(i, j) (값이 없는 쌍은 ρ = 0)를 상삼각 packed 배열로 구성
+ * 2. 최근접 이웃 체인(NN-chain)으로 상호 최근접 쌍을 차례로 병합, Lance-Williams 식으로 거리 갱신
+ *    - single: min(d(k, x), d(k, y)), average: 크기 가중 평균 → 둘 다 reducible이므로 NN-chain 결과가 표준 병합 순서와 동일
+ *    - 병합마다 활성 군집을 한 번 훑으므로 전체 O(n²) 시간, O(n²) 메모리
+ * 3. 병합을 거리 오름차순으로 정렬한 뒤 union-find로 군집 번호 부여 (leaf 0..n-1, k번째 병합 n+k)
+ * 4. 덴드로그램을 깊이 우선 순회한 leaf 순서가 히트맵 축 순서
+ */
+public final class CorrelationClustering {
+
+    private CorrelationClustering() {
+    }
+
+    /**
+     * 군집 간 거리 정의
+     */
+    public enum Linkage {
+        SINGLE("single"),
+        AVERAGE("average");
+
+        private final String code;
+
+        Linkage(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        /**
+         * 코드로 조회 ("none"이나 빈 값은 null = 군집 정렬 안 함)
+         */
+        public static Linkage fromCode(String code) {
+            if (code == null || code.isBlank() || "none".equalsIgnoreCase(code)) return null;
+
+            String normalized = code.trim().toLowerCase(Locale.ROOT);
+            for (Linkage linkage : values()) {
+                if (linkage.code.equals(normalized)) return linkage;
+            }
+            throw new IllegalArgumentException("지원하지 않는 군집 방식입니다: " + code + " (none, single, average)");
+        }
+    }
+
+    /**
+     * 상관계수 매트릭스 군집화
+     * @param matrix 상관계수 매트릭스 (인덱스는 matrix.getTickers() 순서)
+     * @param linkage 군집 간 거리 정의
+     */
+    public static Result cluster(CorrelationMatrix matrix, Linkage linkage) {
+        int n = matrix.size();
+        double[] distance = new double[Math.max(0, n * (n - 1) / 2)];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double rho = matrix.get(i, j);
+                distance[condensed(n, i, j)] = 1.0 - (Double.isNaN(rho) ? 0.0 : rho);
+            }
+        }
+        return cluster(n, distance, linkage);
+    }
+
+    /**
+     * 상삼각 packed 거리 배열 군집화 (distance는 갱신되며 덮어씀)
+     */
+    static Result cluster(int n, double[] distance, Linkage linkage) {
+        int merges = Math.max(0, n - 1);
+        int[] mergeX = new int[merges];
+        int[] mergeY = new int[merges];
+        double[] height = new double[merges];
+
+        // 1. NN-chain (군집은 대표 leaf 인덱스로 식별, 병합 후 y가 대표)
+        int[] size = new int[n];
+        Arrays.fill(size, 1);
+        int[] chain = new int[n];
+        int chainLength = 0;
+
+        for (int k = 0; k < merges; k++) {
+            if (chainLength == 0) {
+                for (int i = 0; i < n; i++) {
+                    if (size[i] > 0) {
+                        chain[chainLength++] = i;
+                        break;
+                    }
+                }
+            }
+
+            int x;
+            int y;
+            double best;
+            while (true) {
+                x = chain[chainLength - 1];
+                if (chainLength > 1) {
+                    y = chain[chainLength - 2];
+                    best = distance[condensed(n, x, y)];
+                } else {
+                    y = -1;
+                    best = Double.POSITIVE_INFINITY;
+                }
+
+                // 직전 체인 원소를 우선하여 동률에서도 체인이 끝나도록 함
+                for (int i = 0; i < n; i++) {
+                    if (size[i] == 0 || i == x) continue;
+
+                    double d = distance[condensed(n, x, i)];
+                    if (d < best) {
+                        best = d;
+                        y = i;
+                    }
+                }
+
+                if (chainLength > 1 && y == chain[chainLength - 2]) break;
+                chain[chainLength++] = y;
+            }
+            chainLength -= 2;
+
+            if (x > y) {
+                int swap = x;
+                x = y;
+                y = swap;
+            }
+            mergeX[k] = x;
+            mergeY[k] = y;
+            height[k] = best;
+
+            // 2. Lance-Williams 거리 갱신 (x ∪ y → y 위치)
+            int sizeX = size[x];
+            int sizeY = size[y];
+            for (int i = 0; i < n; i++) {
+                if (size[i] == 0 || i == x || i == y) continue;
+
+                int ix = condensed(n, i, x);
+                int iy = condensed(n, i, y);
+                distance[iy] = linkage == Linkage.SINGLE
+                        ? Math.min(distance[ix], distance[iy])
+                        : (sizeX * distance[ix] + sizeY * distance[iy]) / (sizeX + sizeY);
+            }
+            size[x] = 0;
+            size[y] = sizeX + sizeY;
+        }
+
+        // 3. 거리 오름차순 정렬 후 union-find로 군집 번호 부여
+        Integer[] byHeight = new Integer[merges];
+        for (int k = 0; k < merges; k++) byHeight[k] = k;
+        Arrays.sort(byHeight, (a, b) -> Double.compare(height[a], height[b]));
+
+        int[] parent = new int[2 * n];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+
+        int[] left = new int[merges];
+        int[] right = new int[merges];
+        double[] sortedHeight = new double[merges];
+        int[] clusterSize = new int[merges];
+        for (int k = 0; k < merges; k++) {
+            int m = byHeight[k];
+            int a = find(parent, mergeX[m]);
+            int b = find(parent, mergeY[m]);
+            left[k] = Math.min(a, b);
+            right[k] = Math.max(a, b);
+            sortedHeight[k] = height[m];
+            clusterSize[k] = sizeOf(left[k], n, clusterSize) + sizeOf(right[k], n, clusterSize);
+            parent[a] = n + k;
+            parent[b] = n + k;
+        }
+
+        // 4. 루트에서 깊이 우선 순회 (왼쪽 먼저)
+        int[] order = new int[n];
+        if (n == 1) {
+            order[0] = 0;
+        } else if (n > 1) {
+            int[] stack = new int[n];
+            int top = 0;
+            int position = 0;
+            stack[top++] = n + merges - 1;
+            while (top > 0) {
+                int node = stack[--top];
+                if (node < n) {
+                    order[position++] = node;
+                } else {
+                    stack[top++] = right[node - n];
+                    stack[top++] = left[node - n];
+                }
+            }
+        }
+
+        return new Result(order, left, right, sortedHeight, clusterSize);
+    }
+
+    private static int sizeOf(int node, int n, int[] clusterSize) {
+        return node < n ? 1 : clusterSize[node - n];
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * 상삼각(대각 제외) packed 배열 오프셋 (i, j 순서 무관, i != j)
+     */
+    private static int condensed(int n, int i, int j) {
+        if (i > j) {
+            int tmp = i;
+            i = j;
+            j = tmp;
+        }
+        return i * n - i * (i + 1) / 2 + (j - i - 1);
+    }
+
+    /**
+     * 군집화 결과
+     * - leaf 번호는 입력 매트릭스 인덱스, k번째 병합으로 생긴 군집 번호는 n + k
+     */
+    public static final class Result {
+
+        private final int[] order;
+        private final int[] left;
+        private final int[] right;
+        private final double[] height;
+        private final int[] size;
+
+        Result(int[] order, int[] left, int[] right, double[] height, int[] size) {
+            this.order = order;
+            this.left = left;
+            this.right = right;
+            this.height = height;
+            this.size = size;
+        }
+
+        /**
+         * 덴드로그램 leaf 순서 (표시 위치 → 입력 매트릭스 인덱스)
+         */
+        public int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * 병합 수 (n - 1)
+         */
+        public int mergeCount() {
+            return height.length;
+        }
+
+        public int left(int merge) {
+            return left[merge];
+        }
+
+        public int right(int merge) {
+            return right[merge];
+        }
+
+        /**
+         * 병합 거리 (1 - ρ 기준, 오름차순)
+         */
+        public double height(int merge) {
+            return height[merge];
+        }
+
+        /**
+         * 병합된 군집의 종목 수
+         */
+        public int size(int merge) {
+            return size[merge];
+        }
+    }
+
+
+}//class
@@ -0,0 +1,153 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationAnalysisResponse;
+import com.app.domain.correlation.dto.CorrelationJobStatus;
+import com.app.domain.correlation.dto.CorrelationJobStatus.JobState;
+import com.app.domain.correlation.entity.CorrelationAnalysis;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 상관관계 분석 작업 (진행 상황 수신 + 상태 보관)
+ * - 진행 상황은 계산 스레드들이 갱신하고 조회 요청 스레드가 읽으므로 volatile/atomic 필드 사용
+ * - 붙은 리스너(SSE 스트리밍 등)가 있으면 진행 상황과 종료를 그대로 전달
+ */
+public class CorrelationJob implements CorrelationProgressListener {
+
+    private final String jobId;
+    private final String sessionId;
+    private final String coalesceKey;
+    private final CorrelationProgressListener listener;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicInteger completedPairs = new AtomicInteger();
+    private volatile int totalPairs;
+    private volatile JobState state = JobState.PENDING;
+    private volatile long startedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile long finishedAtMillis;
+    private volatile CorrelationAnalysisResponse result;
+    private volatile String errorMessage;
+
+    CorrelationJob(String jobId, String sessionId, String coalesceKey) {
+        this(jobId, sessionId, coalesceKey, CorrelationProgressListener.NONE);
+    }
+
+    /**
+     * @param coalesceKey 병합 키 (병합하지 않는 작업은 null)
+     * @param listener 진행 상황/종료를 함께 수신할 리스너
+     */
+    CorrelationJob(String jobId, String sessionId, String coalesceKey, CorrelationProgressListener listener) {
+        this.jobId = jobId;
+        this.sessionId = sessionId;
+        this.coalesceKey = coalesceKey;
+        this.listener = listener;
+    }
+
+    @Override
+    public void onStart(int totalPairs) {
+        this.totalPairs = totalPairs;
+        listener.onStart(totalPairs);
+    }
+
+    @Override
+    public void onPairsCompleted(int count) {
+        completedPairs.addAndGet(count);
+        listener.onPairsCompleted(count);
+    }
+
+    @Override
+    public void onPairComputed(CorrelationAnalysis correlation) {
+        listener.onPairComputed(correlation);
+    }
+
+    void markRunning() {
+        startedAtNanos = System.nanoTime();
+        state = JobState.RUNNING;
+    }
+
+    void markCompleted(CorrelationAnalysisResponse result) {
+        this.result = result;
+        finish(JobState.COMPLETED);
+        listener.onCompleted(result);
+    }
+
+    void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        finish(JobState.FAILED);
+        listener.onFailed(errorMessage);
+    }
+
+    private void finish(JobState finalState) {
+        finishedAtNanos = System.nanoTime();
+        finishedAtMillis = System.currentTimeMillis();
+        state = finalState;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * 병합 키 (병합하지 않는 작업은 null)
+     */
+    String getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    public boolean isFinished() {
+        return state == JobState.COMPLETED || state == JobState.FAILED;
+    }
+
+    /**
+     * 종료 시각 (epoch ms, 미종료 시 0)
+     */
+    long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    /**
+     * 현재 상태 스냅샷 (ETA는 지금까지의 쌍당 평균 소요 시간으로 추정)
+     */
+    public CorrelationJobStatus toStatus() {
+        JobState current = state;
+        int total = totalPairs;
+        int done = Math.min(completedPairs.get(), total);
+
+        long elapsedMillis = 0L;
+        if (current != JobState.PENDING) {
+            long end = isFinished() ? finishedAtNanos : System.nanoTime();
+            elapsedMillis = (end - startedAtNanos) / 1_000_000L;
+        }
+
+        Long etaMillis = null;
+        if (current == JobState.RUNNING && done > 0 && total > 0) {
+            etaMillis = elapsedMillis * (total - done) / done;
+        } else if (isFinished()) {
+            etaMillis = 0L;
+        }
+
+        double progress = current == JobState.COMPLETED ? 100.0
+                : total > 0 ? Math.round(done * 1000.0 / total) / 10.0 : 0.0;
+
+        return CorrelationJobStatus.builder()
+                .jobId(jobId)
+                .state(current)
+                .totalPairs(total)
+                .completedPairs(done)
+                .progressPercent(progress)
+                .elapsedMillis(elapsedMillis)
+                .etaMillis(etaMillis)
+                .submittedAt(submittedAt)
+                .errorMessage(errorMessage)
+                .result(current == JobState.COMPLETED ? result : null)
+                .build();
+    }
+
+
+}//class
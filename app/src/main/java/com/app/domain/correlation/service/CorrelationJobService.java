@@ -0,0 +1,254 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationAnalysisRequest;
+import com.app.domain.correlation.dto.CorrelationJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 상관관계 분석 작업 관리 서비스
+ * - 작업 제출 즉시 작업 ID 반환, 진행 상황/결과는 작업 ID로 조회
+ * - 같은 세션의 같은 종목 구성(순서 무관)·기간·임계값 작업이 실행 중이면 기존 작업으로 병합
+ * - 같은 세션의 작업은 한 번에 하나씩 실행 (세션 분석 결과 삭제/저장이 서로 섞이지 않도록)
+ * - 세션 대기 작업도 실행기 대기열과 함께 queue-capacity 한도에 포함 (초과 시 제출 거부)
+ * - 종료된 작업은 보관 기간이 지나면 정리
+ */
+@Service
+@Slf4j
+public class CorrelationJobService {
+
+    private final CorrelationService correlationService;
+    private final ExecutorService correlationJobExecutor;
+    private final int queueCapacity;
+    private final long retentionMillis;
+
+    /**
+     * 작업 ID → 작업
+     */
+    private final Map<String, CorrelationJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 병합 키 → 실행 중(대기 포함) 작업
+     */
+    private final Map<String, CorrelationJob> activeJobs = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 ID → 실행 중인 작업 뒤에 대기 중인 작업 (키가 있으면 해당 세션 작업이 실행 중)
+     */
+    private final Map<String, Deque<PendingJob>> sessionQueues = new HashMap<>();
+
+    /**
+     * 모든 세션 대기열의 작업 수 (sessionQueues 잠금 안에서만 갱신)
+     */
+    private int waitingJobs;
+
+    public CorrelationJobService(CorrelationService correlationService,
+                                 @Qualifier("correlationJobExecutor") ExecutorService correlationJobExecutor,
+                                 @Value("${correlation.job.queue-capacity:50}") int queueCapacity,
+                                 @Value("${correlation.job.retention-minutes:30}") long retentionMinutes) {
+        this.correlationService = correlationService;
+        this.correlationJobExecutor = correlationJobExecutor;
+        this.queueCapacity = queueCapacity;
+        this.retentionMillis = retentionMinutes * 60_000L;
+    }
+
+    /**
+     * 상관관계 분석 작업 제출
+     * @return 작업 상태 (병합된 경우 기존 작업의 상태)
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public CorrelationJobStatus submit(String sessionId, CorrelationAnalysisRequest request) {
+        purgeFinishedJobs();
+
+        String coalesceKey = coalesceKey(sessionId, request);
+        CorrelationJob[] created = new CorrelationJob[1];
+        CorrelationJob job = activeJobs.computeIfAbsent(coalesceKey, key -> {
+            created[0] = new CorrelationJob(UUID.randomUUID().toString(), sessionId, key);
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            log.info("진행 중인 상관관계 분석 작업으로 병합 - 세션: {}, 작업: {}", sessionId, job.getJobId());
+            return job.toStatus();
+        }
+
+        jobs.put(job.getJobId(), job);
+        try {
+            dispatch(new PendingJob(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            activeJobs.remove(coalesceKey, job);
+            throw e;
+        }
+
+        log.info("상관관계 분석 작업 제출 - 세션: {}, 작업: {}, 종목수: {}",
+                sessionId, job.getJobId(), request.getTickers().size());
+        return job.toStatus();
+    }
+
+    /**
+     * 진행 상황 리스너를 붙인 작업 제출 (SSE 스트리밍용)
+     * - 이미 지난 이벤트는 받을 수 없으므로 실행 중인 작업에 병합하지 않고 항상 새 작업으로 실행
+     * - 같은 세션의 다른 작업과 순차 실행, 대기열 한도는 일반 작업과 동일
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public CorrelationJobStatus submit(String sessionId, CorrelationAnalysisRequest request,
+                                       CorrelationProgressListener listener) {
+        purgeFinishedJobs();
+
+        CorrelationJob job = new CorrelationJob(UUID.randomUUID().toString(), sessionId, null, listener);
+        jobs.put(job.getJobId(), job);
+        try {
+            dispatch(new PendingJob(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            throw e;
+        }
+
+        log.info("상관관계 분석 스트리밍 작업 제출 - 세션: {}, 작업: {}, 종목수: {}",
+                sessionId, job.getJobId(), request.getTickers().size());
+        return job.toStatus();
+    }
+
+    /**
+     * 선택된 자산 상관관계 분석 작업 제출
+     */
+    public CorrelationJobStatus submitSelectedAssets(String sessionId) {
+        return submit(sessionId, correlationService.buildSelectedAssetsRequest(sessionId));
+    }
+
+    /**
+     * 작업 상태 조회 (다른 세션의 작업은 조회 불가)
+     * @return 작업 상태 (없으면 null)
+     */
+    public CorrelationJobStatus getStatus(String sessionId, String jobId) {
+        CorrelationJob job = jobs.get(jobId);
+        if (job == null || !job.getSessionId().equals(sessionId)) {
+            return null;
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * 세션의 작업이 실행 중이면 대기열에 추가, 아니면 바로 실행 제출
+     * @throws RejectedExecutionException 실행기 대기열과 세션 대기 작업 합계가 한도에 도달한 경우
+     */
+    private void dispatch(PendingJob pending) {
+        String sessionId = pending.job().getSessionId();
+        synchronized (sessionQueues) {
+            Deque<PendingJob> waiting = sessionQueues.get(sessionId);
+            if (waiting != null) {
+                if (waitingJobs + executorQueueSize() >= queueCapacity) {
+                    throw new RejectedExecutionException("작업 대기열 포화 - 세션: " + sessionId);
+                }
+                waiting.add(pending);
+                waitingJobs++;
+                return;
+            }
+            sessionQueues.put(sessionId, new ArrayDeque<>());
+        }
+
+        try {
+            execute(pending);
+        } catch (RejectedExecutionException e) {
+            startNext(sessionId);
+            throw e;
+        }
+    }
+
+    private void execute(PendingJob pending) {
+        correlationJobExecutor.execute(() -> {
+            try {
+                run(pending.job(), pending.request());
+            } finally {
+                startNext(pending.job().getSessionId());
+            }
+        });
+    }
+
+    /**
+     * 세션의 다음 대기 작업 실행 (없으면 세션 실행 상태 해제)
+     */
+    private void startNext(String sessionId) {
+        while (true) {
+            PendingJob next;
+            synchronized (sessionQueues) {
+                Deque<PendingJob> waiting = sessionQueues.get(sessionId);
+                next = waiting != null ? waiting.poll() : null;
+                if (next == null) {
+                    sessionQueues.remove(sessionId);
+                    return;
+                }
+                waitingJobs--;
+            }
+
+            try {
+                execute(next);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.warn("대기 작업 실행 거부 - 작업: {}", next.job().getJobId());
+                next.job().markFailed("대기 중인 분석 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+                releaseCoalesceKey(next.job());
+            }
+        }
+    }
+
+    /**
+     * 실행기 대기열에 쌓인 작업 수
+     */
+    private int executorQueueSize() {
+        return correlationJobExecutor instanceof ThreadPoolExecutor executor ? executor.getQueue().size() : 0;
+    }
+
+    private void run(CorrelationJob job, CorrelationAnalysisRequest request) {
+        job.markRunning();
+        try {
+            job.markCompleted(correlationService.performCorrelationAnalysis(job.getSessionId(), request, job));
+            log.info("상관관계 분석 작업 완료 - 작업: {}", job.getJobId());
+        } catch (Exception e) {
+            log.error("상관관계 분석 작업 실패 - 작업: {}, 사유: {}", job.getJobId(), e.getMessage());
+            job.markFailed(e.getMessage());
+        } finally {
+            releaseCoalesceKey(job);
+        }
+    }
+
+    private void releaseCoalesceKey(CorrelationJob job) {
+        if (job.getCoalesceKey() != null) {
+            activeJobs.remove(job.getCoalesceKey(), job);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 종료 작업 정리
+     */
+    private void purgeFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAtMillis() < cutoff);
+    }
+
+    /**
+     * 작업 병합 키 (세션 + 정렬된 종목 집합 + 기간 + 임계값)
+     */
+    private String coalesceKey(String sessionId, CorrelationAnalysisRequest request) {
+        return sessionId + "|" + String.join(",", new TreeSet<>(request.getTickers()))
+                + "|" + request.getPeriod() + "|" + request.getHighCorrelationThreshold();
+    }
+
+    private record PendingJob(CorrelationJob job, CorrelationAnalysisRequest request) {
+    }
+
+}//class
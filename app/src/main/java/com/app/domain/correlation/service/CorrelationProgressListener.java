@@ -0,0 +1,50 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationAnalysisResponse;
+import com.app.domain.correlation.entity.CorrelationAnalysis;
+
+/**
+ * 상관관계 분석 진행 상황 수신 인터페이스
+ * - 종목 쌍 계산은 병렬로 수행되므로 구현체는 여러 스레드에서 동시에 호출될 수 있음
+ * - onCompleted/onFailed는 작업(CorrelationJob)에 붙은 리스너에만 작업 종료 시 한 번 호출
+ */
+public interface CorrelationProgressListener {
+
+    /**
+     * 진행 상황을 수신하지 않는 기본 리스너
+     */
+    CorrelationProgressListener NONE = new CorrelationProgressListener() {
+    };
+
+    /**
+     * 계산 시작 (전체 종목 쌍 수)
+     */
+    default void onStart(int totalPairs) {
+    }
+
+    /**
+     * 종목 쌍 계산 완료 (캐시 적중 포함, 이번에 완료된 쌍 수)
+     */
+    default void onPairsCompleted(int count) {
+    }
+
+    /**
+     * 종목 쌍 상관계수 확정 (캐시 적중 포함, 계산 불가 쌍은 호출되지 않음)
+     */
+    default void onPairComputed(CorrelationAnalysis correlation) {
+    }
+
+    /**
+     * 작업 완료 (분석 결과 저장 후)
+     */
+    default void onCompleted(CorrelationAnalysisResponse response) {
+    }
+
+    /**
+     * 작업 실패 (대기 중 실행 거부 포함)
+     */
+    default void onFailed(String errorMessage) {
+    }
+
+
+}//interface
@@ -4,6 +4,8 @@ package com.app.domain.correlation.service;
 import com.app.domain.correlation.dto.CorrelationAnalysisRequest;
 import com.app.domain.correlation.dto.CorrelationAnalysisResponse;
 import com.app.domain.correlation.dto.CorrelationHeatmapData;
+import com.app.domain.correlation.dto.UniverseCorrelationRequest;
+import com.app.domain.correlation.dto.UniverseCorrelationResponse;
 
 import java.util.List;
 
@@ -14,8 +16,18 @@ public interface CorrelationService {
 
     CorrelationAnalysisResponse performCorrelationAnalysis(String sessionId, CorrelationAnalysisRequest request);
 
+    CorrelationAnalysisResponse performCorrelationAnalysis(String sessionId, CorrelationAnalysisRequest request,
+                                                           CorrelationProgressListener listener);
+
     CorrelationHeatmapData generateHeatmapData(String sessionId, List<String> tickers);
 
+    /**
+     * 히트맵 데이터 생성 (계층적 군집 순서로 레이블/매트릭스 정렬)
+     * @param linkage 군집 방식 (null이면 요청 순서 유지)
+     */
+    CorrelationHeatmapData generateHeatmapData(String sessionId, List<String> tickers,
+                                               CorrelationClustering.Linkage linkage);
+
     CorrelationAnalysisResponse getCorrelationAnalysisResults(String sessionId);
 
     List<CorrelationAnalysisResponse.HighCorrelationPair> getHighCorrelationPairs(
@@ -26,7 +38,21 @@ public interface CorrelationService {
 
     CorrelationAnalysisResponse performSelectedAssetsAnalysis(String sessionId);
 
+    CorrelationAnalysisRequest buildSelectedAssetsRequest(String sessionId);
+
     void deleteAnalysisResults(String sessionId);
 
+    /**
+     * 선택 자산 추가 시 분석 결과 증분 갱신 (새 종목과 기존 종목 간 n개 쌍만 계산하여 추가)
+     */
+    void addTickerToAnalysis(String sessionId, String ticker);
+
+    /**
+     * 선택 자산 취소 시 분석 결과 증분 갱신 (해당 종목의 행/열만 삭제, 분석 결과가 취소 직전 선택 자산과 같을 때만)
+     */
+    void removeTickerFromAnalysis(String sessionId, String ticker);
+
+    UniverseCorrelationResponse performUniverseAnalysis(UniverseCorrelationRequest request);
+
 
 }//interface
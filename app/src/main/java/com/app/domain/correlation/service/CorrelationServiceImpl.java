@@ -4,16 +4,28 @@ package com.app.domain.correlation.service;
 import com.app.domain.correlation.dto.CorrelationAnalysisRequest;
 import com.app.domain.correlation.dto.CorrelationAnalysisResponse;
 import com.app.domain.correlation.dto.CorrelationHeatmapData;
+import com.app.domain.correlation.dto.CorrelationMatrix;
+import com.app.domain.correlation.dto.UniverseCorrelationRequest;
+import com.app.domain.correlation.dto.UniverseCorrelationResponse;
 import com.app.domain.correlation.entity.CorrelationAnalysis;
 import com.app.domain.correlation.mapper.CorrelationMapper;
+import com.app.domain.price.dto.AlignedReturns;
+import com.app.domain.price.service.ReturnSeriesService;
 import com.app.domain.session.mapper.SessionMapper;
+import com.app.domain.stock.event.SelectedAssetsChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +39,53 @@ public class CorrelationServiceImpl implements CorrelationService {
 
 
     private final CorrelationMapper correlationMapper;
+    private final ReturnSeriesService returnSeriesService;
+    private final CorrelationCache correlationCache;
+    private final ForkJoinPool computeForkJoinPool;
+
+    /**
+     * 상관관계 결과 다중 행 INSERT 1회당 최대 행 수
+     */
+    @Value("${correlation.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    /**
+     * 유니버스 분석 최대 종목 수
+     */
+    @Value("${correlation.universe.max-tickers:2000}")
+    private int universeMaxTickers;
+
+    /**
+     * 유니버스 분석 기본 |상관계수| 임계값
+     */
+    @Value("${correlation.universe.threshold:0.7}")
+    private double universeThreshold;
+
+    /**
+     * 유니버스 분석 응답 기본 최대 종목 쌍 수
+     */
+    @Value("${correlation.universe.max-pairs:1000}")
+    private int universeMaxPairs;
+
+    /**
+     * 분석 기간 코드 및 개월 수 (인덱스: 0=3M, 1=6M, 2=1Y)
+     */
+    private static final String[] WINDOW_CODES = {"3M", "6M", "1Y"};
+    private static final int[] WINDOW_MONTHS = {3, 6, 12};
+
+    /**
+     * 병렬 계산 시 fork-join 작업 1개가 담당하는 상삼각 행 수
+     */
+    private static final int PAIR_ROW_BLOCK = 4;
 
     @Override
     public CorrelationAnalysisResponse performCorrelationAnalysis(String sessionId, CorrelationAnalysisRequest request) {
+        return performCorrelationAnalysis(sessionId, request, CorrelationProgressListener.NONE);
+    }
+
+    @Override
+    public CorrelationAnalysisResponse performCorrelationAnalysis(String sessionId, CorrelationAnalysisRequest request,
+                                                                  CorrelationProgressListener listener) {
         log.info("상관관계 분석 시작 - 세션: {}, 종목수: {}", sessionId, request.getTickers().size());
 
         try {
@@ -39,29 +95,17 @@ public class CorrelationServiceImpl implements CorrelationService {
             // 2. 기존 분석 결과 삭제
             correlationMapper.deleteAnalysisResults(sessionId);
 
-            // 3. 종목 쌍별 상관관계 계산 및 저장
+            // 3. 종목 쌍별 상관관계 계산 (공유 캐시 우선)
             List<String> tickers = request.getTickers();
             LocalDate endDate = LocalDate.now();
+            List<CorrelationAnalysis> correlations =
+                    computeCorrelations(sessionId, tickers, endDate, request.getPeriod(), listener);
 
-            for (int i = 0; i < tickers.size(); i++) {
-                for (int j = i + 1; j < tickers.size(); j++) {
-                    String ticker1 = tickers.get(i);
-                    String ticker2 = tickers.get(j);
-
-                    // 상관계수 계산
-                    CorrelationAnalysis correlation = calculateCorrelation(
-                            sessionId, ticker1, ticker2, endDate, request.getPeriod());
-
-                    if (correlation != null) {
-                        correlationMapper.insertCorrelationAnalysis(correlation);
-                        log.debug("상관계수 계산 완료: {} vs {} = {}",
-                                ticker1, ticker2, correlation.getAverageCorrelation());
-                    }
-                }
-            }
+            // 4. 계산 결과 일괄 저장 (다중 행 INSERT)
+            insertCorrelationsBatch(correlations);
 
-            // 4. 분석 결과 조회 및 응답 생성
-            return buildAnalysisResponse(sessionId, request.getHighCorrelationThreshold());
+            // 5. 방금 계산한 결과로 응답 생성 (DB 재조회 없음)
+            return buildAnalysisResponse(sessionId, correlations, request.getHighCorrelationThreshold());
 
         } catch (Exception e) {
             log.error("상관관계 분석 중 오류 발생: {}", e.getMessage(), e);
@@ -71,7 +115,14 @@ public class CorrelationServiceImpl implements CorrelationService {
 
     @Override
     public CorrelationHeatmapData generateHeatmapData(String sessionId, List<String> tickers) {
-        log.info("히트맵 데이터 생성 - 세션: {}, 종목수: {}", sessionId, tickers.size());
+        return generateHeatmapData(sessionId, tickers, null);
+    }
+
+    @Override
+    public CorrelationHeatmapData generateHeatmapData(String sessionId, List<String> tickers,
+                                                      CorrelationClustering.Linkage linkage) {
+        log.info("히트맵 데이터 생성 - 세션: {}, 종목수: {}, 군집: {}", sessionId, tickers.size(),
+                linkage != null ? linkage.getCode() : "none");
 
         // 1. 상관관계 분석 결과 조회
         List<CorrelationAnalysis> correlations = correlationMapper.findBySessionId(sessionId);
@@ -82,7 +133,7 @@ public class CorrelationServiceImpl implements CorrelationService {
         }
 
         // 2. 히트맵 매트릭스 생성
-        return buildHeatmapData(tickers, correlations);
+        return buildHeatmapData(tickers, correlations, linkage);
     }
 
     @Override
@@ -102,7 +153,7 @@ public class CorrelationServiceImpl implements CorrelationService {
                     .build();
         }
 
-        return buildAnalysisResponse(sessionId, 0.7);
+        return buildAnalysisResponse(sessionId, correlations, 0.7);
     }
 
     @Override
@@ -113,17 +164,7 @@ public class CorrelationServiceImpl implements CorrelationService {
         List<CorrelationAnalysis> correlations = correlationMapper.findHighCorrelations(sessionId, threshold);
 
         return correlations.stream()
-                .map(corr -> CorrelationAnalysisResponse.HighCorrelationPair.builder()
-                        .ticker1(corr.getTicker1())
-                        .ticker2(corr.getTicker2())
-                        .stockName1(corr.getStockName1())
-                        .stockName2(corr.getStockName2())
-                        .correlation3M(corr.getCorrelation3m())
-                        .correlation6M(corr.getCorrelation6m())
-                        .correlation1Y(corr.getCorrelation1y())
-                        .averageCorrelation(corr.getAverageCorrelation())
-                        .riskLevel(corr.getRiskLevel(threshold))
-                        .build())
+                .map(corr -> toHighCorrelationPair(corr, threshold))
                 .collect(Collectors.toList());
     }
 
@@ -145,44 +186,27 @@ public class CorrelationServiceImpl implements CorrelationService {
                     .build();
         }
 
-        // 통계 계산
-        long highlyCorrelatedCount = correlations.stream()
-                .mapToLong(corr -> corr.isHighCorrelation(threshold) ? 1 : 0)
-                .sum();
-
-        double averageCorrelation = correlations.stream()
-                .mapToDouble(corr -> Math.abs(corr.getAverageCorrelation() != null ? corr.getAverageCorrelation() : 0.0))
-                .average()
-                .orElse(0.0);
-
-        // 분산점수 계산 (0-100점)
-        double diversificationScore = calculateDiversificationScore(correlations, threshold);
+        return buildDiversificationGuide(new CorrelationStats(correlations, threshold));
+    }
 
-        // 위험도 평가
-        String riskAssessment = assessRisk(diversificationScore, highlyCorrelatedCount, correlations.size());
+    @Override
+    public CorrelationAnalysisResponse performSelectedAssetsAnalysis(String sessionId) {
+        log.info("선택된 자산 상관관계 분석 수행 - 세션: {}", sessionId);
 
-        // 추천사항 생성
-        List<String> recommendations = generateRecommendations(
-                diversificationScore, highlyCorrelatedCount, correlations.size());
+        CorrelationAnalysisRequest request = buildSelectedAssetsRequest(sessionId);
 
-        // 경고사항 생성
-        List<String> warnings = generateWarnings(correlations, threshold);
+        // 선택 변경마다 증분 갱신된 결과가 현재 선택과 일치하면 재계산 없이 응답
+        List<CorrelationAnalysis> live = findLiveAnalysis(sessionId, request.getTickers());
+        if (live != null) {
+            log.debug("증분 갱신된 분석 결과 재사용 - 세션: {}, 종목 쌍: {}", sessionId, live.size());
+            return buildAnalysisResponse(sessionId, live, request.getHighCorrelationThreshold());
+        }
 
-        return CorrelationAnalysisResponse.DiversificationGuide.builder()
-                .overallDiversificationScore(Math.round(diversificationScore * 100.0) / 100.0)
-                .riskAssessment(riskAssessment)
-                .recommendations(recommendations)
-                .warnings(warnings)
-                .highlyCorrelatedPairCount((int) highlyCorrelatedCount)
-                .averageCorrelation(Math.round(averageCorrelation * 1000.0) / 1000.0)
-                .build();
+        return performCorrelationAnalysis(sessionId, request);
     }
 
     @Override
-    public CorrelationAnalysisResponse performSelectedAssetsAnalysis(String sessionId) {
-        log.info("선택된 자산 상관관계 분석 수행 - 세션: {}", sessionId);
-
-        // 1. 선택된 자산 목록 조회
+    public CorrelationAnalysisRequest buildSelectedAssetsRequest(String sessionId) {
         List<String> selectedTickers = correlationMapper.findSelectedTickers(sessionId);
 
         if (selectedTickers.isEmpty()) {
@@ -193,14 +217,11 @@ public class CorrelationServiceImpl implements CorrelationService {
             throw new IllegalArgumentException("상관관계 분석을 위해서는 최소 2개의 자산이 필요합니다.");
         }
 
-        // 2. 상관관계 분석 수행
-        CorrelationAnalysisRequest request = CorrelationAnalysisRequest.builder()
+        return CorrelationAnalysisRequest.builder()
                 .tickers(selectedTickers)
                 .period(CorrelationAnalysisRequest.AnalysisPeriod.ALL)
                 .highCorrelationThreshold(0.7)
                 .build();
-
-        return performCorrelationAnalysis(sessionId, request);
     }
 
     @Override
@@ -209,8 +230,170 @@ public class CorrelationServiceImpl implements CorrelationService {
         correlationMapper.deleteAnalysisResults(sessionId);
     }
 
+    @Override
+    public void addTickerToAnalysis(String sessionId, String ticker) {
+        List<String> analyzed = correlationMapper.findAnalyzedTickers(sessionId);
+        if (analyzed.isEmpty() || analyzed.contains(ticker)) return;
+
+        // 분석 결과가 추가 직전의 선택 자산과 같을 때만 갱신 (임의 종목 분석 결과는 유지)
+        Set<String> selected = new HashSet<>(correlationMapper.findSelectedTickers(sessionId));
+        if (selected.size() != analyzed.size() + 1 || !selected.containsAll(analyzed) || !selected.contains(ticker)) {
+            return;
+        }
+
+        // 기준일이 지난 결과는 새 쌍과 기준일이 달라지므로 전체 재분석 대상으로 전환
+        LocalDate endDate = LocalDate.now();
+        if (!endDate.equals(correlationMapper.findOldestAnalysisDate(sessionId))) {
+            correlationMapper.deleteAnalysisResults(sessionId);
+            return;
+        }
+
+        try {
+            List<CorrelationAnalysis> added = computeCorrelationsWith(sessionId, ticker, analyzed, endDate);
+            insertCorrelationsBatch(added);
+            log.info("분석 결과 증분 추가 - 세션: {}, 티커: {}, 추가 쌍: {}", sessionId, ticker, added.size());
+        } catch (Exception e) {
+            // 갱신 실패 시 부분 결과를 남기지 않도록 세션 결과를 비워 다음 분석에서 전체 계산
+            log.warn("분석 결과 증분 추가 실패, 세션 결과 초기화 - 세션: {}, 티커: {} - {}", sessionId, ticker, e.getMessage());
+            correlationMapper.deleteAnalysisResults(sessionId);
+        }
+    }
+
+    @Override
+    public void removeTickerFromAnalysis(String sessionId, String ticker) {
+        List<String> analyzed = correlationMapper.findAnalyzedTickers(sessionId);
+        if (!analyzed.contains(ticker)) return;
+
+        // 분석 결과가 제거 직전의 선택 자산과 같을 때만 갱신 (임의 종목 분석 결과는 유지)
+        Set<String> selected = new HashSet<>(correlationMapper.findSelectedTickers(sessionId));
+        if (selected.size() != analyzed.size() - 1 || !analyzed.containsAll(selected) || selected.contains(ticker)) {
+            return;
+        }
+
+        int deleted = correlationMapper.deleteAnalysisResultsByTicker(sessionId, ticker);
+        if (deleted > 0) {
+            log.info("분석 결과 증분 삭제 - 세션: {}, 티커: {}, 삭제 쌍: {}", sessionId, ticker, deleted);
+        }
+    }
+
+    /**
+     * 선택 자산 변경 시 분석 결과 증분 갱신
+     * - 선택 변경 트랜잭션 커밋 후 별도 트랜잭션으로 실행 (갱신 실패가 선택 저장을 롤백시키지 않음)
+     * - 실패 시 결과가 선택 자산과 어긋난 채로 남을 수 있으나 다음 조회에서 전체 재분석으로 대체됨
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSelectedAssetsChanged(SelectedAssetsChangedEvent event) {
+        try {
+            switch (event.changeType()) {
+                case ADDED -> addTickerToAnalysis(event.sessionId(), event.ticker());
+                case REMOVED -> removeTickerFromAnalysis(event.sessionId(), event.ticker());
+                case CLEARED -> correlationMapper.deleteAnalysisResults(event.sessionId());
+            }
+        } catch (Exception e) {
+            log.warn("선택 자산 변경 반영 실패 - 세션: {}, 티커: {} - {}", event.sessionId(), event.ticker(), e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UniverseCorrelationResponse performUniverseAnalysis(UniverseCorrelationRequest request) {
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 분석 대상 종목 결정 및 검증
+        List<String> tickers = resolveUniverseTickers(request);
+        double threshold = request.getThreshold() != null ? request.getThreshold() : universeThreshold;
+        int maxPairs = request.getMaxPairs() != null ? request.getMaxPairs() : universeMaxPairs;
+        CorrelationClustering.Linkage linkage = CorrelationClustering.Linkage.fromCode(request.getLinkage());
+        int months = request.getPeriod().getMonths();
+        String periodCode = request.getPeriod() == CorrelationAnalysisRequest.AnalysisPeriod.ALL
+                ? "1Y" : request.getPeriod().getCode();
+
+        log.info("유니버스 상관관계 분석 시작 - 종목수: {}, 기간: {}, 임계값: {}", tickers.size(), periodCode, threshold);
+
+        // 2. 수익률 시계열 일괄 로딩
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusMonths(months);
+        AlignedReturns returns = returnSeriesService.loadAlignedReturns(tickers, startDate, endDate);
+
+        // 3. 표준화 수익률 블록 행렬곱으로 전체 상관계수 계산 (임계값 이상만 보관)
+        UniverseCorrelationEngine.Result result = UniverseCorrelationEngine.compute(
+                returns, returns.firstIndexOnOrAfter(startDate), threshold, computeForkJoinPool, linkage != null);
+
+        // 4. |상관계수| 내림차순 상위 maxPairs개 응답 구성
+        Integer[] order = new Integer[result.size()];
+        for (int k = 0; k < order.length; k++) order[k] = k;
+        Arrays.sort(order, (a, b) -> Double.compare(Math.abs(result.value(b)), Math.abs(result.value(a))));
+
+        List<String> analyzedTickers = returns.getTickers();
+        List<UniverseCorrelationResponse.CorrelatedPair> pairs = new ArrayList<>(Math.min(maxPairs, order.length));
+        for (int k = 0; k < order.length && pairs.size() < maxPairs; k++) {
+            int p = order[k];
+            pairs.add(UniverseCorrelationResponse.CorrelatedPair.builder()
+                    .ticker1(analyzedTickers.get(result.first(p)))
+                    .ticker2(analyzedTickers.get(result.second(p)))
+                    .correlation(Math.round(result.value(p) * 1_000_000d) / 1_000_000d)
+                    .build());
+        }
+
+        // 5. 요청 시 유효 종목 전체 매트릭스로 계층적 군집 정렬
+        List<String> clusterOrder = null;
+        CorrelationHeatmapData.Dendrogram dendrogram = null;
+        if (linkage != null) {
+            CorrelationMatrix matrix = result.getMatrix();
+            CorrelationClustering.Result clustering = CorrelationClustering.cluster(matrix, linkage);
+            clusterOrder = new ArrayList<>(matrix.size());
+            for (int index : clustering.getOrder()) {
+                clusterOrder.add(matrix.getTickers().get(index));
+            }
+            dendrogram = buildDendrogram(clustering, linkage, periodCode);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("유니버스 상관관계 분석 완료 - 유효 종목: {}, 계산 쌍: {}, 임계값 이상: {}, 소요: {}ms",
+                result.getValidTickers(), result.getEvaluatedPairs(), result.size(), elapsed);
+
+        return UniverseCorrelationResponse.builder()
+                .period(periodCode)
+                .analysisDate(endDate)
+                .requestedTickerCount(tickers.size())
+                .analyzedTickerCount(result.getValidTickers())
+                .observationCount(result.getObservations())
+                .evaluatedPairCount(result.getEvaluatedPairs())
+                .threshold(threshold)
+                .matchedPairCount(result.size())
+                .pairs(pairs)
+                .clusterOrder(clusterOrder)
+                .dendrogram(dendrogram)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
     // === Private Methods ===
 
+    /**
+     * 유니버스 분석 대상 종목 결정 (tickers 우선, 없으면 업종 전체)
+     */
+    private List<String> resolveUniverseTickers(UniverseCorrelationRequest request) {
+        List<String> tickers;
+        if (request.getTickers() != null && !request.getTickers().isEmpty()) {
+            tickers = new ArrayList<>(new LinkedHashSet<>(request.getTickers()));
+        } else if (request.getIndustry() != null && !request.getIndustry().isBlank()) {
+            tickers = correlationMapper.findTickersByIndustry(request.getIndustry());
+        } else {
+            throw new IllegalArgumentException("분석할 종목 목록 또는 업종을 지정해야 합니다.");
+        }
+
+        if (tickers.size() < 2) {
+            throw new IllegalArgumentException("상관관계 분석을 위해서는 최소 2개의 종목이 필요합니다.");
+        }
+        if (tickers.size() > universeMaxTickers) {
+            throw new IllegalArgumentException(
+                    String.format("유니버스 분석은 최대 %d개의 종목까지 가능합니다.", universeMaxTickers));
+        }
+        return tickers;
+    }
+
     private void validateAnalysisRequest(CorrelationAnalysisRequest request) {
         if (request.getTickers() == null || request.getTickers().isEmpty()) {
             throw new IllegalArgumentException("분석할 종목 목록이 비어있습니다.");
@@ -231,47 +414,246 @@ public class CorrelationServiceImpl implements CorrelationService {
         }
     }
 
-    private CorrelationAnalysis calculateCorrelation(String sessionId, String ticker1, String ticker2,
-                                                     LocalDate endDate, CorrelationAnalysisRequest.AnalysisPeriod period) {
-        try {
-            // 3개월 상관계수 계산
-            Double corr3m = null;
-            if (period == CorrelationAnalysisRequest.AnalysisPeriod.ALL ||
-                    period == CorrelationAnalysisRequest.AnalysisPeriod.THREE_MONTH) {
+    /**
+     * 종목 쌍별 상관관계 계산
+     * - 공유 캐시에 있는 종목 쌍은 캐시 값으로 결과 생성
+     * - 캐시 미스가 있을 때만 수익률 시계열을 한 번 로딩하여 전용 ForkJoinPool에서 병렬 계산 후 캐시에 저장
+     * - 결과는 상삼각 종목 쌍 인덱스 슬롯에 기록하므로 병렬 여부와 무관하게 (i, j) 순서로 반환
+     */
+    private List<CorrelationAnalysis> computeCorrelations(String sessionId, List<String> tickers, LocalDate endDate,
+                                                          CorrelationAnalysisRequest.AnalysisPeriod period,
+                                                          CorrelationProgressListener listener) {
+        String[] windows = requestedWindows(period);
+        int n = tickers.size();
+        Double[][] slots = new Double[n * (n - 1) / 2][];
+        boolean[] computed = new boolean[slots.length];
+
+        // 1. 캐시 조회
+        int cacheHits = 0;
+        for (int i = 0, p = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++, p++) {
+                slots[p] = correlationCache.getAll(tickers.get(i), tickers.get(j), endDate, windows);
+                if (slots[p] != null) cacheHits++;
+            }
+        }
+        listener.onStart(slots.length);
+        listener.onPairsCompleted(cacheHits);
+        for (int i = 0, p = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++, p++) {
+                if (slots[p] != null) {
+                    listener.onPairComputed(
+                            toCorrelationAnalysis(sessionId, tickers.get(i), tickers.get(j), slots[p], endDate));
+                }
+            }
+        }
+
+        // 2. 캐시 미스 종목 쌍 병렬 계산 (행 블록 단위 분할)
+        if (cacheHits < slots.length) {
+            AlignedReturns returns = returnSeriesService.loadAlignedReturns(tickers, endDate.minusMonths(12), endDate);
+            computeForkJoinPool.invoke(new PairBlockTask(
+                    sessionId, tickers, returns, endDate, windows, slots, computed, listener, 0, n));
+        }
+
+        // 3. 새로 계산한 값은 캐시에 저장하고 (i, j) 순서로 결과 생성
+        List<CorrelationAnalysis> correlations = new ArrayList<>(slots.length);
+        for (int i = 0, p = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++, p++) {
+                if (slots[p] == null) continue;
+
+                String ticker1 = tickers.get(i);
+                String ticker2 = tickers.get(j);
+                if (computed[p]) {
+                    correlationCache.putAll(ticker1, ticker2, endDate, windows, slots[p]);
+                }
+                correlations.add(toCorrelationAnalysis(sessionId, ticker1, ticker2, slots[p], endDate));
+            }
+        }
+
+        log.debug("상관계수 캐시 적중 - 세션: {}, {}/{} 쌍", sessionId, cacheHits, slots.length);
+        return correlations;
+    }
+
+    /**
+     * 한 종목과 기존 종목들 간의 상관관계 계산 (증분 추가용, O(n) 쌍)
+     * - 기존 종목이 ticker1, 새 종목이 ticker2 (선택 순서상 새 종목이 마지막)
+     * - 캐시 미스가 있을 때만 미스 종목 + 새 종목의 수익률 시계열을 한 번 로딩
+     */
+    private List<CorrelationAnalysis> computeCorrelationsWith(String sessionId, String ticker, List<String> others,
+                                                              LocalDate endDate) {
+        String[] windows = requestedWindows(CorrelationAnalysisRequest.AnalysisPeriod.ALL);
+        Double[][] slots = new Double[others.size()][];
+
+        List<String> misses = new ArrayList<>();
+        for (int k = 0; k < others.size(); k++) {
+            slots[k] = correlationCache.getAll(others.get(k), ticker, endDate, windows);
+            if (slots[k] == null) misses.add(others.get(k));
+        }
+
+        if (!misses.isEmpty()) {
+            List<String> loadTickers = new ArrayList<>(misses);
+            loadTickers.add(ticker);
+            AlignedReturns returns = returnSeriesService.loadAlignedReturns(loadTickers, endDate.minusMonths(12), endDate);
 
-                LocalDate startDate3m = endDate.minusMonths(3);
-                corr3m = correlationMapper.calculatePearsonCorrelation(ticker1, ticker2, startDate3m, endDate);
+            for (int k = 0; k < others.size(); k++) {
+                if (slots[k] != null) continue;
+
+                slots[k] = calculateCorrelation(others.get(k), ticker, returns, endDate, windows);
+                if (slots[k] != null) {
+                    correlationCache.putAll(others.get(k), ticker, endDate, windows, slots[k]);
+                }
+            }
+        }
+
+        List<CorrelationAnalysis> correlations = new ArrayList<>(others.size());
+        for (int k = 0; k < others.size(); k++) {
+            if (slots[k] != null) {
+                correlations.add(toCorrelationAnalysis(sessionId, others.get(k), ticker, slots[k], endDate));
             }
+        }
+        return correlations;
+    }
 
-            // 6개월 상관계수 계산
-            Double corr6m = null;
-            if (period == CorrelationAnalysisRequest.AnalysisPeriod.ALL ||
-                    period == CorrelationAnalysisRequest.AnalysisPeriod.SIX_MONTH) {
+    /**
+     * 저장된 분석 결과가 주어진 종목들의 오늘 기준 전체 쌍과 정확히 일치하면 (i, j) 순서로 정렬하여 반환
+     * @return 일치하지 않으면 null
+     */
+    private List<CorrelationAnalysis> findLiveAnalysis(String sessionId, List<String> tickers) {
+        int n = tickers.size();
+        List<CorrelationAnalysis> rows = correlationMapper.findBySessionId(sessionId);
+        if (rows.size() != n * (n - 1) / 2) return null;
+
+        Map<String, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            index.put(tickers.get(i), i);
+        }
 
-                LocalDate startDate6m = endDate.minusMonths(6);
-                corr6m = correlationMapper.calculatePearsonCorrelation(ticker1, ticker2, startDate6m, endDate);
+        LocalDate today = LocalDate.now();
+        CorrelationAnalysis[] ordered = new CorrelationAnalysis[rows.size()];
+        for (CorrelationAnalysis row : rows) {
+            Integer a = index.get(row.getTicker1());
+            Integer b = index.get(row.getTicker2());
+            if (a == null || b == null || a.equals(b) || !today.equals(row.getAnalysisDate())) return null;
+
+            // 선택 순서가 앞선 종목을 ticker1으로 정규화 (상관계수는 대칭)
+            if (a > b) {
+                row.setTicker1(tickers.get(b));
+                row.setTicker2(tickers.get(a));
+                int swap = a;
+                a = b;
+                b = swap;
             }
+            int p = a * n - a * (a + 1) / 2 + (b - a - 1);
+            if (ordered[p] != null) return null;
+            ordered[p] = row;
+        }
+        return Arrays.asList(ordered);
+    }
 
-            // 1년 상관계수 계산
-            Double corr1y = null;
-            if (period == CorrelationAnalysisRequest.AnalysisPeriod.ALL ||
-                    period == CorrelationAnalysisRequest.AnalysisPeriod.ONE_YEAR) {
+    /**
+     * 상삼각 행 범위 [rowFrom, rowTo)의 캐시 미스 종목 쌍을 계산하는 fork-join 작업
+     * - 각 작업은 자기 행에 해당하는 슬롯에만 기록 (작업 간 공유 쓰기 없음)
+     */
+    private final class PairBlockTask extends RecursiveAction {
+
+        private final String sessionId;
+        private final List<String> tickers;
+        private final AlignedReturns returns;
+        private final LocalDate endDate;
+        private final String[] windows;
+        private final Double[][] slots;
+        private final boolean[] computed;
+        private final CorrelationProgressListener listener;
+        private final int rowFrom;
+        private final int rowTo;
+
+        private PairBlockTask(String sessionId, List<String> tickers, AlignedReturns returns, LocalDate endDate,
+                              String[] windows, Double[][] slots, boolean[] computed, CorrelationProgressListener listener,
+                              int rowFrom, int rowTo) {
+            this.sessionId = sessionId;
+            this.tickers = tickers;
+            this.returns = returns;
+            this.endDate = endDate;
+            this.windows = windows;
+            this.slots = slots;
+            this.computed = computed;
+            this.listener = listener;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+        }
 
-                LocalDate startDate1y = endDate.minusMonths(12);
-                corr1y = correlationMapper.calculatePearsonCorrelation(ticker1, ticker2, startDate1y, endDate);
+        @Override
+        protected void compute() {
+            if (rowTo - rowFrom > PAIR_ROW_BLOCK) {
+                int mid = (rowFrom + rowTo) >>> 1;
+                invokeAll(
+                        new PairBlockTask(sessionId, tickers, returns, endDate, windows, slots, computed, listener,
+                                rowFrom, mid),
+                        new PairBlockTask(sessionId, tickers, returns, endDate, windows, slots, computed, listener,
+                                mid, rowTo));
+                return;
             }
 
-            return CorrelationAnalysis.builder()
-                    .sessionId(sessionId)
-                    .ticker1(ticker1)
-                    .ticker2(ticker2)
-                    .correlation3m(corr3m)
-                    .correlation6m(corr6m)
-                    .correlation1y(corr1y)
-                    .analysisStartDate(endDate.minusMonths(12))
-                    .analysisEndDate(endDate)
-                    .analysisDate(LocalDate.now())
-                    .build();
+            int n = tickers.size();
+            for (int i = rowFrom; i < rowTo; i++) {
+                int p = i * n - i * (i + 1) / 2; // (i, i + 1) 쌍의 슬롯 인덱스
+                int completed = 0;
+                for (int j = i + 1; j < n; j++, p++) {
+                    if (slots[p] != null) continue;
+
+                    slots[p] = calculateCorrelation(tickers.get(i), tickers.get(j), returns, endDate, windows);
+                    computed[p] = slots[p] != null;
+                    completed++;
+                    if (computed[p]) {
+                        listener.onPairComputed(
+                            toCorrelationAnalysis(sessionId, tickers.get(i), tickers.get(j), slots[p], endDate));
+                    }
+                }
+                if (completed > 0) listener.onPairsCompleted(completed);
+            }
+        }
+    }
+
+    /**
+     * 상관관계 결과를 chunk 단위 다중 행 INSERT로 저장
+     */
+    private void insertCorrelationsBatch(List<CorrelationAnalysis> correlations) {
+        int chunkSize = Math.max(1, batchChunkSize);
+        for (int from = 0; from < correlations.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, correlations.size());
+            correlationMapper.insertCorrelationsBatch(correlations.subList(from, to));
+        }
+        log.debug("상관관계 결과 저장 완료 - {}건 (chunk: {})", correlations.size(), chunkSize);
+    }
+
+    /**
+     * 분석 기간에 해당하는 기간 코드 배열 (요청하지 않은 기간은 null)
+     */
+    private String[] requestedWindows(CorrelationAnalysisRequest.AnalysisPeriod period) {
+        String[] windows = new String[WINDOW_CODES.length];
+        for (int k = 0; k < WINDOW_CODES.length; k++) {
+            if (period == CorrelationAnalysisRequest.AnalysisPeriod.ALL || period.getCode().equals(WINDOW_CODES[k])) {
+                windows[k] = WINDOW_CODES[k];
+            }
+        }
+        return windows;
+    }
+
+    private Double[] calculateCorrelation(String ticker1, String ticker2, AlignedReturns returns,
+                                          LocalDate endDate, String[] windows) {
+        try {
+            double[] x = returns.series(returns.indexOf(ticker1));
+            double[] y = returns.series(returns.indexOf(ticker2));
+
+            // 3M/6M/1Y 구간은 같은 종료일을 공유하는 중첩 구간이므로 한 번의 역방향 순회로 계산
+            // (요청 기간에 포함되지 않는 구간은 빈 구간으로 두어 순회 범위에서 제외)
+            int to = returns.length();
+            int[] starts = new int[windows.length];
+            for (int k = 0; k < windows.length; k++) {
+                starts[k] = windows[k] != null
+                        ? returns.firstIndexOnOrAfter(endDate.minusMonths(WINDOW_MONTHS[k]))
+                        : to;
+            }
+            return CorrelationCalculator.pearsonNested(x, y, starts, to);
 
         } catch (Exception e) {
             log.error("상관계수 계산 실패: {} vs {} - {}", ticker1, ticker2, e.getMessage());
@@ -279,9 +661,27 @@ public class CorrelationServiceImpl implements CorrelationService {
         }
     }
 
-    private CorrelationAnalysisResponse buildAnalysisResponse(String sessionId, Double threshold) {
-        List<CorrelationAnalysis> correlations = correlationMapper.findBySessionId(sessionId);
+    private CorrelationAnalysis toCorrelationAnalysis(String sessionId, String ticker1, String ticker2,
+                                                      Double[] values, LocalDate endDate) {
+        return CorrelationAnalysis.builder()
+                .sessionId(sessionId)
+                .ticker1(ticker1)
+                .ticker2(ticker2)
+                .correlation3m(values[0])
+                .correlation6m(values[1])
+                .correlation1y(values[2])
+                .analysisStartDate(endDate.minusMonths(12))
+                .analysisEndDate(endDate)
+                .analysisDate(LocalDate.now())
+                .build();
+    }
 
+    /**
+     * 상관관계 결과 목록으로 분석 응답 생성
+     * - 한 번의 순회로 기간별 매트릭스, 높은 상관관계 종목 쌍, 가이드라인 통계를 함께 계산
+     */
+    private CorrelationAnalysisResponse buildAnalysisResponse(String sessionId, List<CorrelationAnalysis> correlations,
+                                                              Double threshold) {
         if (correlations.isEmpty()) {
             return CorrelationAnalysisResponse.builder()
                     .sessionId(sessionId)
@@ -291,23 +691,42 @@ public class CorrelationServiceImpl implements CorrelationService {
         }
 
         // 종목 목록 추출
-        Set<String> tickerSet = new HashSet<>();
+        Set<String> tickerSet = new LinkedHashSet<>();
         correlations.forEach(corr -> {
             tickerSet.add(corr.getTicker1());
             tickerSet.add(corr.getTicker2());
         });
         List<String> tickers = new ArrayList<>(tickerSet);
 
-        // 상관관계 매트릭스 생성
-        CorrelationAnalysisResponse.PeriodCorrelationMatrix matrix = buildCorrelationMatrix(tickers, correlations);
+        CorrelationMatrix matrix3m = CorrelationMatrix.of(tickers, 0.0);
+        CorrelationMatrix matrix6m = CorrelationMatrix.of(tickers, 0.0);
+        CorrelationMatrix matrix1y = CorrelationMatrix.of(tickers, 0.0);
+        CorrelationStats stats = new CorrelationStats(threshold);
+        List<CorrelationAnalysisResponse.HighCorrelationPair> highCorrelationPairs = new ArrayList<>();
 
-        // 높은 상관관계 종목 쌍 추출
-        List<CorrelationAnalysisResponse.HighCorrelationPair> highCorrelationPairs =
-                getHighCorrelationPairs(sessionId, threshold);
+        for (CorrelationAnalysis corr : correlations) {
+            // 상관관계 매트릭스
+            int i = matrix1y.indexOf(corr.getTicker1());
+            int j = matrix1y.indexOf(corr.getTicker2());
+            if (corr.getCorrelation3m() != null) matrix3m.set(i, j, corr.getCorrelation3m());
+            if (corr.getCorrelation6m() != null) matrix6m.set(i, j, corr.getCorrelation6m());
+            if (corr.getCorrelation1y() != null) matrix1y.set(i, j, corr.getCorrelation1y());
+
+            // 높은 상관관계 종목 쌍 (기준: |1Y 상관계수| ≥ 임계값, findHighCorrelations와 동일)
+            if (corr.getCorrelation1y() != null && Math.abs(corr.getCorrelation1y()) >= threshold) {
+                highCorrelationPairs.add(toHighCorrelationPair(corr, threshold));
+            }
 
-        // 분산투자 가이드라인 생성
-        CorrelationAnalysisResponse.DiversificationGuide guide =
-                generateDiversificationGuide(sessionId, threshold);
+            // 분산투자 가이드라인 통계
+            stats.accept(corr);
+        }
+
+        CorrelationAnalysisResponse.PeriodCorrelationMatrix matrix =
+                CorrelationAnalysisResponse.PeriodCorrelationMatrix.builder()
+                        .threeMonthMatrix(matrix3m)
+                        .sixMonthMatrix(matrix6m)
+                        .oneYearMatrix(matrix1y)
+                        .build();
 
         return CorrelationAnalysisResponse.builder()
                 .sessionId(sessionId)
@@ -317,99 +736,221 @@ public class CorrelationServiceImpl implements CorrelationService {
                 .tickers(tickers)
                 .correlationMatrix(matrix)
                 .highCorrelationPairs(highCorrelationPairs)
-                .diversificationGuide(guide)
+                .diversificationGuide(buildDiversificationGuide(stats))
                 .build();
     }
 
-    private CorrelationAnalysisResponse.PeriodCorrelationMatrix buildCorrelationMatrix(
-            List<String> tickers, List<CorrelationAnalysis> correlations) {
+    private CorrelationAnalysisResponse.HighCorrelationPair toHighCorrelationPair(CorrelationAnalysis corr,
+                                                                                  double threshold) {
+        return toHighCorrelationPair(corr, corr.getStockName1(), corr.getStockName2(), threshold);
+    }
+
+    /**
+     * 상관관계 분석 결과를 종목 쌍 응답으로 변환 (종목명은 호출자가 지정, 스트리밍에서도 사용)
+     */
+    static CorrelationAnalysisResponse.HighCorrelationPair toHighCorrelationPair(CorrelationAnalysis corr,
+                                                                                 String stockName1,
+                                                                                 String stockName2,
+                                                                                 double threshold) {
+        return CorrelationAnalysisResponse.HighCorrelationPair.builder()
+                .ticker1(corr.getTicker1())
+                .ticker2(corr.getTicker2())
+                .stockName1(stockName1)
+                .stockName2(stockName2)
+                .correlation3M(corr.getCorrelation3m())
+                .correlation6M(corr.getCorrelation6m())
+                .correlation1Y(corr.getCorrelation1y())
+                .averageCorrelation(corr.getAverageCorrelation())
+                .riskLevel(corr.getRiskLevel(threshold))
+                .build();
+    }
+
+    /**
+     * 집계 통계로 분산투자 가이드라인 생성
+     */
+    private CorrelationAnalysisResponse.DiversificationGuide buildDiversificationGuide(CorrelationStats stats) {
+        // 분산점수 계산 (0-100점)
+        double diversificationScore = calculateDiversificationScore(stats);
+
+        // 위험도 평가
+        String riskAssessment = assessRisk(diversificationScore, stats.highlyCorrelatedCount, stats.totalPairs);
+
+        // 추천사항 생성
+        List<String> recommendations = generateRecommendations(
+                diversificationScore, stats.highlyCorrelatedCount, stats.totalPairs);
 
-        Map<String, Map<String, Double>> matrix3m = buildMatrix(tickers, correlations, "3M");
-        Map<String, Map<String, Double>> matrix6m = buildMatrix(tickers, correlations, "6M");
-        Map<String, Map<String, Double>> matrix1y = buildMatrix(tickers, correlations, "1Y");
+        // 경고사항 생성
+        List<String> warnings = generateWarnings(stats);
 
-        return CorrelationAnalysisResponse.PeriodCorrelationMatrix.builder()
-                .threeMonthMatrix(matrix3m)
-                .sixMonthMatrix(matrix6m)
-                .oneYearMatrix(matrix1y)
+        return CorrelationAnalysisResponse.DiversificationGuide.builder()
+                .overallDiversificationScore(Math.round(diversificationScore * 100.0) / 100.0)
+                .riskAssessment(riskAssessment)
+                .recommendations(recommendations)
+                .warnings(warnings)
+                .highlyCorrelatedPairCount((int) stats.highlyCorrelatedCount)
+                .averageCorrelation(Math.round(stats.averageAbsCorrelation() * 1000.0) / 1000.0)
                 .build();
     }
 
-    private Map<String, Map<String, Double>> buildMatrix(List<String> tickers,
-                                                         List<CorrelationAnalysis> correlations,
-                                                         String period) {
-        Map<String, Map<String, Double>> matrix = new HashMap<>();
+    /**
+     * 분산투자 가이드라인용 집계 통계 (종목 쌍 평균 상관계수 기준, 한 번의 순회로 누적)
+     */
+    private static final class CorrelationStats {
+        private final double threshold;
+        private int totalPairs;
+        private long highlyCorrelatedCount;
+        private long veryHighCorrelatedCount;
+        private long negativeCorrelatedCount;
+        private double absCorrelationSum;
+
+        private CorrelationStats(double threshold) {
+            this.threshold = threshold;
+        }
 
-        // 매트릭스 초기화
-        for (String ticker : tickers) {
-            matrix.put(ticker, new HashMap<>());
-            for (String otherTicker : tickers) {
-                matrix.get(ticker).put(otherTicker, ticker.equals(otherTicker) ? 1.0 : 0.0);
-            }
+        private CorrelationStats(List<CorrelationAnalysis> correlations, double threshold) {
+            this(threshold);
+            correlations.forEach(this::accept);
         }
 
-        // 상관계수 값 설정
-        for (CorrelationAnalysis corr : correlations) {
-            Double value = null;
-            switch (period) {
-                case "3M": value = corr.getCorrelation3m(); break;
-                case "6M": value = corr.getCorrelation6m(); break;
-                case "1Y": value = corr.getCorrelation1y(); break;
-            }
+        private void accept(CorrelationAnalysis corr) {
+            totalPairs++;
 
-            if (value != null) {
-                matrix.get(corr.getTicker1()).put(corr.getTicker2(), value);
-                matrix.get(corr.getTicker2()).put(corr.getTicker1(), value);
-            }
+            Double avg = corr.getAverageCorrelation();
+            if (avg == null) return;
+
+            double absAvg = Math.abs(avg);
+            absCorrelationSum += absAvg;
+            if (absAvg >= threshold) highlyCorrelatedCount++;
+            if (absAvg >= 0.9) veryHighCorrelatedCount++;
+            if (avg <= -0.3) negativeCorrelatedCount++;
         }
 
-        return matrix;
+        private double averageAbsCorrelation() {
+            return totalPairs > 0 ? absCorrelationSum / totalPairs : 0.0;
+        }
     }
 
-    private CorrelationHeatmapData buildHeatmapData(List<String> tickers, List<CorrelationAnalysis> correlations) {
-        List<CorrelationHeatmapData.HeatmapPeriodData> periodDataList = new ArrayList<>();
+    private CorrelationHeatmapData buildHeatmapData(List<String> tickers, List<CorrelationAnalysis> correlations,
+                                                    CorrelationClustering.Linkage linkage) {
+        // 1. 종목 쌍 인덱스를 한 번만 구성하고, 한 번의 순회로 3개 기간 매트릭스를 동시에 채움
+        CorrelationMatrix matrix3m = CorrelationMatrix.of(tickers, Double.NaN);
+        CorrelationMatrix matrix6m = CorrelationMatrix.of(tickers, Double.NaN);
+        CorrelationMatrix matrix1y = CorrelationMatrix.of(tickers, Double.NaN);
 
-        // 3개월 데이터
-        periodDataList.add(buildPeriodHeatmapData("3M", "3개월", tickers, correlations));
+        for (CorrelationAnalysis corr : correlations) {
+            int i = matrix1y.indexOf(corr.getTicker1());
+            int j = matrix1y.indexOf(corr.getTicker2());
+            if (i < 0 || j < 0 || i == j) continue;
+
+            // 같은 종목 쌍이 여러 건이면 먼저 조회된 값 사용
+            setIfAbsent(matrix3m, i, j, corr.getCorrelation3m());
+            setIfAbsent(matrix6m, i, j, corr.getCorrelation6m());
+            setIfAbsent(matrix1y, i, j, corr.getCorrelation1y());
+        }
 
-        // 6개월 데이터
-        periodDataList.add(buildPeriodHeatmapData("6M", "6개월", tickers, correlations));
+        // 2. 1년 상관계수 기준 계층적 군집 순서로 레이블 정렬 (모든 기간 매트릭스에 동일 순서 적용)
+        List<String> labels = tickers;
+        CorrelationHeatmapData.Dendrogram dendrogram = null;
+        if (linkage != null && matrix1y.size() > 1) {
+            long startedAt = System.nanoTime();
+            CorrelationClustering.Result clustering = CorrelationClustering.cluster(matrix1y, linkage);
+            int[] order = clustering.getOrder();
+
+            List<String> ordered = new ArrayList<>(order.length);
+            for (int index : order) {
+                ordered.add(matrix1y.getTickers().get(index));
+            }
+            dendrogram = buildDendrogram(clustering, linkage, "1Y");
+            log.debug("히트맵 군집 정렬 완료 - 종목수: {}, 소요: {}ms", order.length, (System.nanoTime() - startedAt) / 1_000_000);
+            labels = ordered;
+        }
 
-        // 1년 데이터
-        periodDataList.add(buildPeriodHeatmapData("1Y", "1년", tickers, correlations));
+        // 3. 기간별 히트맵 데이터 생성
+        List<CorrelationHeatmapData.HeatmapPeriodData> periodDataList = new ArrayList<>();
+        periodDataList.add(buildPeriodHeatmapData("3M", "3개월", labels, matrix3m));
+        periodDataList.add(buildPeriodHeatmapData("6M", "6개월", labels, matrix6m));
+        periodDataList.add(buildPeriodHeatmapData("1Y", "1년", labels, matrix1y));
 
         return CorrelationHeatmapData.builder()
-                .labels(tickers)
+                .labels(labels)
                 .periodData(periodDataList)
                 .colorScale(CorrelationHeatmapData.ColorScale.builder().build())
+                .dendrogram(dendrogram)
                 .build();
     }
 
+    /**
+     * 군집화 결과를 덴드로그램 DTO로 변환 (leaf 번호를 정렬된 레이블 위치로 변환)
+     */
+    private CorrelationHeatmapData.Dendrogram buildDendrogram(CorrelationClustering.Result clustering,
+                                                              CorrelationClustering.Linkage linkage,
+                                                              String period) {
+        int[] order = clustering.getOrder();
+        int n = order.length;
+        int[] position = new int[n];
+        for (int p = 0; p < n; p++) {
+            position[order[p]] = p;
+        }
+
+        List<CorrelationHeatmapData.DendrogramMerge> merges = new ArrayList<>(clustering.mergeCount());
+        for (int k = 0; k < clustering.mergeCount(); k++) {
+            int left = clustering.left(k);
+            int right = clustering.right(k);
+            merges.add(CorrelationHeatmapData.DendrogramMerge.builder()
+                    .clusterId(n + k)
+                    .left(left < n ? position[left] : left)
+                    .right(right < n ? position[right] : right)
+                    .distance(Math.round(clustering.height(k) * 1_000_000d) / 1_000_000d)
+                    .size(clustering.size(k))
+                    .build());
+        }
+
+        return CorrelationHeatmapData.Dendrogram.builder()
+                .linkage(linkage.getCode())
+                .period(period)
+                .merges(merges)
+                .build();
+    }
+
+    private void setIfAbsent(CorrelationMatrix matrix, int i, int j, Double value) {
+        if (value != null && !matrix.has(i, j)) {
+            matrix.set(i, j, value);
+        }
+    }
+
     private CorrelationHeatmapData.HeatmapPeriodData buildPeriodHeatmapData(
-            String period, String periodName, List<String> tickers, List<CorrelationAnalysis> correlations) {
+            String period, String periodName, List<String> tickers, CorrelationMatrix periodMatrix) {
 
         int size = tickers.size();
-        List<List<Double>> matrix = new ArrayList<>();
+        int[] index = new int[size];
+        for (int i = 0; i < size; i++) {
+            index[i] = periodMatrix.indexOf(tickers.get(i));
+        }
+
+        List<List<Double>> matrix = new ArrayList<>(size);
 
         double min = 1.0, max = -1.0, sum = 0.0;
         int count = 0;
 
         for (int i = 0; i < size; i++) {
-            List<Double> row = new ArrayList<>();
+            List<Double> row = new ArrayList<>(size);
             for (int j = 0; j < size; j++) {
                 if (i == j) {
                     row.add(1.0);
-                } else {
-                    Double value = findCorrelationValue(tickers.get(i), tickers.get(j), correlations, period);
-                    row.add(value != null ? value : 0.0);
-
-                    if (value != null) {
-                        min = Math.min(min, value);
-                        max = Math.max(max, value);
-                        sum += value;
-                        count++;
-                    }
+                    continue;
                 }
+
+                double value = periodMatrix.get(index[i], index[j]);
+                if (Double.isNaN(value)) {
+                    row.add(0.0);
+                    continue;
+                }
+
+                row.add(value);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                sum += value;
+                count++;
             }
             matrix.add(row);
         }
@@ -424,41 +965,16 @@ public class CorrelationServiceImpl implements CorrelationService {
                 .build();
     }
 
-    private Double findCorrelationValue(String ticker1, String ticker2,
-                                        List<CorrelationAnalysis> correlations, String period) {
-        for (CorrelationAnalysis corr : correlations) {
-            if ((corr.getTicker1().equals(ticker1) && corr.getTicker2().equals(ticker2)) ||
-                    (corr.getTicker1().equals(ticker2) && corr.getTicker2().equals(ticker1))) {
-                switch (period) {
-                    case "3M": return corr.getCorrelation3m();
-                    case "6M": return corr.getCorrelation6m();
-                    case "1Y": return corr.getCorrelation1y();
-                }
-            }
-        }
-        return null;
-    }
-
-    private double calculateDiversificationScore(List<CorrelationAnalysis> correlations, double threshold) {
-        if (correlations.isEmpty()) return 0.0;
+    private double calculateDiversificationScore(CorrelationStats stats) {
+        if (stats.totalPairs == 0) return 0.0;
 
-        long highlyCorrelatedCount = correlations.stream()
-                .mapToLong(corr -> corr.isHighCorrelation(threshold) ? 1 : 0)
-                .sum();
-
-        double totalPairs = correlations.size();
-        double highCorrelationRatio = highlyCorrelatedCount / totalPairs;
+        double highCorrelationRatio = (double) stats.highlyCorrelatedCount / stats.totalPairs;
 
         // 높은 상관관계 비율이 낮을수록 높은 점수
         double baseScore = (1.0 - highCorrelationRatio) * 70.0;
 
         // 평균 상관계수가 낮을수록 추가 점수
-        double averageCorrelation = correlations.stream()
-                .mapToDouble(corr -> Math.abs(corr.getAverageCorrelation() != null ? corr.getAverageCorrelation() : 0.0))
-                .average()
-                .orElse(0.0);
-
-        double bonusScore = (1.0 - averageCorrelation) * 30.0;
+        double bonusScore = (1.0 - stats.averageAbsCorrelation()) * 30.0;
 
         return Math.max(0.0, Math.min(100.0, baseScore + bonusScore));
     }
@@ -500,33 +1016,19 @@ public class CorrelationServiceImpl implements CorrelationService {
         return recommendations;
     }
 
-    private List<String> generateWarnings(List<CorrelationAnalysis> correlations, double threshold) {
+    private List<String> generateWarnings(CorrelationStats stats) {
         List<String> warnings = new ArrayList<>();
 
         // 매우 높은 상관관계 경고
-        long veryHighCorrelatedCount = correlations.stream()
-                .mapToLong(corr -> {
-                    Double avg = corr.getAverageCorrelation();
-                    return (avg != null && Math.abs(avg) >= 0.9) ? 1 : 0;
-                })
-                .sum();
-
-        if (veryHighCorrelatedCount > 0) {
+        if (stats.veryHighCorrelatedCount > 0) {
             warnings.add(String.format("매우 높은 상관관계(0.9 이상) 종목 쌍이 %d개 있습니다. 중복 리스크가 높습니다.",
-                    veryHighCorrelatedCount));
+                    stats.veryHighCorrelatedCount));
         }
 
         // 음의 상관관계 정보
-        long negativeCorrelatedCount = correlations.stream()
-                .mapToLong(corr -> {
-                    Double avg = corr.getAverageCorrelation();
-                    return (avg != null && avg <= -0.3) ? 1 : 0;
-                })
-                .sum();
-
-        if (negativeCorrelatedCount > 0) {
+        if (stats.negativeCorrelatedCount > 0) {
             warnings.add(String.format("음의 상관관계 종목 쌍이 %d개 있습니다. 헤지 효과를 기대할 수 있습니다.",
-                    negativeCorrelatedCount));
+                    stats.negativeCorrelatedCount));
         }
 
         return warnings;
@@ -0,0 +1,193 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationAnalysisRequest;
+import com.app.domain.correlation.dto.CorrelationAnalysisResponse;
+import com.app.domain.correlation.dto.CorrelationJobStatus;
+import com.app.domain.correlation.entity.CorrelationAnalysis;
+import com.app.domain.correlation.mapper.CorrelationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상관관계 분석 SSE 스트리밍 서비스
+ * - 종목 쌍 상관계수가 확정되는 즉시 이벤트 전송 (계산 순서대로, 병렬 계산 시 순서 비결정적)
+ * - 이벤트 순서: start → cell / high-correlation (반복) → guide → complete (실패 시 error)
+ * - 분석은 CorrelationJobService 작업으로 실행 (요청 스레드 비점유, 같은 세션의 /jobs 작업과 순차 실행,
+ *   대기열 한도 공유), 리스너는 작업에 붙어 진행 상황과 종료를 수신
+ * - 계산 스레드는 이벤트를 대기열에 넣기만 하고 전송은 별도 실행기가 담당
+ *   (느린 클라이언트가 분석 트랜잭션과 DB 연결을 붙잡지 않음)
+ */
+@Service
+@Slf4j
+public class CorrelationStreamService {
+
+    private final CorrelationJobService correlationJobService;
+    private final CorrelationMapper correlationMapper;
+    private final ExecutorService correlationStreamSender;
+    private final long timeoutMillis;
+
+    public CorrelationStreamService(CorrelationJobService correlationJobService,
+                                    CorrelationMapper correlationMapper,
+                                    @Qualifier("correlationStreamSender") ExecutorService correlationStreamSender,
+                                    @Value("${correlation.stream.timeout-minutes:10}") long timeoutMinutes) {
+        this.correlationJobService = correlationJobService;
+        this.correlationMapper = correlationMapper;
+        this.correlationStreamSender = correlationStreamSender;
+        this.timeoutMillis = timeoutMinutes * 60_000L;
+    }
+
+    /**
+     * 상관관계 분석 스트리밍 시작
+     * @throws RejectedExecutionException 작업 대기열이 가득 찬 경우
+     */
+    public SseEmitter stream(String sessionId, CorrelationAnalysisRequest request) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StreamingListener listener = new StreamingListener(sessionId, emitter, correlationStreamSender,
+                request.getHighCorrelationThreshold(), findStockNames(request));
+
+        CorrelationJobStatus status = correlationJobService.submit(sessionId, request, listener);
+
+        log.info("상관관계 분석 스트리밍 시작 - 세션: {}, 작업: {}, 종목수: {}",
+                sessionId, status.getJobId(), request.getTickers().size());
+        return emitter;
+    }
+
+    private Map<String, String> findStockNames(CorrelationAnalysisRequest request) {
+        Map<String, String> names = new HashMap<>();
+        for (CorrelationMapper.StockInfo info : correlationMapper.findStockInfosByTickers(request.getTickers())) {
+            names.put(info.getTicker(), info.getStockName());
+        }
+        return names;
+    }
+
+    /**
+     * 분석 진행 상황을 SSE 이벤트로 전송하는 리스너
+     * - 여러 계산 스레드에서 호출되며 이벤트는 대기열에 넣기만 함 (블로킹 없음)
+     * - 대기열은 전송 실행기에서 한 번에 하나의 작업으로만 비우므로 emitter 전송 순서 유지
+     * - 클라이언트 연결이 끊기면 이후 전송은 생략 (분석 자체는 계속 진행되어 결과 저장)
+     */
+    private static final class StreamingListener implements CorrelationProgressListener {
+
+        private final String sessionId;
+        private final SseEmitter emitter;
+        private final ExecutorService sender;
+        private final double threshold;
+        private final Map<String, String> stockNames;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean disconnected;
+
+        private StreamingListener(String sessionId, SseEmitter emitter, ExecutorService sender, Double threshold,
+                                  Map<String, String> stockNames) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+            this.sender = sender;
+            this.threshold = threshold != null ? threshold : 0.7;
+            this.stockNames = stockNames;
+            emitter.onCompletion(() -> disconnected = true);
+            emitter.onTimeout(() -> disconnected = true);
+        }
+
+        @Override
+        public void onStart(int totalPairs) {
+            send("start", Map.of("totalPairs", totalPairs));
+        }
+
+        @Override
+        public void onPairComputed(CorrelationAnalysis correlation) {
+            CorrelationAnalysisResponse.HighCorrelationPair pair = CorrelationServiceImpl.toHighCorrelationPair(
+                    correlation, stockNames.get(correlation.getTicker1()), stockNames.get(correlation.getTicker2()),
+                    threshold);
+
+            send("cell", pair);
+
+            // 높은 상관관계 기준은 /high-correlations 조회와 동일 (|1Y 상관계수| ≥ 임계값)
+            if (correlation.getCorrelation1y() != null && Math.abs(correlation.getCorrelation1y()) >= threshold) {
+                send("high-correlation", pair);
+            }
+        }
+
+        @Override
+        public void onCompleted(CorrelationAnalysisResponse response) {
+            send("guide", response.getDiversificationGuide());
+            send("complete", Map.of("sessionId", sessionId));
+            close();
+        }
+
+        @Override
+        public void onFailed(String errorMessage) {
+            log.error("상관관계 분석 스트리밍 실패 - 세션: {}, 사유: {}", sessionId, errorMessage);
+            send("error", Map.of("message", String.valueOf(errorMessage)));
+            close();
+        }
+
+        private void send(String eventName, Object data) {
+            if (disconnected) return;
+
+            pending.add(SseEmitter.event().name(eventName).data(data));
+            scheduleDrain();
+        }
+
+        /**
+         * 남은 이벤트 전송 후 스트림 종료
+         */
+        private void close() {
+            closed = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                disconnected = true;
+                if (completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pending.poll()) != null) {
+                if (disconnected) continue;
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    disconnected = true;
+                    log.debug("SSE 전송 중단 - 사유: {}", e.getMessage());
+                }
+            }
+
+            // 종료 요청 후 남은 이벤트가 없으면 emitter 완료 (전송 권한을 가진 상태에서만)
+            if (closed && pending.isEmpty() && completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+            draining.set(false);
+
+            // 비우는 사이 추가된 이벤트나 종료 요청은 다시 예약
+            if (!pending.isEmpty() || (closed && !completed.get())) {
+                scheduleDrain();
+            }
+        }
+    }
+
+
+}//class
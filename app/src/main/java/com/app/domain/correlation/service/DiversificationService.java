@@ -62,7 +62,8 @@ public class DiversificationService {
 //                stockNames  // 🆕 종목명 Map 전달
 //        );
         // 2. 상관관계 매트릭스 생성
-        Map<String, Map<String, Double>> correlationMatrix = buildCorrelationMatrix(
+        CorrelationMatrix correlationMatrix = buildCorrelationMatrix(
+                request.getTickers(),
                 correlations,
                 request.getAnalysisPeriod()
         );
@@ -98,9 +99,8 @@ public class DiversificationService {
                 portfolioAvgCorrelation
         );
 
-        // 7. 선택된 종목들의 상관관계 매트릭스 필터링
-        Map<String, Map<String, Double>> selectedCorrelationMatrix = filterCorrelationMatrix(
-                correlationMatrix,
+        // 7. 선택된 종목들의 상관관계 매트릭스 필터링 (복사 없는 부분 매트릭스 뷰)
+        CorrelationMatrix selectedCorrelationMatrix = correlationMatrix.subMatrix(
                 selectedStocks.stream()
                         .map(DiversificationScore::getTicker)
                         .collect(Collectors.toList())
@@ -130,30 +130,21 @@ public class DiversificationService {
     }
 
     /**
-     * 상관관계 매트릭스 생성
+     * 상관관계 매트릭스 생성 (값이 없는 셀은 NaN)
      */
-    private Map<String, Map<String, Double>> buildCorrelationMatrix(
+    private CorrelationMatrix buildCorrelationMatrix(
+            List<String> tickers,
             List<CorrelationAnalysis> correlations,
             String period) {
 
-        Map<String, Map<String, Double>> matrix = new HashMap<>();
+        CorrelationMatrix matrix = CorrelationMatrix.of(tickers, Double.NaN);
 
         for (CorrelationAnalysis corr : correlations) {
             Double correlation = corr.getCorrelationByPeriod(period);
             if (correlation == null) continue;
 
-            // ticker1 -> ticker2
-            matrix.computeIfAbsent(corr.getTicker1(), k -> new HashMap<>())
-                    .put(corr.getTicker2(), correlation);
-
-            // ticker2 -> ticker1 (대칭)
-            matrix.computeIfAbsent(corr.getTicker2(), k -> new HashMap<>())
-                    .put(corr.getTicker1(), correlation);
-        }
-
-        // 자기 자신과의 상관계수는 1.0
-        for (String ticker : matrix.keySet()) {
-            matrix.get(ticker).put(ticker, 1.0);
+            // 대칭 셀에 동시 반영
+            matrix.set(corr.getTicker1(), corr.getTicker2(), correlation);
         }
 
         return matrix;
@@ -164,31 +155,36 @@ public class DiversificationService {
      */
     private List<DiversificationScore> calculateDiversificationScores(
             List<String> tickers,
-            Map<String, Map<String, Double>> correlationMatrix,
+            CorrelationMatrix correlationMatrix,
             Double highCorrelationThreshold,
             Map<String, String> stockNames) {  // 🆕 파라미터 추가
 
         List<DiversificationScore> scores = new ArrayList<>();
 
         for (String ticker : tickers) {
-            Map<String, Double> correlations = correlationMatrix.get(ticker);
-            if (correlations == null || correlations.isEmpty()) {
+            int i = correlationMatrix.indexOf(ticker);
+
+            // 평균 상관계수 및 높은 상관관계 종목 개수 계산 (자기 자신 제외)
+            double sum = 0.0;
+            int count = 0;
+            int highCorrelationCount = 0;
+            for (int j = 0; i >= 0 && j < correlationMatrix.size(); j++) {
+                if (j == i || !correlationMatrix.has(i, j)) continue;
+
+                double value = correlationMatrix.get(i, j);
+                sum += value;
+                count++;
+                if (Math.abs(value) >= highCorrelationThreshold) {
+                    highCorrelationCount++;
+                }
+            }
+
+            if (count == 0) {
                 log.warn("티커 {}의 상관관계 데이터가 없습니다.", ticker);
                 continue;
             }
 
-            // 평균 상관계수 계산 (자기 자신 제외)
-            double avgCorrelation = correlations.entrySet().stream()
-                    .filter(e -> !e.getKey().equals(ticker))
-                    .mapToDouble(Map.Entry::getValue)
-                    .average()
-                    .orElse(0.0);
-
-            // 높은 상관관계 종목 개수
-            int highCorrelationCount = (int) correlations.entrySet().stream()
-                    .filter(e -> !e.getKey().equals(ticker))
-                    .filter(e -> Math.abs(e.getValue()) >= highCorrelationThreshold)
-                    .count();
+            double avgCorrelation = sum / count;
 
             // 분산 점수 계산 (평균 상관계수가 낮을수록 높은 점수)
             double diversificationScore = 1.0 - Math.abs(avgCorrelation);
@@ -223,7 +219,7 @@ public class DiversificationService {
      */
     private List<DiversificationScore> selectOptimalStocks(
             List<DiversificationScore> allScores,
-            Map<String, Map<String, Double>> correlationMatrix,
+            CorrelationMatrix correlationMatrix,
             Double highCorrelationThreshold,
             Integer targetCount) {
 
@@ -241,7 +237,7 @@ public class DiversificationService {
             // 이미 선택된 종목들과의 상관관계 확인
             boolean hasHighCorrelation = false;
             for (String selectedTicker : selectedTickers) {
-                Double correlation = correlationMatrix.get(currentTicker).get(selectedTicker);
+                Double correlation = correlationMatrix.get(currentTicker, selectedTicker);
                 if (correlation != null && Math.abs(correlation) >= highCorrelationThreshold) {
                     hasHighCorrelation = true;
                     score.setExclusionReason(
@@ -279,7 +275,7 @@ public class DiversificationService {
      */
     private Double calculatePortfolioAvgCorrelation(
             List<DiversificationScore> selectedStocks,
-            Map<String, Map<String, Double>> correlationMatrix) {
+            CorrelationMatrix correlationMatrix) {
 
         if (selectedStocks.size() <= 1) {
             return 0.0;
@@ -294,7 +290,7 @@ public class DiversificationService {
 
         for (int i = 0; i < tickers.size(); i++) {
             for (int j = i + 1; j < tickers.size(); j++) {
-                Double corr = correlationMatrix.get(tickers.get(i)).get(tickers.get(j));
+                Double corr = correlationMatrix.get(tickers.get(i), tickers.get(j));
                 if (corr != null) {
                     sum += Math.abs(corr);
                     count++;
@@ -313,27 +309,4 @@ public class DiversificationService {
         return (1.0 - avgCorrelation) * 100.0;
     }
 
-    /**
-     * 선택된 종목들의 상관관계 매트릭스 필터링
-     */
-    private Map<String, Map<String, Double>> filterCorrelationMatrix(
-            Map<String, Map<String, Double>> fullMatrix,
-            List<String> selectedTickers) {
-
-        Map<String, Map<String, Double>> filtered = new HashMap<>();
-
-        for (String ticker1 : selectedTickers) {
-            Map<String, Double> row = new HashMap<>();
-            for (String ticker2 : selectedTickers) {
-                Double corr = fullMatrix.get(ticker1).get(ticker2);
-                if (corr != null) {
-                    row.put(ticker2, corr);
-                }
-            }
-            filtered.put(ticker1, row);
-        }
-
-        return filtered;
-    }
-
 }//class
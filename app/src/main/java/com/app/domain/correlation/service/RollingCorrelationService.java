@@ -0,0 +1,199 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.RollingCorrelationRequest;
+import com.app.domain.correlation.dto.RollingCorrelationRequest.TickerPair;
+import com.app.domain.correlation.dto.RollingCorrelationResponse;
+import com.app.domain.correlation.dto.RollingCorrelationResponse.PairSeries;
+import com.app.domain.correlation.mapper.CorrelationMapper;
+import com.app.domain.price.dto.AlignedReturns;
+import com.app.domain.price.mapper.StockPriceMapper;
+import com.app.domain.price.service.ReturnSeriesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이동 구간 상관계수 시계열 서비스 (국면 변화 차트용, 결과는 저장하지 않음)
+ * - 요청된 모든 종목의 수익률 시계열을 한 번만 로딩
+ * - 종목 쌍마다 CorrelationCalculator.rollingPearson으로 O(T) 계산
+ * - 포트폴리오 평균은 대상 종목 전체 쌍의 날짜별 평균
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RollingCorrelationService {
+
+    private final ReturnSeriesService returnSeriesService;
+    private final StockPriceMapper stockPriceMapper;
+    private final CorrelationMapper correlationMapper;
+
+    /**
+     * 기본 구간 길이 (거래일 수)
+     */
+    @Value("${correlation.rolling.default-window:60}")
+    private int defaultWindow;
+
+    /**
+     * 구간 내 최소 공통 관측일 비율
+     */
+    @Value("${correlation.rolling.min-observation-ratio:0.8}")
+    private double minObservationRatio;
+
+    /**
+     * 한 번에 조회 가능한 최대 종목 쌍 수
+     */
+    @Value("${correlation.rolling.max-pairs:50}")
+    private int maxPairs;
+
+    /**
+     * 포트폴리오 평균 계산 최대 종목 수
+     */
+    @Value("${correlation.rolling.max-average-tickers:100}")
+    private int maxAverageTickers;
+
+    /**
+     * 이동 구간 상관계수 시계열 계산
+     * @param sessionId 세션 ID (평균 대상 종목 미지정 시 선택 자산 조회용)
+     * @param request 요청
+     * @return 종목 쌍별/포트폴리오 평균 시계열
+     */
+    public RollingCorrelationResponse calculate(String sessionId, RollingCorrelationRequest request) {
+        List<TickerPair> pairs = request.getPairs() != null ? request.getPairs() : List.of();
+        if (pairs.size() > maxPairs) {
+            throw new IllegalArgumentException("종목 쌍은 최대 " + maxPairs + "개까지 조회할 수 있습니다.");
+        }
+        for (TickerPair pair : pairs) {
+            if (pair.getTicker1().equals(pair.getTicker2())) {
+                throw new IllegalArgumentException("같은 종목으로 이루어진 쌍입니다: " + pair.getTicker1());
+            }
+        }
+
+        boolean includeAverage = pairs.isEmpty() || Boolean.TRUE.equals(request.getIncludeAverage());
+        List<String> averageTickers = includeAverage ? resolveAverageTickers(sessionId, request) : List.of();
+
+        int window = request.getWindow() != null ? request.getWindow() : defaultWindow;
+        int minObservations = Math.max(2, (int) Math.ceil(window * minObservationRatio));
+
+        // 1. 요청 전체 종목의 수익률 시계열을 한 번에 로딩
+        Set<String> tickerSet = new LinkedHashSet<>(averageTickers);
+        for (TickerPair pair : pairs) {
+            tickerSet.add(pair.getTicker1());
+            tickerSet.add(pair.getTicker2());
+        }
+        List<String> tickers = new ArrayList<>(tickerSet);
+
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : LocalDate.now();
+        LocalDate startDate = request.getStartDate() != null
+                ? request.getStartDate() : stockPriceMapper.selectFirstPriceDate(tickers);
+        if (startDate == null) {
+            throw new IllegalStateException("요청한 종목의 주가 데이터가 없습니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 이후일 수 없습니다.");
+        }
+
+        AlignedReturns returns = returnSeriesService.loadAlignedReturns(tickers, startDate, endDate);
+        int length = returns.length();
+        if (length < window) {
+            throw new IllegalStateException("조회 기간의 거래일 수(" + length + ")가 구간 길이(" + window + ")보다 짧습니다.");
+        }
+
+        long started = System.nanoTime();
+        int first = window - 1;
+        double[] buffer = new double[length];
+
+        // 2. 종목 쌍별 시계열
+        List<PairSeries> pairSeries = new ArrayList<>(pairs.size());
+        for (TickerPair pair : pairs) {
+            CorrelationCalculator.rollingPearson(
+                    returns.series(returns.indexOf(pair.getTicker1())),
+                    returns.series(returns.indexOf(pair.getTicker2())),
+                    window, minObservations, buffer);
+
+            pairSeries.add(PairSeries.builder()
+                    .ticker1(pair.getTicker1())
+                    .ticker2(pair.getTicker2())
+                    .correlations(toList(buffer, first))
+                    .build());
+        }
+
+        // 3. 포트폴리오 평균 (날짜별로 계산 가능한 쌍의 합/개수 누적)
+        List<Double> portfolioAverage = null;
+        if (includeAverage) {
+            double[] sum = new double[length];
+            int[] count = new int[length];
+            int m = averageTickers.size();
+            for (int i = 0; i < m; i++) {
+                double[] x = returns.series(returns.indexOf(averageTickers.get(i)));
+                for (int j = i + 1; j < m; j++) {
+                    double[] y = returns.series(returns.indexOf(averageTickers.get(j)));
+                    CorrelationCalculator.rollingPearson(x, y, window, minObservations, buffer);
+                    for (int t = first; t < length; t++) {
+                        if (!Double.isNaN(buffer[t])) {
+                            sum[t] += buffer[t];
+                            count[t]++;
+                        }
+                    }
+                }
+            }
+            for (int t = first; t < length; t++) {
+                buffer[t] = count[t] > 0 ? Math.round(sum[t] / count[t] * 1_000_000.0) / 1_000_000.0 : Double.NaN;
+            }
+            portfolioAverage = toList(buffer, first);
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        log.info("이동 구간 상관계수 계산 완료 - 세션: {}, 쌍: {}, 평균 대상 종목: {}, 거래일: {}, 구간: {}, 소요: {}ms",
+                sessionId, pairs.size(), averageTickers.size(), length, window, elapsedMillis);
+
+        return RollingCorrelationResponse.builder()
+                .sessionId(sessionId)
+                .window(window)
+                .minObservations(minObservations)
+                .startDate(startDate)
+                .endDate(endDate)
+                .dates(Arrays.asList(returns.getDates()).subList(first, length))
+                .pairs(pairSeries)
+                .averageTickers(averageTickers)
+                .portfolioAverage(portfolioAverage)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 포트폴리오 평균 대상 종목 결정 (미지정 시 세션의 선택 자산)
+     */
+    private List<String> resolveAverageTickers(String sessionId, RollingCorrelationRequest request) {
+        List<String> tickers = request.getTickers() != null && !request.getTickers().isEmpty()
+                ? new ArrayList<>(new LinkedHashSet<>(request.getTickers()))
+                : correlationMapper.findSelectedTickers(sessionId);
+
+        if (tickers.size() < 2) {
+            throw new IllegalStateException("포트폴리오 평균 상관계수를 계산하려면 최소 2개 종목이 필요합니다.");
+        }
+        if (tickers.size() > maxAverageTickers) {
+            throw new IllegalArgumentException("포트폴리오 평균은 최대 " + maxAverageTickers + "개 종목까지 계산할 수 있습니다.");
+        }
+        return tickers;
+    }
+
+    /**
+     * [from, 끝) 구간을 응답용 리스트로 변환 (NaN은 null)
+     */
+    private List<Double> toList(double[] values, int from) {
+        List<Double> list = new ArrayList<>(values.length - from);
+        for (int t = from; t < values.length; t++) {
+            list.add(Double.isNaN(values[t]) ? null : values[t]);
+        }
+        return list;
+    }
+
+}//class
@@ -0,0 +1,326 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationMatrix;
+import com.app.domain.price.dto.AlignedReturns;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 대규모 종목군(수백~수천 종목) 상관계수 매트릭스 계산 엔진
+ *
+ * 알고리즘:
+ * 1. 종목별 수익률을 평균 0, 노름 1로 표준화 (결측일은 0으로 대체)
+ * 2. 표준화 행렬 Z에 대해 상관계수 매트릭스 C = Z·Zᵀ 의 상삼각만 계산
+ * 3. 행/열/시간 축을 블록으로 나눈 캐시 친화적 행렬곱, 행 블록 단위 fork-join 병렬화
+ * 4. |ρ| ≥ 임계값인 종목 쌍만 결과에 보관 (행 블록 순서로 병합하여 결과 순서 결정적)
+ *    군집 정렬이 필요하면 유효 종목 전체 매트릭스도 함께 보관 (O(n²) 메모리)
+ *
+ * 결측일을 0으로 대체하므로 결측이 있는 종목은 쌍별 공통 거래일 기준 값보다 약간 0 쪽으로 축소됨
+ */
+public final class UniverseCorrelationEngine {
+
+    /**
+     * 종목 축 블록 크기
+     */
+    private static final int BLOCK = 64;
+
+    /**
+     * 시간 축 블록 크기
+     */
+    private static final int DEPTH_BLOCK = 256;
+
+    private UniverseCorrelationEngine() {
+    }
+
+    /**
+     * 상관계수 매트릭스 계산 후 임계값 이상인 종목 쌍만 반환
+     * @param returns 정렬된 수익률 시계열
+     * @param from 분석 구간 시작 인덱스 (종료는 시계열 끝)
+     * @param threshold |ρ| 임계값
+     * @param pool 병렬 계산에 사용할 ForkJoinPool
+     */
+    public static Result compute(AlignedReturns returns, int from, double threshold, ForkJoinPool pool) {
+        return compute(returns, from, threshold, pool, false);
+    }
+
+    /**
+     * 상관계수 매트릭스 계산 후 임계값 이상인 종목 쌍 반환 (필요 시 전체 매트릭스 보관)
+     * @param keepMatrix 유효 종목 전체 상관계수 매트릭스 보관 여부 (군집 정렬용)
+     */
+    public static Result compute(AlignedReturns returns, int from, double threshold, ForkJoinPool pool,
+                                 boolean keepMatrix) {
+        double[][] z = standardize(returns, from);
+        int n = z.length;
+        int blocks = (n + BLOCK - 1) / BLOCK;
+
+        // 전체 매트릭스는 유효 종목만 압축 인덱스로 보관 (종목 인덱스 → 매트릭스 인덱스, 무효 종목은 -1)
+        CorrelationMatrix matrix = null;
+        int[] matrixIndex = null;
+        if (keepMatrix) {
+            List<String> validTickers = new ArrayList<>();
+            matrixIndex = new int[n];
+            for (int i = 0; i < n; i++) {
+                matrixIndex[i] = z[i] != null ? validTickers.size() : -1;
+                if (z[i] != null) validTickers.add(returns.getTickers().get(i));
+            }
+            matrix = CorrelationMatrix.of(validTickers, Double.NaN);
+        }
+
+        PairBuffer[] buffers = new PairBuffer[blocks];
+        if (blocks > 0) {
+            pool.invoke(new RowBlockTask(z, threshold, buffers, matrix, matrixIndex, 0, blocks));
+        }
+
+        // 행 블록 순서대로 병합 (결정적 순서)
+        PairBuffer merged = new PairBuffer();
+        for (PairBuffer buffer : buffers) {
+            if (buffer != null) merged.addAll(buffer);
+        }
+
+        int validTickers = 0;
+        for (double[] row : z) {
+            if (row != null) validTickers++;
+        }
+
+        return new Result(merged, validTickers, Math.max(0, returns.length() - from),
+                (long) validTickers * (validTickers - 1) / 2, matrix);
+    }
+
+    /**
+     * 종목별 수익률 표준화 (평균 0, 노름 1, 결측 0)
+     * - 유효 관측치가 2개 미만이거나 분산이 0인 종목은 null
+     */
+    static double[][] standardize(AlignedReturns returns, int from) {
+        int n = returns.size();
+        int length = Math.max(0, returns.length() - from);
+        double[][] z = new double[n][];
+
+        for (int i = 0; i < n; i++) {
+            double[] series = returns.series(i);
+
+            int count = 0;
+            double sum = 0.0;
+            for (int t = from; t < from + length; t++) {
+                if (!Double.isNaN(series[t])) {
+                    sum += series[t];
+                    count++;
+                }
+            }
+            if (count < 2) continue;
+
+            double mean = sum / count;
+            double sumSquares = 0.0;
+            for (int t = from; t < from + length; t++) {
+                if (!Double.isNaN(series[t])) {
+                    double d = series[t] - mean;
+                    sumSquares += d * d;
+                }
+            }
+            if (sumSquares <= 0.0) continue;
+
+            double scale = 1.0 / Math.sqrt(sumSquares);
+            double[] row = new double[length];
+            for (int t = 0; t < length; t++) {
+                double value = series[from + t];
+                row[t] = Double.isNaN(value) ? 0.0 : (value - mean) * scale;
+            }
+            z[i] = row;
+        }
+        return z;
+    }
+
+    /**
+     * 행 블록 범위를 분할 정복으로 처리하는 fork-join 작업
+     */
+    private static final class RowBlockTask extends RecursiveAction {
+
+        private final double[][] z;
+        private final double threshold;
+        private final PairBuffer[] buffers;
+        private final CorrelationMatrix matrix;
+        private final int[] matrixIndex;
+        private final int blockFrom;
+        private final int blockTo;
+
+        private RowBlockTask(double[][] z, double threshold, PairBuffer[] buffers, CorrelationMatrix matrix,
+                             int[] matrixIndex, int blockFrom, int blockTo) {
+            this.z = z;
+            this.threshold = threshold;
+            this.buffers = buffers;
+            this.matrix = matrix;
+            this.matrixIndex = matrixIndex;
+            this.blockFrom = blockFrom;
+            this.blockTo = blockTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (blockTo - blockFrom > 1) {
+                int mid = (blockFrom + blockTo) >>> 1;
+                invokeAll(new RowBlockTask(z, threshold, buffers, matrix, matrixIndex, blockFrom, mid),
+                        new RowBlockTask(z, threshold, buffers, matrix, matrixIndex, mid, blockTo));
+                return;
+            }
+            buffers[blockFrom] = computeRowBlock(z, blockFrom, threshold, matrix, matrixIndex);
+        }
+    }
+
+    /**
+     * 하나의 행 블록에 대해 상삼각 열 블록들의 상관계수 계산
+     * - matrix가 있으면 모든 값을 기록 (블록마다 셀이 겹치지 않으므로 동기화 불필요)
+     */
+    private static PairBuffer computeRowBlock(double[][] z, int rowBlock, double threshold,
+                                              CorrelationMatrix matrix, int[] matrixIndex) {
+        int n = z.length;
+        int length = 0;
+        for (double[] row : z) {
+            if (row != null) {
+                length = row.length;
+                break;
+            }
+        }
+
+        PairBuffer buffer = new PairBuffer();
+        double[] acc = new double[BLOCK * BLOCK];
+
+        int i0 = rowBlock * BLOCK;
+        int i1 = Math.min(n, i0 + BLOCK);
+
+        for (int j0 = i0; j0 < n; j0 += BLOCK) {
+            int j1 = Math.min(n, j0 + BLOCK);
+            Arrays.fill(acc, 0.0);
+
+            for (int k0 = 0; k0 < length; k0 += DEPTH_BLOCK) {
+                int k1 = Math.min(length, k0 + DEPTH_BLOCK);
+
+                for (int i = i0; i < i1; i++) {
+                    double[] zi = z[i];
+                    if (zi == null) continue;
+
+                    int base = (i - i0) * BLOCK - j0;
+                    for (int j = Math.max(j0, i + 1); j < j1; j++) {
+                        double[] zj = z[j];
+                        if (zj == null) continue;
+
+                        double s = 0.0;
+                        for (int k = k0; k < k1; k++) {
+                            s += zi[k] * zj[k];
+                        }
+                        acc[base + j] += s;
+                    }
+                }
+            }
+
+            for (int i = i0; i < i1; i++) {
+                if (z[i] == null) continue;
+
+                int base = (i - i0) * BLOCK - j0;
+                for (int j = Math.max(j0, i + 1); j < j1; j++) {
+                    if (z[j] == null) continue;
+
+                    double value = Math.max(-1.0, Math.min(1.0, acc[base + j]));
+                    if (matrix != null) {
+                        matrix.set(matrixIndex[i], matrixIndex[j], value);
+                    }
+                    if (Math.abs(value) >= threshold) {
+                        buffer.add(i, j, value);
+                    }
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * 종목 쌍 결과 버퍼 (primitive 배열, 자동 확장)
+     */
+    static final class PairBuffer {
+        private int[] first = new int[64];
+        private int[] second = new int[64];
+        private double[] values = new double[64];
+        private int size;
+
+        void add(int i, int j, double value) {
+            if (size == values.length) {
+                int capacity = size * 2;
+                first = Arrays.copyOf(first, capacity);
+                second = Arrays.copyOf(second, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            first[size] = i;
+            second[size] = j;
+            values[size] = value;
+            size++;
+        }
+
+        void addAll(PairBuffer other) {
+            for (int k = 0; k < other.size; k++) {
+                add(other.first[k], other.second[k], other.values[k]);
+            }
+        }
+    }
+
+    /**
+     * 계산 결과 (임계값 이상 종목 쌍 + 통계)
+     */
+    public static final class Result {
+        private final PairBuffer pairs;
+        private final int validTickers;
+        private final int observations;
+        private final long evaluatedPairs;
+        private final CorrelationMatrix matrix;
+
+        private Result(PairBuffer pairs, int validTickers, int observations, long evaluatedPairs,
+                       CorrelationMatrix matrix) {
+            this.pairs = pairs;
+            this.validTickers = validTickers;
+            this.observations = observations;
+            this.evaluatedPairs = evaluatedPairs;
+            this.matrix = matrix;
+        }
+
+        /**
+         * 보관된 종목 쌍 수
+         */
+        public int size() {
+            return pairs.size;
+        }
+
+        public int first(int k) {
+            return pairs.first[k];
+        }
+
+        public int second(int k) {
+            return pairs.second[k];
+        }
+
+        public double value(int k) {
+            return pairs.values[k];
+        }
+
+        public int getValidTickers() {
+            return validTickers;
+        }
+
+        public int getObservations() {
+            return observations;
+        }
+
+        public long getEvaluatedPairs() {
+            return evaluatedPairs;
+        }
+
+        /**
+         * 유효 종목 전체 상관계수 매트릭스 (보관하지 않았으면 null)
+         */
+        public CorrelationMatrix getMatrix() {
+            return matrix;
+        }
+    }
+
+
+}//class
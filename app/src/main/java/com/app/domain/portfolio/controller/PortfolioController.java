@@ -1,4 +1,195 @@
 package com.app.domain.portfolio.controller;
 
+import com.app.app.global.common.ApiResponse;
+import com.app.app.global.util.SessionUtil;
+import com.app.domain.portfolio.dto.EfficientFrontierResponse;
+import com.app.domain.portfolio.dto.MonteCarloResponse;
+import com.app.domain.portfolio.dto.PortfolioOptimizationResponse;
+import com.app.domain.portfolio.service.EfficientFrontierService;
+import com.app.domain.portfolio.service.MonteCarloService;
+import com.app.domain.portfolio.service.PortfolioService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 포트폴리오 최적화 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
 public class PortfolioController {
-}
+
+    private final PortfolioService portfolioService;
+    private final EfficientFrontierService efficientFrontierService;
+    private final MonteCarloService monteCarloService;
+    private final SessionUtil sessionUtil;
+
+    /**
+     * 선택된 자산으로 최대 샤프 / 최소분산 포트폴리오 계산
+     */
+    @PostMapping("/optimize")
+    public ResponseEntity<ApiResponse> optimizePortfolio(HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("포트폴리오 최적화 요청 - 비즈니스 세션: {}", businessSessionId);
+
+        try {
+            PortfolioOptimizationResponse response = portfolioService.optimizePortfolio(businessSessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "포트폴리오 최적화가 완료되었습니다.",
+                    response
+            ));
+
+        } catch (IllegalStateException e) {
+            log.warn("포트폴리오 최적화 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INSUFFICIENT_DATA"
+            ));
+        } catch (Exception e) {
+            log.error("포트폴리오 최적화 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "포트폴리오 최적화 중 오류가 발생했습니다.",
+                    "OPTIMIZATION_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 저장된 최적 포트폴리오 조회
+     */
+    @GetMapping("/optimal")
+    public ResponseEntity<ApiResponse> getOptimalPortfolios(HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+
+        try {
+            PortfolioOptimizationResponse response = portfolioService.getOptimalPortfolios(businessSessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "최적 포트폴리오 조회가 완료되었습니다.",
+                    response
+            ));
+
+        } catch (Exception e) {
+            log.error("최적 포트폴리오 조회 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "최적 포트폴리오 조회 중 오류가 발생했습니다.",
+                    "QUERY_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 선택된 자산의 효율적 경계 생성
+     */
+    @PostMapping("/frontier")
+    public ResponseEntity<ApiResponse> generateFrontier(
+            @RequestParam(required = false) Integer points,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("효율적 경계 생성 요청 - 비즈니스 세션: {}, 점수: {}", businessSessionId, points);
+
+        try {
+            EfficientFrontierResponse response = efficientFrontierService.generateFrontier(businessSessionId, points);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "효율적 경계 생성이 완료되었습니다.",
+                    response
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 효율적 경계 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
+        } catch (IllegalStateException e) {
+            log.warn("효율적 경계 생성 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INSUFFICIENT_DATA"
+            ));
+        } catch (Exception e) {
+            log.error("효율적 경계 생성 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "효율적 경계 생성 중 오류가 발생했습니다.",
+                    "OPTIMIZATION_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 저장된 효율적 경계 조회
+     */
+    @GetMapping("/frontier")
+    public ResponseEntity<ApiResponse> getFrontier(HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+
+        try {
+            EfficientFrontierResponse response = efficientFrontierService.getFrontier(businessSessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "효율적 경계 조회가 완료되었습니다.",
+                    response
+            ));
+
+        } catch (Exception e) {
+            log.error("효율적 경계 조회 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "효율적 경계 조회 중 오류가 발생했습니다.",
+                    "QUERY_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 선택된 자산의 무작위 포트폴리오 시뮬레이션 (위험/수익 산점도)
+     */
+    @PostMapping("/simulation")
+    public ResponseEntity<ApiResponse> simulatePortfolios(
+            @RequestParam(required = false) Integer portfolios,
+            @RequestParam(required = false) Long seed,
+            HttpSession httpSession) {
+
+        String businessSessionId = sessionUtil.getBusinessSessionId(httpSession);
+        log.info("몬테카를로 시뮬레이션 요청 - 비즈니스 세션: {}, 포트폴리오 수: {}", businessSessionId, portfolios);
+
+        try {
+            MonteCarloResponse response = monteCarloService.simulate(businessSessionId, portfolios, seed);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    "몬테카를로 시뮬레이션이 완료되었습니다.",
+                    response
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 시뮬레이션 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INVALID_REQUEST"
+            ));
+        } catch (IllegalStateException e) {
+            log.warn("몬테카를로 시뮬레이션 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(
+                    e.getMessage(),
+                    "INSUFFICIENT_DATA"
+            ));
+        } catch (Exception e) {
+            log.error("몬테카를로 시뮬레이션 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "몬테카를로 시뮬레이션 중 오류가 발생했습니다.",
+                    "SIMULATION_ERROR"
+            ));
+        }
+    }
+
+}//class
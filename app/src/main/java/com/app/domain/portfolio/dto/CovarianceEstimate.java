@@ -0,0 +1,106 @@
+package com.app.domain.portfolio.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 종목군 공분산 추정 결과 (연환산)
+ * - 모든 배열의 인덱스는 tickers 순서
+ * - 표본 공분산과 Ledoit-Wolf 축소 공분산을 함께 보관
+ * - biasedCovariance, productVariance는 부분집합 추출 시 축소 강도를 다시 계산하기 위한 충분통계량
+ */
+public final class CovarianceEstimate {
+
+    private final List<String> tickers;
+    private final double[] mean;
+    private final double[][] sampleCovariance;
+    private final double[][] biasedCovariance;
+    private final double[][] productVariance;
+    private final double[][] shrinkageCovariance;
+    private final double shrinkageIntensity;
+    private final int[] observationCounts;
+    private final int observations;
+
+    public CovarianceEstimate(List<String> tickers, double[] mean, double[][] sampleCovariance,
+                              double[][] biasedCovariance, double[][] productVariance,
+                              double[][] shrinkageCovariance, double shrinkageIntensity,
+                              int[] observationCounts, int observations) {
+        this.tickers = Collections.unmodifiableList(tickers);
+        this.mean = mean;
+        this.sampleCovariance = sampleCovariance;
+        this.biasedCovariance = biasedCovariance;
+        this.productVariance = productVariance;
+        this.shrinkageCovariance = shrinkageCovariance;
+        this.shrinkageIntensity = shrinkageIntensity;
+        this.observationCounts = observationCounts;
+        this.observations = observations;
+    }
+
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    /**
+     * 연환산 기대수익률
+     */
+    public double[] getMean() {
+        return mean;
+    }
+
+    /**
+     * 표본 공분산 (쌍별 공통 관측일, n-1 분모)
+     */
+    public double[][] getSampleCovariance() {
+        return sampleCovariance;
+    }
+
+    /**
+     * 표본 공분산 (n 분모)
+     */
+    public double[][] getBiasedCovariance() {
+        return biasedCovariance;
+    }
+
+    /**
+     * 쌍별 (x_i·x_j) 표본 평균의 분산 추정치
+     */
+    public double[][] getProductVariance() {
+        return productVariance;
+    }
+
+    /**
+     * Ledoit-Wolf 축소 공분산 (목표: 평균 분산 × 단위행렬, 양의 준정부호로 보정됨)
+     */
+    public double[][] getShrinkageCovariance() {
+        return shrinkageCovariance;
+    }
+
+    /**
+     * 축소 강도 (0 = 표본 공분산, 1 = 목표 행렬)
+     */
+    public double getShrinkageIntensity() {
+        return shrinkageIntensity;
+    }
+
+    /**
+     * 종목별 유효 관측치 수
+     */
+    public int observationCount(int tickerIndex) {
+        return observationCounts[tickerIndex];
+    }
+
+    /**
+     * 분석 구간 거래일 수
+     */
+    public int getObservations() {
+        return observations;
+    }
+
+    /**
+     * 종목 수
+     */
+    public int size() {
+        return tickers.size();
+    }
+
+}//class
@@ -0,0 +1,68 @@
+package com.app.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 효율적 경계 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EfficientFrontierResponse {
+
+    private String sessionId;
+
+    /**
+     * 적용된 무위험 수익률
+     */
+    private Double riskFreeRate;
+
+    /**
+     * 경계 점 수
+     */
+    private Integer pointCount;
+
+    /**
+     * 경계 점 목록 (기대수익률 오름차순)
+     */
+    private List<FrontierPoint> points;
+
+    /**
+     * 최소분산 / 최대 샤프 포트폴리오
+     */
+    private FrontierPoint minVariance;
+    private FrontierPoint maxSharpe;
+
+    /**
+     * 계산 소요 시간 (ms, 조회 시 null)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 경계 점 1개
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FrontierPoint {
+        private Integer pointOrder;
+        private String portfolioType;
+        private Double expectedReturn;
+        private Double riskStdDev;
+        private Double sharpeRatio;
+
+        /**
+         * 티커별 비중 (선택 순서)
+         */
+        private Map<String, Double> weights;
+    }
+
+}//class
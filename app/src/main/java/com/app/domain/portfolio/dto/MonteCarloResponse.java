@@ -0,0 +1,75 @@
+package com.app.domain.portfolio.dto;
+
+import com.app.domain.portfolio.dto.EfficientFrontierResponse.FrontierPoint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 몬테카를로 무작위 포트폴리오 시뮬레이션 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonteCarloResponse {
+
+    private String sessionId;
+
+    /**
+     * 적용된 무위험 수익률
+     */
+    private Double riskFreeRate;
+
+    /**
+     * 생성한 포트폴리오 수
+     */
+    private Integer portfolioCount;
+
+    /**
+     * 난수 시드 (같은 시드면 같은 결과)
+     */
+    private Long seed;
+
+    /**
+     * 다운샘플링된 위험/수익 산점도
+     */
+    private List<ScatterPoint> scatter;
+
+    /**
+     * 시뮬레이션 중 발견한 최대 샤프 포트폴리오
+     */
+    private FrontierPoint bestPortfolio;
+
+    /**
+     * 최적화 엔진의 최대 샤프 비율 (시뮬레이션 결과와 비교용)
+     */
+    private Double optimalSharpeRatio;
+
+    /**
+     * 시뮬레이션 소요 시간 (ms)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 처리량 (포트폴리오/초)
+     */
+    private Long portfoliosPerSecond;
+
+    /**
+     * 산점도 점 1개
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScatterPoint {
+        private Double expectedReturn;
+        private Double riskStdDev;
+        private Double sharpeRatio;
+    }
+
+}//class
@@ -0,0 +1,77 @@
+package com.app.domain.portfolio.dto;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포트폴리오 최적화 입력 (선택 자산 + 연환산 평균/공분산)
+ * - mean[i], covariance[i][j]의 인덱스는 tickers 순서 (선택 순서)
+ */
+public final class PortfolioInputs {
+
+    private final List<String> tickers;
+    private final Map<String, String> stockNames;
+    private final double[] mean;
+    private final double[][] covariance;
+    private final double riskFreeRate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int observations;
+
+    public PortfolioInputs(List<String> tickers, Map<String, String> stockNames, double[] mean, double[][] covariance,
+                           double riskFreeRate, LocalDate startDate, LocalDate endDate, int observations) {
+        this.tickers = Collections.unmodifiableList(tickers);
+        this.stockNames = Collections.unmodifiableMap(stockNames);
+        this.mean = mean;
+        this.covariance = covariance;
+        this.riskFreeRate = riskFreeRate;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.observations = observations;
+    }
+
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    public Map<String, String> getStockNames() {
+        return stockNames;
+    }
+
+    public double[] getMean() {
+        return mean;
+    }
+
+    public double[][] getCovariance() {
+        return covariance;
+    }
+
+    public double getRiskFreeRate() {
+        return riskFreeRate;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * 분석 구간 거래일 수
+     */
+    public int getObservations() {
+        return observations;
+    }
+
+    /**
+     * 종목 수
+     */
+    public int size() {
+        return tickers.size();
+    }
+
+}//class
@@ -0,0 +1,77 @@
+package com.app.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 포트폴리오 최적화 결과 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioOptimizationResponse {
+
+    private String sessionId;
+
+    /**
+     * 적용된 무위험 수익률
+     */
+    private Double riskFreeRate;
+
+    /**
+     * 분석 기간
+     */
+    private LocalDate analysisStartDate;
+    private LocalDate analysisEndDate;
+
+    /**
+     * 분석 구간 거래일 수
+     */
+    private Integer observationCount;
+
+    /**
+     * 유형별 최적 포트폴리오 (max_sharpe, min_variance)
+     */
+    private List<PortfolioResult> portfolios;
+
+    /**
+     * 계산 소요 시간 (ms)
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 최적 포트폴리오 1건
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PortfolioResult {
+        private String portfolioType;
+        private String portfolioName;
+        private Double expectedReturn;
+        private Double portfolioRisk;
+        private Double sharpeRatio;
+        private List<AssetWeight> weights;
+    }
+
+    /**
+     * 종목별 비중
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AssetWeight {
+        private String ticker;
+        private String stockName;
+        private Double weight;
+    }
+
+}//class
@@ -0,0 +1,75 @@
+package com.app.domain.portfolio.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최적 포트폴리오 엔티티 (optimal_portfolio)
+ * - 포트폴리오 유형별 종목 비중 1행
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OptimalPortfolio {
+
+    /**
+     * 포트폴리오 ID (Primary Key)
+     */
+    private Long portfolioId;
+
+    /**
+     * 세션 ID
+     */
+    private String sessionId;
+
+    /**
+     * 티커 심볼
+     */
+    private String ticker;
+
+    /**
+     * 포트폴리오 내 비중 (0~1)
+     */
+    private Double weight;
+
+    /**
+     * 포트폴리오 유형 (max_sharpe, min_variance, efficient_portfolio)
+     */
+    private String portfolioType;
+
+    /**
+     * 포트폴리오 순위 (1-5)
+     */
+    private Integer portfolioRank;
+
+    /**
+     * 연환산 기대수익률
+     */
+    private Double expectedReturn;
+
+    /**
+     * 연환산 위험도 (표준편차)
+     */
+    private Double portfolioRisk;
+
+    /**
+     * 샤프 비율
+     */
+    private Double sharpeRatio;
+
+    /**
+     * 포트폴리오 명
+     */
+    private String portfolioName;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+
+}//class
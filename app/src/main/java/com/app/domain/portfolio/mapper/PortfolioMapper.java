@@ -0,0 +1,68 @@
+package com.app.domain.portfolio.mapper;
+
+import com.app.domain.portfolio.entity.EfficientFrontier;
+import com.app.domain.portfolio.entity.OptimalPortfolio;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 포트폴리오 최적화 Mapper
+ * - optimal_portfolio, efficient_frontier 저장/조회, portfolio_settings 조회
+ */
+@Mapper
+public interface PortfolioMapper {
+
+    /**
+     * 세션의 무위험 수익률 조회
+     * @param sessionId 세션 ID
+     * @return 무위험 수익률 (설정이 없으면 null)
+     */
+    Double findRiskFreeRate(@Param("sessionId") String sessionId);
+
+    /**
+     * 세션의 최적 포트폴리오 조회 (유형, 순위, 비중 내림차순)
+     * @param sessionId 세션 ID
+     * @return 최적 포트폴리오 행 목록
+     */
+    List<OptimalPortfolio> findOptimalPortfoliosBySessionId(@Param("sessionId") String sessionId);
+
+    /**
+     * 최적 포트폴리오 일괄 저장
+     * @param portfolios 저장할 행 목록
+     * @return 저장된 레코드 수
+     */
+    int insertOptimalPortfoliosBatch(@Param("portfolios") List<OptimalPortfolio> portfolios);
+
+    /**
+     * 세션의 최적 포트폴리오 삭제
+     * @param sessionId 세션 ID
+     * @return 삭제된 레코드 수
+     */
+    int deleteOptimalPortfolios(@Param("sessionId") String sessionId);
+
+    // ===== 효율적 경계 =====
+
+    /**
+     * 세션의 효율적 경계 조회 (특수 포트폴리오 포함, 점 순서대로)
+     * @param sessionId 세션 ID
+     * @return 경계 점 목록
+     */
+    List<EfficientFrontier> findFrontierBySessionId(@Param("sessionId") String sessionId);
+
+    /**
+     * 효율적 경계 점 일괄 저장
+     * @param points 저장할 점 목록
+     * @return 저장된 레코드 수
+     */
+    int insertFrontierBatch(@Param("points") List<EfficientFrontier> points);
+
+    /**
+     * 세션의 효율적 경계 삭제
+     * @param sessionId 세션 ID
+     * @return 삭제된 레코드 수
+     */
+    int deleteFrontier(@Param("sessionId") String sessionId);
+
+}//interface
@@ -0,0 +1,370 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.CovarianceEstimate;
+import com.app.domain.price.dto.AlignedReturns;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공분산 추정기 (표본 + Ledoit-Wolf 축소)
+ *
+ * 알고리즘:
+ * 1. 종목별 평균은 유효 관측치 기준, 공분산은 두 종목 모두 관측된 날 기준 (쌍별)
+ * 2. 축소 목표 F = m·I (m = 표본 분산 평균), Σ* = δ·F + (1-δ)·S
+ * 3. δ = min(b̄², d²) / d²
+ *    - d² = ‖S - m·I‖² / n
+ *    - b̄² = Σ_ij Var(x_i·x_j 표본 평균) / n
+ * 4. 모든 값은 연환산 (×252), δ는 척도 불변
+ * 5. 쌍별 공분산은 결측 패턴에 따라 양의 준정부호가 아닐 수 있음
+ *    → 축소 결과(와 최적화에 쓰는 표본 공분산)는 음의 고유값을 0으로 잘라 가장 가까운 준정부호 행렬로 보정
+ *
+ * 부분집합은 충분통계량(S, Var(x_i·x_j))의 부분 블록으로 δ만 다시 계산하므로 시계열 재조회가 필요 없음
+ * 한 종목 추가는 새 행/열의 통계량만 계산하여 기존 블록에 덧붙임
+ */
+public final class CovarianceEstimator {
+
+    /**
+     * 음의 고유값 허용 오차 (최대 대각 원소 대비)
+     */
+    private static final double EIGENVALUE_TOLERANCE = 1e-12;
+
+    private static final int MAX_JACOBI_SWEEPS = 100;
+
+    private CovarianceEstimator() {
+    }
+
+    /**
+     * 수익률 시계열에서 공분산 추정
+     * @param returns 정렬된 수익률 시계열
+     * @param from 분석 구간 시작 인덱스 (종료는 시계열 끝)
+     */
+    public static CovarianceEstimate estimate(AlignedReturns returns, int from) {
+        int n = returns.size();
+        int to = returns.length();
+        double annual = PortfolioOptimizer.TRADING_DAYS;
+
+        double[] mean = new double[n];
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            double[] series = returns.series(i);
+            double sum = 0.0;
+            for (int t = from; t < to; t++) {
+                if (!Double.isNaN(series[t])) {
+                    sum += series[t];
+                    counts[i]++;
+                }
+            }
+            mean[i] = counts[i] > 0 ? sum / counts[i] : 0.0;
+        }
+
+        double[][] sample = new double[n][n];
+        double[][] biased = new double[n][n];
+        double[][] productVariance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                pairStatistics(returns.series(i), returns.series(j), mean[i], mean[j], from, to, i, j,
+                        sample, biased, productVariance);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            mean[i] *= annual;
+        }
+        return build(returns.getTickers(), mean, sample, biased, productVariance, counts, Math.max(0, to - from));
+    }
+
+    /**
+     * 기존 추정 결과에 한 종목을 추가 (새 행/열만 계산, O(n·T))
+     * - 기존 종목 간 통계량은 그대로 재사용하고 축소 강도만 다시 계산
+     * @param base 기존 추정 결과 (같은 기간)
+     * @param returns base의 종목과 추가 종목을 모두 포함하는 수익률 시계열
+     * @param from 분석 구간 시작 인덱스 (종료는 시계열 끝)
+     * @param ticker 추가할 종목 (결과의 마지막 인덱스)
+     */
+    public static CovarianceEstimate extend(CovarianceEstimate base, AlignedReturns returns, int from, String ticker) {
+        int n = base.size() + 1;
+        int last = n - 1;
+        int to = returns.length();
+        double annual = PortfolioOptimizer.TRADING_DAYS;
+
+        int source = returns.indexOf(ticker);
+        if (source < 0) {
+            throw new IllegalArgumentException("수익률 시계열에 없는 종목입니다: " + ticker);
+        }
+        double[] added = returns.series(source);
+
+        double[] mean = new double[n];
+        int[] counts = new int[n];
+        double[][] sample = new double[n][n];
+        double[][] biased = new double[n][n];
+        double[][] productVariance = new double[n][n];
+        for (int i = 0; i < last; i++) {
+            mean[i] = base.getMean()[i];
+            counts[i] = base.observationCount(i);
+            System.arraycopy(base.getSampleCovariance()[i], 0, sample[i], 0, last);
+            System.arraycopy(base.getBiasedCovariance()[i], 0, biased[i], 0, last);
+            System.arraycopy(base.getProductVariance()[i], 0, productVariance[i], 0, last);
+        }
+
+        double sum = 0.0;
+        for (int t = from; t < to; t++) {
+            if (!Double.isNaN(added[t])) {
+                sum += added[t];
+                counts[last]++;
+            }
+        }
+        double addedMean = counts[last] > 0 ? sum / counts[last] : 0.0;
+
+        for (int i = 0; i < last; i++) {
+            int k = returns.indexOf(base.getTickers().get(i));
+            if (k < 0) {
+                throw new IllegalArgumentException("수익률 시계열에 없는 종목입니다: " + base.getTickers().get(i));
+            }
+            pairStatistics(returns.series(k), added, base.getMean()[i] / annual, addedMean, from, to, i, last,
+                    sample, biased, productVariance);
+        }
+        pairStatistics(added, added, addedMean, addedMean, from, to, last, last, sample, biased, productVariance);
+        mean[last] = addedMean * annual;
+
+        List<String> tickers = new ArrayList<>(base.getTickers());
+        tickers.add(ticker);
+        return build(tickers, mean, sample, biased, productVariance, counts, Math.max(0, to - from));
+    }
+
+    /**
+     * 종목 부분집합(또는 순서 변경) 추출, 축소 강도는 부분집합 기준으로 재계산
+     * @param source 원본 추정 결과 (tickers를 모두 포함해야 함)
+     * @param tickers 추출할 종목 (결과의 순서)
+     */
+    public static CovarianceEstimate subset(CovarianceEstimate source, List<String> tickers) {
+        Map<String, Integer> sourceIndex = new HashMap<>(source.size() * 2);
+        for (int i = 0; i < source.size(); i++) {
+            sourceIndex.put(source.getTickers().get(i), i);
+        }
+
+        int n = tickers.size();
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            Integer k = sourceIndex.get(tickers.get(i));
+            if (k == null) {
+                throw new IllegalArgumentException("공분산 추정 결과에 없는 종목입니다: " + tickers.get(i));
+            }
+            index[i] = k;
+        }
+
+        double[] mean = new double[n];
+        int[] counts = new int[n];
+        double[][] sample = new double[n][n];
+        double[][] biased = new double[n][n];
+        double[][] productVariance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            int a = index[i];
+            mean[i] = source.getMean()[a];
+            counts[i] = source.observationCount(a);
+            for (int j = 0; j < n; j++) {
+                int b = index[j];
+                sample[i][j] = source.getSampleCovariance()[a][b];
+                biased[i][j] = source.getBiasedCovariance()[a][b];
+                productVariance[i][j] = source.getProductVariance()[a][b];
+            }
+        }
+        return build(tickers, mean, sample, biased, productVariance, counts, source.getObservations());
+    }
+
+    /**
+     * 두 종목 모두 관측된 날 기준 공분산/교차곱 분산 계산 후 (i, j), (j, i)에 연환산하여 기록
+     * @param meanI 종목 i의 일간 평균
+     * @param meanJ 종목 j의 일간 평균
+     */
+    private static void pairStatistics(double[] si, double[] sj, double meanI, double meanJ, int from, int to,
+                                       int i, int j, double[][] sample, double[][] biased,
+                                       double[][] productVariance) {
+        double annual = PortfolioOptimizer.TRADING_DAYS;
+
+        // 1차 통과: 공분산
+        double sum = 0.0;
+        int count = 0;
+        for (int t = from; t < to; t++) {
+            double a = si[t];
+            double b = sj[t];
+            if (Double.isNaN(a) || Double.isNaN(b)) continue;
+            sum += (a - meanI) * (b - meanJ);
+            count++;
+        }
+        if (count == 0) return;
+        double s = sum / count;
+
+        // 2차 통과: 교차곱의 분산
+        double squares = 0.0;
+        for (int t = from; t < to; t++) {
+            double a = si[t];
+            double b = sj[t];
+            if (Double.isNaN(a) || Double.isNaN(b)) continue;
+            double d = (a - meanI) * (b - meanJ) - s;
+            squares += d * d;
+        }
+
+        double unbiased = count > 1 ? sum / (count - 1) * annual : 0.0;
+        double pi = squares / count / count * annual * annual;
+        sample[i][j] = sample[j][i] = unbiased;
+        biased[i][j] = biased[j][i] = s * annual;
+        productVariance[i][j] = productVariance[j][i] = pi;
+    }
+
+    /**
+     * 충분통계량으로 Ledoit-Wolf 축소 공분산 계산
+     */
+    private static CovarianceEstimate build(List<String> tickers, double[] mean, double[][] sample, double[][] biased,
+                                            double[][] productVariance, int[] counts, int observations) {
+        int n = mean.length;
+
+        double m = 0.0;
+        for (int i = 0; i < n; i++) {
+            m += biased[i][i];
+        }
+        m = n > 0 ? m / n : 0.0;
+
+        double d2 = 0.0;
+        double b2 = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double diff = biased[i][j] - (i == j ? m : 0.0);
+                d2 += diff * diff;
+                b2 += productVariance[i][j];
+            }
+        }
+        if (n > 0) {
+            d2 /= n;
+            b2 /= n;
+        }
+        double intensity = d2 > 0.0 ? Math.min(b2, d2) / d2 : 0.0;
+
+        double[][] shrunk = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                shrunk[i][j] = (1.0 - intensity) * biased[i][j] + (i == j ? intensity * m : 0.0);
+            }
+        }
+
+        return new CovarianceEstimate(new ArrayList<>(tickers), mean, sample, biased, productVariance,
+                positiveSemidefinite(shrunk), intensity, counts, observations);
+    }
+
+    /**
+     * 양의 준정부호 보정 (Frobenius 노름 기준 가장 가까운 준정부호 행렬)
+     * - 음의 고유값을 0으로 잘라 재구성, 이미 준정부호이면 입력 배열을 그대로 반환
+     * @param matrix 대칭 행렬
+     * @return 준정부호 행렬 (보정 시 새 배열)
+     */
+    public static double[][] positiveSemidefinite(double[][] matrix) {
+        int n = matrix.length;
+        if (n == 0) return matrix;
+
+        double[][] vectors = new double[n][n];
+        double[] values = symmetricEigen(matrix, vectors);
+
+        double scale = 0.0;
+        for (int i = 0; i < n; i++) {
+            scale = Math.max(scale, Math.abs(matrix[i][i]));
+        }
+        double tolerance = EIGENVALUE_TOLERANCE * Math.max(scale, Double.MIN_NORMAL);
+
+        boolean negative = false;
+        for (double value : values) {
+            if (value < -tolerance) {
+                negative = true;
+                break;
+            }
+        }
+        if (!negative) return matrix;
+
+        double[][] repaired = new double[n][n];
+        for (int k = 0; k < n; k++) {
+            double value = Math.max(values[k], 0.0);
+            if (value == 0.0) continue;
+            for (int i = 0; i < n; i++) {
+                double vi = vectors[i][k] * value;
+                for (int j = 0; j < n; j++) {
+                    repaired[i][j] += vi * vectors[j][k];
+                }
+            }
+        }
+        // 재구성 반올림 오차로 생긴 비대칭 제거
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double average = (repaired[i][j] + repaired[j][i]) / 2;
+                repaired[i][j] = repaired[j][i] = average;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 대칭 행렬 고유값 분해 (순환 Jacobi 회전)
+     * @param vectors 고유벡터 출력 (열 k가 k번째 고유값의 고유벡터)
+     * @return 고유값
+     */
+    static double[] symmetricEigen(double[][] matrix, double[][] vectors) {
+        int n = matrix.length;
+        double[][] a = new double[n][];
+        for (int i = 0; i < n; i++) {
+            a[i] = matrix[i].clone();
+            Arrays.fill(vectors[i], 0.0);
+            vectors[i][i] = 1.0;
+        }
+
+        for (int sweep = 0; sweep < MAX_JACOBI_SWEEPS; sweep++) {
+            double offDiagonal = 0.0;
+            double diagonal = 0.0;
+            for (int i = 0; i < n; i++) {
+                diagonal += a[i][i] * a[i][i];
+                for (int j = i + 1; j < n; j++) {
+                    offDiagonal += a[i][j] * a[i][j];
+                }
+            }
+            if (offDiagonal <= 1e-30 * Math.max(diagonal, Double.MIN_NORMAL)) break;
+
+            for (int p = 0; p < n; p++) {
+                for (int q = p + 1; q < n; q++) {
+                    if (a[p][q] == 0.0) continue;
+
+                    double theta = (a[q][q] - a[p][p]) / (2.0 * a[p][q]);
+                    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+                    if (theta == 0.0) t = 1.0;
+                    double c = 1.0 / Math.sqrt(t * t + 1.0);
+                    double s = t * c;
+
+                    for (int k = 0; k < n; k++) {
+                        double akp = a[k][p];
+                        double akq = a[k][q];
+                        a[k][p] = c * akp - s * akq;
+                        a[k][q] = s * akp + c * akq;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double apk = a[p][k];
+                        double aqk = a[q][k];
+                        a[p][k] = c * apk - s * aqk;
+                        a[q][k] = s * apk + c * aqk;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double vkp = vectors[k][p];
+                        double vkq = vectors[k][q];
+                        vectors[k][p] = c * vkp - s * vkq;
+                        vectors[k][q] = s * vkp + c * vkq;
+                    }
+                }
+            }
+        }
+
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = a[i][i];
+        }
+        return values;
+    }
+
+}//class
@@ -0,0 +1,152 @@
+package com.app.domain.portfolio.service;
+
+import com.app.app.global.util.LruCache;
+import com.app.domain.portfolio.dto.CovarianceEstimate;
+import com.app.domain.price.dto.AlignedReturns;
+import com.app.domain.price.event.StockReturnsRefreshedEvent;
+import com.app.domain.price.service.ReturnSeriesService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종목군 공분산 추정 서비스 (세션 간 공유 캐시)
+ * - 키: (정렬된 종목 집합, 분석 시작일, 기준일) — 선택 순서와 무관
+ * - 정확히 일치하는 항목이 없으면 같은 기간의 상위 집합 항목에서 부분 블록을 추출 (시계열 재조회 없음)
+ * - 한 종목만 추가된 요청은 기존 항목에 새 행/열만 계산하여 확장 (종목 제거는 상위 집합 재사용으로 처리)
+ * - 둘 다 없을 때만 수익률 시계열을 로딩하여 추정
+ * - 수익률 데이터가 새로 적재되면 전체 무효화
+ * - 적중/미스는 요청 단위로 한 번만 집계 (적중 = 수익률 시계열 재조회 없이 응답)
+ */
+@Slf4j
+@Service
+public class CovarianceService {
+
+    private final ReturnSeriesService returnSeriesService;
+    private final LruCache<Key, CovarianceEstimate> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CovarianceService(ReturnSeriesService returnSeriesService,
+                             @Value("${portfolio.covariance.cache.max-size:200}") int maxSize,
+                             @Value("${portfolio.covariance.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.returnSeriesService = returnSeriesService;
+        this.cache = new LruCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /**
+     * 기간 내 종목군 공분산 추정 (캐시 우선)
+     * @param tickers 티커 목록 (결과의 순서)
+     * @param startDate 분석 시작일
+     * @param endDate 기준일
+     * @return 공분산 추정 결과
+     */
+    public CovarianceEstimate getEstimate(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+        Key key = Key.of(tickers, startDate, endDate);
+
+        // 1. 정확히 일치
+        CovarianceEstimate cached = cache.get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return CovarianceEstimator.subset(cached, tickers);
+        }
+
+        // 2. 같은 기간의 상위 집합
+        CovarianceEstimate superset = cache.find(candidate -> candidate.covers(key));
+        if (superset != null) {
+            hitCount.incrementAndGet();
+            log.debug("공분산 캐시 부분집합 재사용 - 요청 종목수: {}, 원본 종목수: {}", tickers.size(), superset.size());
+            return CovarianceEstimator.subset(superset, tickers);
+        }
+
+        missCount.incrementAndGet();
+
+        // 3. 같은 기간에서 한 종목만 빠진 항목 → 새 행/열만 계산하여 확장
+        CovarianceEstimate base = cache.find(candidate -> candidate.extendsTo(key));
+        if (base != null) {
+            String added = key.tickers().stream()
+                    .filter(ticker -> !base.getTickers().contains(ticker))
+                    .findFirst()
+                    .orElseThrow();
+            List<String> loadTickers = new ArrayList<>(base.getTickers());
+            loadTickers.add(added);
+            AlignedReturns returns = returnSeriesService.loadAlignedReturns(loadTickers, startDate, endDate);
+            CovarianceEstimate extended = CovarianceEstimator.extend(base, returns, 0, added);
+            cache.put(key, extended);
+
+            log.debug("공분산 캐시 확장 - 추가 종목: {}, 종목수: {}", added, extended.size());
+            return CovarianceEstimator.subset(extended, tickers);
+        }
+
+        // 4. 신규 추정 (정렬된 종목 순서로 보관)
+        List<String> sorted = new ArrayList<>(key.tickers());
+        Collections.sort(sorted);
+        AlignedReturns returns = returnSeriesService.loadAlignedReturns(sorted, startDate, endDate);
+        CovarianceEstimate estimate = CovarianceEstimator.estimate(returns, 0);
+        cache.put(key, estimate);
+
+        log.debug("공분산 추정 완료 - 종목수: {}, 거래일수: {}, 축소 강도: {}",
+                sorted.size(), estimate.getObservations(), estimate.getShrinkageIntensity());
+        return CovarianceEstimator.subset(estimate, tickers);
+    }
+
+    /**
+     * 전체 캐시 무효화 (주가 데이터 변경 시)
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * 수익률 데이터가 새로 적재되면 캐시 무효화 (적재 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReturnsRefreshed(StockReturnsRefreshedEvent event) {
+        invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 캐시 키 (종목 집합은 순서 무관)
+     */
+    private record Key(Set<String> tickers, LocalDate startDate, LocalDate endDate) {
+
+        static Key of(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+            return new Key(Set.copyOf(tickers), startDate, endDate);
+        }
+
+        /**
+         * 같은 기간이고 other의 종목을 모두 포함하는지 여부
+         */
+        boolean covers(Key other) {
+            return startDate.equals(other.startDate) && endDate.equals(other.endDate)
+                    && tickers.containsAll(other.tickers);
+        }
+
+        /**
+         * 같은 기간이고 other보다 정확히 한 종목이 적은 부분집합인지 여부
+         */
+        boolean extendsTo(Key other) {
+            return startDate.equals(other.startDate) && endDate.equals(other.endDate)
+                    && tickers.size() + 1 == other.tickers.size() && other.tickers.containsAll(tickers);
+        }
+    }
+
+}//class
@@ -0,0 +1,253 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.EfficientFrontierResponse;
+import com.app.domain.portfolio.dto.EfficientFrontierResponse.FrontierPoint;
+import com.app.domain.portfolio.dto.PortfolioInputs;
+import com.app.domain.portfolio.entity.EfficientFrontier;
+import com.app.domain.portfolio.mapper.PortfolioMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 효율적 경계 생성 서비스
+ *
+ * 알고리즘:
+ * 1. 최소분산 포트폴리오 수익률 ~ 최고 기대수익률 종목 수익률 구간을 N개 목표 수익률로 균등 분할
+ * 2. 목표 수익률을 청크로 나누어 fork-join 병렬 처리
+ * 3. 청크 내부는 직전 점의 비중으로 warm start 하여 순차 계산 (인접 목표의 해는 거의 같으므로 수십 회 반복으로 수렴)
+ * 4. 경계 점 + 최소분산 / 최대 샤프 포트폴리오를 efficient_frontier에 세션 단위로 교체 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EfficientFrontierService {
+
+    public static final String TYPE_FRONTIER = "efficient_frontier";
+
+    private final PortfolioMapper portfolioMapper;
+    private final PortfolioInputService portfolioInputService;
+    private final ForkJoinPool computeForkJoinPool;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기본 경계 점 수
+     */
+    @Value("${portfolio.frontier.default-points:50}")
+    private int defaultPoints;
+
+    /**
+     * 최대 경계 점 수
+     */
+    @Value("${portfolio.frontier.max-points:200}")
+    private int maxPoints;
+
+    /**
+     * 병렬 작업 1개가 순차 계산하는 경계 점 수
+     */
+    @Value("${portfolio.frontier.chunk-size:10}")
+    private int chunkSize;
+
+    /**
+     * 효율적 경계 계산 후 저장
+     * @param sessionId 세션 ID
+     * @param points 경계 점 수 (null이면 기본값)
+     * @return 효율적 경계
+     */
+    public EfficientFrontierResponse generateFrontier(String sessionId, Integer points) {
+        int pointCount = points != null ? points : defaultPoints;
+        if (pointCount < 2 || pointCount > maxPoints) {
+            throw new IllegalArgumentException("경계 점 수는 2개 이상 " + maxPoints + "개 이하여야 합니다.");
+        }
+
+        long started = System.nanoTime();
+
+        // 1. 입력 및 양 끝점
+        PortfolioInputs inputs = portfolioInputService.loadInputs(sessionId);
+        double[] mean = inputs.getMean();
+        double[][] cov = inputs.getCovariance();
+
+        double[] minVariance = PortfolioOptimizer.minimizeVariance(cov);
+        double[] maxSharpe = PortfolioOptimizer.maximizeSharpe(cov, mean, inputs.getRiskFreeRate(), minVariance);
+
+        double lowReturn = PortfolioOptimizer.expectedReturn(mean, minVariance);
+        double highReturn = lowReturn;
+        for (double m : mean) {
+            highReturn = Math.max(highReturn, m);
+        }
+
+        double[] targets = new double[pointCount];
+        for (int k = 0; k < pointCount; k++) {
+            targets[k] = lowReturn + (highReturn - lowReturn) * k / (pointCount - 1);
+        }
+
+        // 2. 청크 단위 병렬 계산 (청크 내부 warm start)
+        double[][] weights = new double[pointCount][];
+        int chunks = (pointCount + chunkSize - 1) / chunkSize;
+        computeForkJoinPool.invoke(new FrontierChunkTask(cov, mean, targets, minVariance, weights, 0, chunks));
+
+        // 3. 응답 및 저장
+        List<FrontierPoint> frontier = new ArrayList<>(pointCount);
+        for (int k = 0; k < pointCount; k++) {
+            frontier.add(FrontierPoints.of(k + 1, TYPE_FRONTIER, inputs, weights[k]));
+        }
+        FrontierPoint minVariancePoint = FrontierPoints.of(null, PortfolioServiceImpl.TYPE_MIN_VARIANCE, inputs, minVariance);
+        FrontierPoint maxSharpePoint = FrontierPoints.of(null, PortfolioServiceImpl.TYPE_MAX_SHARPE, inputs, maxSharpe);
+
+        saveFrontier(sessionId, frontier, minVariancePoint, maxSharpePoint);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("효율적 경계 생성 완료 - 세션: {}, 종목수: {}, 점수: {}, 소요: {}ms",
+                sessionId, inputs.size(), pointCount, elapsedMillis);
+
+        return EfficientFrontierResponse.builder()
+                .sessionId(sessionId)
+                .riskFreeRate(inputs.getRiskFreeRate())
+                .pointCount(pointCount)
+                .points(frontier)
+                .minVariance(minVariancePoint)
+                .maxSharpe(maxSharpePoint)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 저장된 효율적 경계 조회
+     * @param sessionId 세션 ID
+     * @return 효율적 경계 (저장된 결과가 없으면 points가 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public EfficientFrontierResponse getFrontier(String sessionId) {
+        List<FrontierPoint> frontier = new ArrayList<>();
+        FrontierPoint minVariancePoint = null;
+        FrontierPoint maxSharpePoint = null;
+
+        for (EfficientFrontier row : portfolioMapper.findFrontierBySessionId(sessionId)) {
+            FrontierPoint point = FrontierPoint.builder()
+                    .pointOrder(row.getPointOrder())
+                    .portfolioType(row.getPortfolioType())
+                    .expectedReturn(row.getExpectedReturn())
+                    .riskStdDev(row.getRiskStdDev())
+                    .sharpeRatio(row.getSharpeRatio())
+                    .weights(readWeights(row.getPortfolioWeights()))
+                    .build();
+
+            if (PortfolioServiceImpl.TYPE_MIN_VARIANCE.equals(row.getPortfolioType())) {
+                minVariancePoint = point;
+            } else if (PortfolioServiceImpl.TYPE_MAX_SHARPE.equals(row.getPortfolioType())) {
+                maxSharpePoint = point;
+            } else {
+                frontier.add(point);
+            }
+        }
+
+        return EfficientFrontierResponse.builder()
+                .sessionId(sessionId)
+                .riskFreeRate(portfolioInputService.resolveRiskFreeRate(sessionId))
+                .pointCount(frontier.size())
+                .points(frontier)
+                .minVariance(minVariancePoint)
+                .maxSharpe(maxSharpePoint)
+                .build();
+    }
+
+    /**
+     * 청크 범위를 분할 정복으로 처리하는 fork-join 작업
+     */
+    private final class FrontierChunkTask extends RecursiveAction {
+
+        private final double[][] cov;
+        private final double[] mean;
+        private final double[] targets;
+        private final double[] initial;
+        private final double[][] weights;
+        private final int chunkFrom;
+        private final int chunkTo;
+
+        private FrontierChunkTask(double[][] cov, double[] mean, double[] targets, double[] initial,
+                                  double[][] weights, int chunkFrom, int chunkTo) {
+            this.cov = cov;
+            this.mean = mean;
+            this.targets = targets;
+            this.initial = initial;
+            this.weights = weights;
+            this.chunkFrom = chunkFrom;
+            this.chunkTo = chunkTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (chunkTo - chunkFrom > 1) {
+                int mid = (chunkFrom + chunkTo) >>> 1;
+                invokeAll(new FrontierChunkTask(cov, mean, targets, initial, weights, chunkFrom, mid),
+                        new FrontierChunkTask(cov, mean, targets, initial, weights, mid, chunkTo));
+                return;
+            }
+
+            int from = chunkFrom * chunkSize;
+            int to = Math.min(targets.length, from + chunkSize);
+            double[] start = initial;
+            for (int k = from; k < to; k++) {
+                weights[k] = PortfolioOptimizer.minimizeVarianceForReturn(cov, mean, targets[k], start);
+                start = weights[k];
+            }
+        }
+    }
+
+    private void saveFrontier(String sessionId, List<FrontierPoint> frontier,
+                              FrontierPoint minVariancePoint, FrontierPoint maxSharpePoint) {
+        List<EfficientFrontier> rows = new ArrayList<>(frontier.size() + 2);
+        for (FrontierPoint point : frontier) {
+            rows.add(toEntity(sessionId, point));
+        }
+        rows.add(toEntity(sessionId, minVariancePoint));
+        rows.add(toEntity(sessionId, maxSharpePoint));
+
+        portfolioMapper.deleteFrontier(sessionId);
+        portfolioMapper.insertFrontierBatch(rows);
+    }
+
+    private EfficientFrontier toEntity(String sessionId, FrontierPoint point) {
+        return EfficientFrontier.builder()
+                .sessionId(sessionId)
+                .expectedReturn(point.getExpectedReturn())
+                .riskStdDev(point.getRiskStdDev())
+                .sharpeRatio(point.getSharpeRatio())
+                .portfolioWeights(writeWeights(point.getWeights()))
+                .portfolioType(point.getPortfolioType())
+                .pointOrder(point.getPointOrder())
+                .build();
+    }
+
+    private String writeWeights(Map<String, Double> weights) {
+        try {
+            return objectMapper.writeValueAsString(weights);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포트폴리오 비중 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Double> readWeights(String json) {
+        if (json == null) return new LinkedHashMap<>();
+        try {
+            return objectMapper.readValue(json, new TypeReference<LinkedHashMap<String, Double>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("포트폴리오 비중 JSON 파싱 실패: {}", e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+}//class
@@ -0,0 +1,45 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.EfficientFrontierResponse.FrontierPoint;
+import com.app.domain.portfolio.dto.PortfolioInputs;
+import com.app.domain.portfolio.util.PortfolioRounding;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최적화/시뮬레이션 비중을 응답용 포트폴리오 지점으로 변환하는 유틸리티
+ * - 효율적 투자선, 몬테카를로 서비스가 공유 (반올림은 PortfolioRounding)
+ */
+public final class FrontierPoints {
+
+    private FrontierPoints() {
+    }
+
+    /**
+     * 비중으로 포트폴리오 지점 생성 (기대수익률, 위험, 샤프 비율은 입력으로 계산)
+     * @param pointOrder 투자선 내 순서 (해당 없으면 null)
+     * @param type 포트폴리오 유형
+     * @param inputs 최적화 입력
+     * @param weights 종목 비중 (inputs의 종목 순서)
+     */
+    public static FrontierPoint of(Integer pointOrder, String type, PortfolioInputs inputs, double[] weights) {
+        double expectedReturn = PortfolioOptimizer.expectedReturn(inputs.getMean(), weights);
+        double risk = PortfolioOptimizer.risk(inputs.getCovariance(), weights);
+
+        Map<String, Double> weightMap = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            weightMap.put(inputs.getTickers().get(i), PortfolioRounding.round(weights[i]));
+        }
+
+        return FrontierPoint.builder()
+                .pointOrder(pointOrder)
+                .portfolioType(type)
+                .expectedReturn(PortfolioRounding.round(expectedReturn))
+                .riskStdDev(PortfolioRounding.round(risk))
+                .sharpeRatio(PortfolioRounding.round(PortfolioOptimizer.sharpeRatio(expectedReturn, risk, inputs.getRiskFreeRate())))
+                .weights(weightMap)
+                .build();
+    }
+
+}//class
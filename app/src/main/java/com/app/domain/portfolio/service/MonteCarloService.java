@@ -0,0 +1,102 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.MonteCarloResponse;
+import com.app.domain.portfolio.dto.MonteCarloResponse.ScatterPoint;
+import com.app.domain.portfolio.dto.PortfolioInputs;
+import com.app.domain.portfolio.util.PortfolioRounding;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 몬테카를로 무작위 포트폴리오 시뮬레이션 서비스
+ * - 선택 자산의 실현 가능한 위험/수익 영역 시각화용 (결과는 저장하지 않음)
+ * - 공분산은 PortfolioInputService에서 한 번만 계산하고 시뮬레이션은 MonteCarloSimulator가 병렬 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonteCarloService {
+
+    private final PortfolioInputService portfolioInputService;
+    private final ForkJoinPool computeForkJoinPool;
+
+    /**
+     * 기본 포트폴리오 수
+     */
+    @Value("${portfolio.montecarlo.default-portfolios:100000}")
+    private int defaultPortfolios;
+
+    /**
+     * 최대 포트폴리오 수
+     */
+    @Value("${portfolio.montecarlo.max-portfolios:1000000}")
+    private int maxPortfolios;
+
+    /**
+     * 산점도 최대 점 수
+     */
+    @Value("${portfolio.montecarlo.sample-size:2000}")
+    private int sampleSize;
+
+    /**
+     * 무작위 포트폴리오 시뮬레이션
+     * @param sessionId 세션 ID
+     * @param portfolios 생성할 포트폴리오 수 (null이면 기본값)
+     * @param seed 난수 시드 (null이면 임의)
+     * @return 시뮬레이션 결과
+     */
+    public MonteCarloResponse simulate(String sessionId, Integer portfolios, Long seed) {
+        int portfolioCount = portfolios != null ? portfolios : defaultPortfolios;
+        if (portfolioCount < 1 || portfolioCount > maxPortfolios) {
+            throw new IllegalArgumentException("포트폴리오 수는 1개 이상 " + maxPortfolios + "개 이하여야 합니다.");
+        }
+        long appliedSeed = seed != null ? seed : System.nanoTime();
+
+        PortfolioInputs inputs = portfolioInputService.loadInputs(sessionId);
+        double[] mean = inputs.getMean();
+        double[][] cov = inputs.getCovariance();
+        double riskFreeRate = inputs.getRiskFreeRate();
+
+        long started = System.nanoTime();
+        MonteCarloSimulator.Result result = MonteCarloSimulator.simulate(mean, cov, riskFreeRate,
+                portfolioCount, sampleSize, appliedSeed, computeForkJoinPool);
+        long elapsedNanos = System.nanoTime() - started;
+
+        List<ScatterPoint> scatter = new ArrayList<>(result.sampleCount());
+        for (int k = 0; k < result.sampleCount(); k++) {
+            scatter.add(ScatterPoint.builder()
+                    .expectedReturn(PortfolioRounding.round(result.sampleReturn(k)))
+                    .riskStdDev(PortfolioRounding.round(result.sampleRisk(k)))
+                    .sharpeRatio(PortfolioRounding.round(result.sampleSharpe(k)))
+                    .build());
+        }
+
+        double[] optimal = PortfolioOptimizer.maximizeSharpe(cov, mean, riskFreeRate,
+                PortfolioOptimizer.minimizeVariance(cov));
+        double optimalSharpe = PortfolioOptimizer.sharpeRatio(PortfolioOptimizer.expectedReturn(mean, optimal),
+                PortfolioOptimizer.risk(cov, optimal), riskFreeRate);
+
+        long portfoliosPerSecond = elapsedNanos > 0 ? Math.round(portfolioCount * 1e9 / elapsedNanos) : 0L;
+        log.info("몬테카를로 시뮬레이션 완료 - 세션: {}, 종목수: {}, 포트폴리오: {}, 소요: {}ms, 처리량: {}/s",
+                sessionId, inputs.size(), portfolioCount, elapsedNanos / 1_000_000, portfoliosPerSecond);
+
+        return MonteCarloResponse.builder()
+                .sessionId(sessionId)
+                .riskFreeRate(riskFreeRate)
+                .portfolioCount(portfolioCount)
+                .seed(appliedSeed)
+                .scatter(scatter)
+                .bestPortfolio(FrontierPoints.of(null, PortfolioServiceImpl.TYPE_MAX_SHARPE, inputs, result.getBestWeights()))
+                .optimalSharpeRatio(PortfolioRounding.round(optimalSharpe))
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .portfoliosPerSecond(portfoliosPerSecond)
+                .build();
+    }
+
+}//class
@@ -0,0 +1,218 @@
+package com.app.domain.portfolio.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 무작위 포트폴리오 몬테카를로 시뮬레이터
+ *
+ * 알고리즘:
+ * 1. 비중은 심플렉스 위 균등분포 (Dirichlet(1) = 지수분포 난수 정규화)
+ * 2. 포트폴리오 인덱스 구간을 분할 정복으로 나누고, 분할 시점에 SplittableRandom.split()으로 독립 난수열 배정
+ *    (분할 트리가 고정이므로 같은 시드면 스레드 수/스케줄과 무관하게 결과 동일)
+ * 3. 리프 작업은 작업 버퍼를 한 번만 할당하고 내부 루프는 할당 없이 수익률/변동성/샤프 계산
+ * 4. 산점도는 전역 인덱스 stride 간격으로 다운샘플링하여 미리 할당된 배열에 직접 기록
+ * 5. 리프별 최대 샤프 포트폴리오를 보관 후 병합
+ */
+public final class MonteCarloSimulator {
+
+    /**
+     * 리프 작업 1개가 평가하는 포트폴리오 수
+     */
+    private static final int LEAF_SIZE = 16_384;
+
+    private MonteCarloSimulator() {
+    }
+
+    /**
+     * 시뮬레이션 실행
+     * @param mean 연환산 기대수익률
+     * @param cov 연환산 공분산 행렬
+     * @param riskFreeRate 무위험 수익률
+     * @param portfolios 생성할 포트폴리오 수
+     * @param sampleSize 산점도 최대 점 수
+     * @param seed 난수 시드
+     * @param pool 병렬 계산에 사용할 ForkJoinPool
+     */
+    public static Result simulate(double[] mean, double[][] cov, double riskFreeRate, int portfolios,
+                                  int sampleSize, long seed, ForkJoinPool pool) {
+        int stride = Math.max(1, (portfolios + sampleSize - 1) / sampleSize);
+        int samples = (portfolios + stride - 1) / stride;
+
+        Result result = new Result(mean.length, samples, stride);
+        int leaves = (portfolios + LEAF_SIZE - 1) / LEAF_SIZE;
+        Best[] bests = new Best[leaves];
+
+        if (leaves > 0) {
+            pool.invoke(new SimulationTask(mean, cov, riskFreeRate, portfolios, result, bests,
+                    new SplittableRandom(seed), 0, leaves));
+        }
+
+        // 리프 순서대로 병합 (동률이면 앞선 리프 우선)
+        for (Best best : bests) {
+            if (best != null && best.sharpe > result.bestSharpe) {
+                result.bestSharpe = best.sharpe;
+                System.arraycopy(best.weights, 0, result.bestWeights, 0, best.weights.length);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 리프 구간을 분할 정복으로 처리하는 fork-join 작업
+     */
+    private static final class SimulationTask extends RecursiveAction {
+
+        private final double[] mean;
+        private final double[][] cov;
+        private final double riskFreeRate;
+        private final int portfolios;
+        private final Result result;
+        private final Best[] bests;
+        private final SplittableRandom random;
+        private final int leafFrom;
+        private final int leafTo;
+
+        private SimulationTask(double[] mean, double[][] cov, double riskFreeRate, int portfolios, Result result,
+                               Best[] bests, SplittableRandom random, int leafFrom, int leafTo) {
+            this.mean = mean;
+            this.cov = cov;
+            this.riskFreeRate = riskFreeRate;
+            this.portfolios = portfolios;
+            this.result = result;
+            this.bests = bests;
+            this.random = random;
+            this.leafFrom = leafFrom;
+            this.leafTo = leafTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (leafTo - leafFrom > 1) {
+                int mid = (leafFrom + leafTo) >>> 1;
+                SplittableRandom left = random.split();
+                invokeAll(new SimulationTask(mean, cov, riskFreeRate, portfolios, result, bests, left, leafFrom, mid),
+                        new SimulationTask(mean, cov, riskFreeRate, portfolios, result, bests, random, mid, leafTo));
+                return;
+            }
+            bests[leafFrom] = simulateLeaf(mean, cov, riskFreeRate, result, random,
+                    leafFrom * LEAF_SIZE, Math.min(portfolios, (leafFrom + 1) * LEAF_SIZE));
+        }
+    }
+
+    /**
+     * 리프 구간 [from, to) 포트폴리오 평가
+     */
+    private static Best simulateLeaf(double[] mean, double[][] cov, double riskFreeRate, Result result,
+                                     SplittableRandom random, int from, int to) {
+        int n = mean.length;
+        double[] w = new double[n];
+        Best best = new Best(n);
+        int stride = result.stride;
+
+        for (int p = from; p < to; p++) {
+            // 1. Dirichlet(1) 비중
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                double e = -Math.log(1.0 - random.nextDouble());
+                w[i] = e;
+                sum += e;
+            }
+            double inv = 1.0 / sum;
+            double expectedReturn = 0.0;
+            for (int i = 0; i < n; i++) {
+                w[i] *= inv;
+                expectedReturn += w[i] * mean[i];
+            }
+
+            // 2. wᵀΣw (대칭성 이용, 상삼각만)
+            double variance = 0.0;
+            for (int i = 0; i < n; i++) {
+                double[] row = cov[i];
+                double cross = 0.0;
+                for (int j = i + 1; j < n; j++) {
+                    cross += row[j] * w[j];
+                }
+                variance += w[i] * (row[i] * w[i] + 2.0 * cross);
+            }
+            double risk = Math.sqrt(Math.max(variance, 0.0));
+            double sharpe = risk > 0.0 ? (expectedReturn - riskFreeRate) / risk : 0.0;
+
+            // 3. 산점도 다운샘플링
+            if (p % stride == 0) {
+                int k = p / stride;
+                result.sampleReturns[k] = expectedReturn;
+                result.sampleRisks[k] = risk;
+                result.sampleSharpes[k] = sharpe;
+            }
+
+            // 4. 최대 샤프 갱신
+            if (sharpe > best.sharpe) {
+                best.sharpe = sharpe;
+                System.arraycopy(w, 0, best.weights, 0, n);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 리프별 최대 샤프 포트폴리오
+     */
+    private static final class Best {
+        private final double[] weights;
+        private double sharpe = Double.NEGATIVE_INFINITY;
+
+        private Best(int n) {
+            this.weights = new double[n];
+        }
+    }
+
+    /**
+     * 시뮬레이션 결과 (다운샘플링된 산점도 + 최대 샤프 포트폴리오)
+     */
+    public static final class Result {
+        private final double[] sampleReturns;
+        private final double[] sampleRisks;
+        private final double[] sampleSharpes;
+        private final int stride;
+        private final double[] bestWeights;
+        private double bestSharpe = Double.NEGATIVE_INFINITY;
+
+        private Result(int n, int samples, int stride) {
+            this.sampleReturns = new double[samples];
+            this.sampleRisks = new double[samples];
+            this.sampleSharpes = new double[samples];
+            this.stride = stride;
+            this.bestWeights = new double[n];
+        }
+
+        /**
+         * 산점도 점 수
+         */
+        public int sampleCount() {
+            return sampleReturns.length;
+        }
+
+        public double sampleReturn(int k) {
+            return sampleReturns[k];
+        }
+
+        public double sampleRisk(int k) {
+            return sampleRisks[k];
+        }
+
+        public double sampleSharpe(int k) {
+            return sampleSharpes[k];
+        }
+
+        public double[] getBestWeights() {
+            return bestWeights;
+        }
+
+        public double getBestSharpe() {
+            return bestSharpe;
+        }
+    }
+
+}//class
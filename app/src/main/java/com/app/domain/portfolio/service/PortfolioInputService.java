@@ -0,0 +1,120 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.CovarianceEstimate;
+import com.app.domain.portfolio.dto.PortfolioInputs;
+import com.app.domain.portfolio.mapper.PortfolioMapper;
+import com.app.domain.stock.entity.UserSelectedAssets;
+import com.app.domain.stock.mapper.UserSelectedAssetsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포트폴리오 최적화 입력 준비 서비스
+ * - 세션의 선택 자산, 무위험 수익률, 1년 일수익률 기반 연환산 평균/공분산 (CovarianceService 캐시 경유)
+ * - 최적 포트폴리오 / 효율적 경계 계산이 같은 입력을 공유
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioInputService {
+
+    private static final double DEFAULT_RISK_FREE_RATE = 0.03;
+    private static final int MIN_ASSETS = 2;
+    private static final String ESTIMATOR_SAMPLE = "sample";
+
+    private final PortfolioMapper portfolioMapper;
+    private final UserSelectedAssetsMapper userSelectedAssetsMapper;
+    private final CovarianceService covarianceService;
+
+    /**
+     * 종목별 최소 유효 관측치 수 (이보다 적으면 공분산 추정 불가로 판단)
+     */
+    @Value("${portfolio.optimizer.min-observations:20}")
+    private int minObservations;
+
+    /**
+     * 공분산 추정 방식 (shrinkage: Ledoit-Wolf 축소, sample: 표본 공분산)
+     */
+    @Value("${portfolio.covariance.estimator:shrinkage}")
+    private String covarianceEstimator;
+
+    /**
+     * 세션의 최적화 입력 로딩
+     * @param sessionId 세션 ID
+     * @return 최적화 입력
+     * @throws IllegalStateException 선택 자산이 부족하거나 수익률 데이터가 부족한 경우
+     */
+    public PortfolioInputs loadInputs(String sessionId) {
+        List<UserSelectedAssets> assets = userSelectedAssetsMapper.selectAssetsBySession(sessionId);
+        if (assets.size() < MIN_ASSETS) {
+            throw new IllegalStateException("포트폴리오 최적화를 위해 최소 " + MIN_ASSETS + "개 이상의 자산을 선택해야 합니다.");
+        }
+
+        List<String> tickers = new ArrayList<>(assets.size());
+        Map<String, String> stockNames = new HashMap<>();
+        for (UserSelectedAssets asset : assets) {
+            tickers.add(asset.getTicker());
+            stockNames.put(asset.getTicker(), asset.getStockName());
+        }
+
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusYears(1);
+
+        CovarianceEstimate estimate = covarianceService.getEstimate(tickers, startDate, endDate);
+        validateObservations(tickers, estimate);
+
+        // 쌍별 표본 공분산은 준정부호가 아닐 수 있으므로 보정하여 사용 (축소 공분산은 추정 시 보정됨)
+        double[][] covariance = ESTIMATOR_SAMPLE.equalsIgnoreCase(covarianceEstimator)
+                ? CovarianceEstimator.positiveSemidefinite(estimate.getSampleCovariance())
+                : estimate.getShrinkageCovariance();
+
+        return new PortfolioInputs(tickers, stockNames, estimate.getMean(), covariance,
+                resolveRiskFreeRate(sessionId), startDate, endDate, estimate.getObservations());
+    }
+
+    /**
+     * 세션 설정의 무위험 수익률 (설정이 없으면 기본값)
+     */
+    public double resolveRiskFreeRate(String sessionId) {
+        Double riskFreeRate = portfolioMapper.findRiskFreeRate(sessionId);
+        return riskFreeRate != null ? riskFreeRate : DEFAULT_RISK_FREE_RATE;
+    }
+
+    /**
+     * 세션의 선택 자산 종목명 (티커 → 종목명)
+     */
+    public Map<String, String> findStockNames(String sessionId) {
+        Map<String, String> stockNames = new HashMap<>();
+        for (UserSelectedAssets asset : userSelectedAssetsMapper.selectAssetsBySession(sessionId)) {
+            stockNames.put(asset.getTicker(), asset.getStockName());
+        }
+        return stockNames;
+    }
+
+    /**
+     * 종목별 유효 관측치 검증
+     */
+    private void validateObservations(List<String> tickers, CovarianceEstimate estimate) {
+        List<String> insufficient = new ArrayList<>();
+        for (int i = 0; i < tickers.size(); i++) {
+            if (estimate.observationCount(i) < minObservations) {
+                insufficient.add(tickers.get(i));
+            }
+        }
+        if (!insufficient.isEmpty()) {
+            throw new IllegalStateException("수익률 데이터가 부족한 종목이 있습니다 (최소 " + minObservations
+                    + "거래일 필요): " + String.join(", ", insufficient));
+        }
+    }
+
+}//class
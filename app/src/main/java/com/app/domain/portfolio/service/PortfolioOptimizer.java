@@ -0,0 +1,410 @@
+package com.app.domain.portfolio.service;
+
+import java.util.Arrays;
+
+/**
+ * 평균-분산 포트폴리오 최적화 엔진 (롱온리, 비중 합 1)
+ *
+ * 알고리즘:
+ * 1. 입력은 연환산 기대수익률/공분산 (CovarianceEstimator)
+ * 2. 최소분산 / 평균-분산 효용: 가속 사영 경사하강법(FISTA), 스텝 = 1 / (2·Gershgorin 상한)
+ * 3. 최대 샤프: 심플렉스 위 사영 경사상승 + 백트래킹 (샤프 비율은 초과수익 > 0 영역에서 유사오목이므로 정류점이 전역 최적)
+ *    모든 종목의 기대수익률이 무위험 수익률 이하이면 최소분산 비중으로 대체
+ * 4. 심플렉스 사영은 정렬 기반 O(n log n)
+ *
+ * 모든 계산은 primitive 배열로만 수행하며 스레드 안전 (상태 없음)
+ */
+public final class PortfolioOptimizer {
+
+    /**
+     * 연환산 거래일 수
+     */
+    public static final int TRADING_DAYS = 252;
+
+    private static final int MAX_ITERATIONS = 10_000;
+
+    private static final double TOLERANCE = 1e-10;
+
+    private static final double MIN_STEP = 1e-14;
+
+    private static final double ARMIJO = 1e-4;
+
+    private static final double MIN_VARIANCE = 1e-18;
+
+    private static final double PROJECTION_TOLERANCE = 1e-13;
+
+    private PortfolioOptimizer() {
+    }
+
+    // ===== 최적화 =====
+
+    /**
+     * 최소분산 포트폴리오
+     * @param cov 공분산 행렬
+     */
+    public static double[] minimizeVariance(double[][] cov) {
+        return solveMeanVariance(cov, null, 0.0, null);
+    }
+
+    /**
+     * 평균-분산 효용 최소화: wᵀΣw - λ·μᵀw (w ≥ 0, Σw = 1)
+     * @param cov 공분산 행렬
+     * @param mean 기대수익률 (λ = 0이면 null 허용)
+     * @param lambda 수익률 선호 계수 (0이면 최소분산)
+     * @param start 시작 비중 (null이면 동일 비중, 인접 문제의 해로 warm start 가능)
+     */
+    public static double[] solveMeanVariance(double[][] cov, double[] mean, double lambda, double[] start) {
+        int n = cov.length;
+        double[] sorted = new double[n];
+        double[] w = initialWeights(n, start, sorted);
+        if (n == 1) return w;
+
+        double step = 1.0 / (2.0 * gershgorinBound(cov));
+        double[] y = w.clone();
+        double[] prev = new double[n];
+        double[] grad = new double[n];
+        double t = 1.0;
+
+        for (int iter = 0; iter < MAX_ITERATIONS; iter++) {
+            multiply(cov, y, grad);
+            System.arraycopy(w, 0, prev, 0, n);
+            for (int i = 0; i < n; i++) {
+                double g = 2.0 * grad[i] - (mean == null ? 0.0 : lambda * mean[i]);
+                w[i] = y[i] - step * g;
+            }
+            projectToSimplex(w, w, sorted);
+
+            // 적응적 재시작: 모멘텀이 감소 방향과 어긋나면 t 초기화
+            double alignment = 0.0;
+            for (int i = 0; i < n; i++) {
+                alignment += (y[i] - w[i]) * (w[i] - prev[i]);
+            }
+            if (alignment > 0.0) t = 1.0;
+
+            double tNext = (1.0 + Math.sqrt(1.0 + 4.0 * t * t)) / 2.0;
+            double momentum = (t - 1.0) / tNext;
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                double d = w[i] - prev[i];
+                y[i] = w[i] + momentum * d;
+                delta = Math.max(delta, Math.abs(d));
+            }
+            t = tNext;
+
+            if (delta < TOLERANCE) break;
+        }
+        return w;
+    }
+
+    /**
+     * 목표 수익률 제약 최소분산: min wᵀΣw (w ≥ 0, Σw = 1, μᵀw = target)
+     * - FISTA, 사영은 심플렉스 ∩ 목표수익률 초평면 (승수 β 이분 탐색)
+     * - 목표는 [min μ, max μ] 범위로 보정
+     * @param cov 공분산 행렬
+     * @param mean 기대수익률
+     * @param target 목표 기대수익률
+     * @param start 시작 비중 (null이면 동일 비중, 인접 목표의 해로 warm start 가능)
+     */
+    public static double[] minimizeVarianceForReturn(double[][] cov, double[] mean, double target, double[] start) {
+        int n = cov.length;
+        double[] sorted = new double[n];
+        double[] shifted = new double[n];
+        double[] w = new double[n];
+
+        double lo = Double.POSITIVE_INFINITY;
+        double hi = Double.NEGATIVE_INFINITY;
+        for (double m : mean) {
+            lo = Math.min(lo, m);
+            hi = Math.max(hi, m);
+        }
+        target = Math.max(lo, Math.min(hi, target));
+
+        if (start != null) {
+            projectToTargetReturn(start, w, mean, target, shifted, sorted);
+        } else {
+            Arrays.fill(w, 1.0 / n);
+            projectToTargetReturn(w, w, mean, target, shifted, sorted);
+        }
+        if (n == 1) return w;
+
+        double step = 1.0 / (2.0 * gershgorinBound(cov));
+        double[] y = w.clone();
+        double[] prev = new double[n];
+        double[] grad = new double[n];
+        double t = 1.0;
+
+        for (int iter = 0; iter < MAX_ITERATIONS; iter++) {
+            multiply(cov, y, grad);
+            System.arraycopy(w, 0, prev, 0, n);
+            for (int i = 0; i < n; i++) {
+                w[i] = y[i] - step * 2.0 * grad[i];
+            }
+            projectToTargetReturn(w, w, mean, target, shifted, sorted);
+
+            // 적응적 재시작: 모멘텀이 감소 방향과 어긋나면 t 초기화
+            double alignment = 0.0;
+            for (int i = 0; i < n; i++) {
+                alignment += (y[i] - w[i]) * (w[i] - prev[i]);
+            }
+            if (alignment > 0.0) t = 1.0;
+
+            double tNext = (1.0 + Math.sqrt(1.0 + 4.0 * t * t)) / 2.0;
+            double momentum = (t - 1.0) / tNext;
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                double d = w[i] - prev[i];
+                y[i] = w[i] + momentum * d;
+                delta = Math.max(delta, Math.abs(d));
+            }
+            t = tNext;
+
+            if (delta < TOLERANCE) break;
+        }
+        return w;
+    }
+
+    /**
+     * 최대 샤프 포트폴리오
+     * - 초과수익이 양수인 종목이 없으면 샤프 비율이 유사오목하지 않아 경사상승이 고변동성 모서리로 흐르므로
+     *   최소분산 비중을 반환 (hasPositiveExcessReturn으로 사전 확인 가능)
+     * @param cov 공분산 행렬
+     * @param mean 기대수익률
+     * @param riskFreeRate 무위험 수익률
+     * @param start 시작 비중 (null이면 동일 비중)
+     */
+    public static double[] maximizeSharpe(double[][] cov, double[] mean, double riskFreeRate, double[] start) {
+        if (!hasPositiveExcessReturn(mean, riskFreeRate)) {
+            return minimizeVariance(cov);
+        }
+
+        int n = cov.length;
+        double[] sorted = new double[n];
+        double[] w = initialWeights(n, start, sorted);
+        if (n == 1) return w;
+
+        double[] sigmaW = new double[n];
+        double[] grad = new double[n];
+        double[] candidate = new double[n];
+        double value = sharpeRatio(cov, mean, riskFreeRate, w, sigmaW);
+        double step = 1.0;
+
+        for (int iter = 0; iter < MAX_ITERATIONS; iter++) {
+            multiply(cov, w, sigmaW);
+            double variance = Math.max(dot(w, sigmaW), MIN_VARIANCE);
+            double sd = Math.sqrt(variance);
+            double excess = dot(mean, w) - riskFreeRate;
+            for (int i = 0; i < n; i++) {
+                grad[i] = mean[i] / sd - excess * sigmaW[i] / (sd * variance);
+            }
+
+            boolean accepted = false;
+            double candidateValue = value;
+            while (step > MIN_STEP) {
+                for (int i = 0; i < n; i++) {
+                    candidate[i] = w[i] + step * grad[i];
+                }
+                projectToSimplex(candidate, candidate, sorted);
+
+                double gain = 0.0;
+                for (int i = 0; i < n; i++) {
+                    gain += grad[i] * (candidate[i] - w[i]);
+                }
+                candidateValue = sharpeRatio(cov, mean, riskFreeRate, candidate, sigmaW);
+                if (candidateValue >= value + ARMIJO * gain) {
+                    accepted = true;
+                    break;
+                }
+                step *= 0.5;
+            }
+            if (!accepted) break;
+
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                delta = Math.max(delta, Math.abs(candidate[i] - w[i]));
+            }
+            double[] swap = w;
+            w = candidate;
+            candidate = swap;
+            value = candidateValue;
+            step *= 2.0;
+
+            if (delta < TOLERANCE) break;
+        }
+        return w;
+    }
+
+    /**
+     * 기대수익률이 무위험 수익률을 초과하는 종목이 있는지 여부 (최대 샤프 최적화 가능 여부)
+     */
+    public static boolean hasPositiveExcessReturn(double[] mean, double riskFreeRate) {
+        for (double value : mean) {
+            if (value > riskFreeRate) return true;
+        }
+        return false;
+    }
+
+    // ===== 평가 =====
+
+    /**
+     * 포트폴리오 기대수익률 μᵀw
+     */
+    public static double expectedReturn(double[] mean, double[] weights) {
+        return dot(mean, weights);
+    }
+
+    /**
+     * 포트폴리오 위험도 √(wᵀΣw)
+     */
+    public static double risk(double[][] cov, double[] weights) {
+        double[] sigmaW = new double[weights.length];
+        multiply(cov, weights, sigmaW);
+        return Math.sqrt(Math.max(dot(weights, sigmaW), 0.0));
+    }
+
+    /**
+     * 샤프 비율 (위험도 0이면 0)
+     */
+    public static double sharpeRatio(double expectedReturn, double risk, double riskFreeRate) {
+        return risk > 0.0 ? (expectedReturn - riskFreeRate) / risk : 0.0;
+    }
+
+    /**
+     * 심플렉스 {w ≥ 0, Σw = 1} 위로의 유클리드 사영 (out은 v와 같은 배열 가능)
+     * @param sorted 길이 n 작업 버퍼
+     */
+    static void projectToSimplex(double[] v, double[] out, double[] sorted) {
+        int n = v.length;
+        System.arraycopy(v, 0, sorted, 0, n);
+        Arrays.sort(sorted);
+
+        double cumulative = 0.0;
+        double theta = 0.0;
+        for (int k = 1; k <= n; k++) {
+            double u = sorted[n - k];
+            cumulative += u;
+            double candidate = (cumulative - 1.0) / k;
+            if (u - candidate > 0.0) {
+                theta = candidate;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.max(v[i] - theta, 0.0);
+        }
+    }
+
+    /**
+     * {w ≥ 0, Σw = 1, μᵀw = target} 위로의 사영
+     * - 해는 w(β) = Π_Δ(v - βμ) 형태이고 μᵀw(β)는 β에 대한 구간별 선형 단조 감소 함수
+     * - β 구간을 확장한 뒤 Illinois 가위치법으로 근을 찾음 (선형 구간에 들어서면 즉시 수렴)
+     * - target은 [min μ, max μ] 범위 안이어야 함
+     * @param shifted 길이 n 작업 버퍼
+     * @param sorted 길이 n 작업 버퍼
+     */
+    static void projectToTargetReturn(double[] v, double[] out, double[] mean, double target,
+                                      double[] shifted, double[] sorted) {
+        int n = v.length;
+
+        // 1. β 구간 확장 (lo: 수익률 ≥ target, hi: 수익률 ≤ target)
+        double lo = -1.0;
+        double hi = 1.0;
+        double gLo = shiftedReturn(v, mean, lo, shifted, sorted) - target;
+        while (gLo < 0.0 && lo > -1e12) {
+            lo *= 2.0;
+            gLo = shiftedReturn(v, mean, lo, shifted, sorted) - target;
+        }
+        double gHi = shiftedReturn(v, mean, hi, shifted, sorted) - target;
+        while (gHi > 0.0 && hi < 1e12) {
+            hi *= 2.0;
+            gHi = shiftedReturn(v, mean, hi, shifted, sorted) - target;
+        }
+
+        // 2. Illinois 가위치법
+        double beta = gLo <= 0.0 ? lo : hi;
+        if (gLo > 0.0 && gHi < 0.0) {
+            int side = 0;
+            for (int iter = 0; iter < 100; iter++) {
+                beta = (lo * gHi - hi * gLo) / (gHi - gLo);
+                double g = shiftedReturn(v, mean, beta, shifted, sorted) - target;
+                if (Math.abs(g) < PROJECTION_TOLERANCE || hi - lo < PROJECTION_TOLERANCE) break;
+
+                if (g > 0.0) {
+                    lo = beta;
+                    gLo = g;
+                    if (side == 1) gHi *= 0.5;
+                    side = 1;
+                } else {
+                    hi = beta;
+                    gHi = g;
+                    if (side == -1) gLo *= 0.5;
+                    side = -1;
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            shifted[i] = v[i] - beta * mean[i];
+        }
+        projectToSimplex(shifted, out, sorted);
+    }
+
+    private static double shiftedReturn(double[] v, double[] mean, double beta, double[] shifted, double[] sorted) {
+        for (int i = 0; i < v.length; i++) {
+            shifted[i] = v[i] - beta * mean[i];
+        }
+        projectToSimplex(shifted, shifted, sorted);
+        return dot(mean, shifted);
+    }
+
+    private static double[] initialWeights(int n, double[] start, double[] sorted) {
+        double[] w = new double[n];
+        if (start != null) {
+            projectToSimplex(start, w, sorted);
+        } else {
+            Arrays.fill(w, 1.0 / n);
+        }
+        return w;
+    }
+
+    private static double sharpeRatio(double[][] cov, double[] mean, double riskFreeRate,
+                                      double[] w, double[] sigmaW) {
+        multiply(cov, w, sigmaW);
+        double sd = Math.sqrt(Math.max(dot(w, sigmaW), MIN_VARIANCE));
+        return (dot(mean, w) - riskFreeRate) / sd;
+    }
+
+    /**
+     * 최대 고유값 상한 (Gershgorin 원판 정리)
+     */
+    private static double gershgorinBound(double[][] cov) {
+        double bound = 0.0;
+        for (double[] row : cov) {
+            double sum = 0.0;
+            for (double value : row) {
+                sum += Math.abs(value);
+            }
+            bound = Math.max(bound, sum);
+        }
+        return bound > 0.0 ? bound : 1.0;
+    }
+
+    private static void multiply(double[][] matrix, double[] vector, double[] out) {
+        int n = vector.length;
+        for (int i = 0; i < n; i++) {
+            double[] row = matrix[i];
+            double sum = 0.0;
+            for (int j = 0; j < n; j++) {
+                sum += row[j] * vector[j];
+            }
+            out[i] = sum;
+        }
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+}//class
@@ -0,0 +1,24 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.PortfolioOptimizationResponse;
+
+/**
+ * 포트폴리오 최적화 서비스 인터페이스
+ */
+public interface PortfolioService {
+
+    /**
+     * 선택된 자산으로 최대 샤프 / 최소분산 포트폴리오 계산 후 저장
+     * @param sessionId 세션 ID
+     * @return 최적화 결과
+     */
+    PortfolioOptimizationResponse optimizePortfolio(String sessionId);
+
+    /**
+     * 저장된 최적 포트폴리오 조회
+     * @param sessionId 세션 ID
+     * @return 최적화 결과 (저장된 결과가 없으면 portfolios가 빈 목록)
+     */
+    PortfolioOptimizationResponse getOptimalPortfolios(String sessionId);
+
+}//interface
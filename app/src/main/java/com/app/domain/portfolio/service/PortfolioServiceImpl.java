@@ -0,0 +1,157 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.PortfolioInputs;
+import com.app.domain.portfolio.dto.PortfolioOptimizationResponse;
+import com.app.domain.portfolio.dto.PortfolioOptimizationResponse.AssetWeight;
+import com.app.domain.portfolio.dto.PortfolioOptimizationResponse.PortfolioResult;
+import com.app.domain.portfolio.entity.OptimalPortfolio;
+import com.app.domain.portfolio.mapper.PortfolioMapper;
+import com.app.domain.portfolio.util.PortfolioRounding;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 포트폴리오 최적화 서비스 구현체
+ * - PortfolioInputService의 연환산 평균/공분산으로 PortfolioOptimizer 비중 계산
+ * - 결과는 optimal_portfolio에 세션 단위로 교체 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PortfolioServiceImpl implements PortfolioService {
+
+    public static final String TYPE_MAX_SHARPE = "max_sharpe";
+    public static final String TYPE_MIN_VARIANCE = "min_variance";
+
+    private static final String NAME_MAX_SHARPE = "최대 샤프 포트폴리오";
+    private static final String NAME_MIN_VARIANCE = "최소분산 포트폴리오";
+
+    private final PortfolioMapper portfolioMapper;
+    private final PortfolioInputService portfolioInputService;
+
+    @Override
+    public PortfolioOptimizationResponse optimizePortfolio(String sessionId) {
+        long started = System.nanoTime();
+
+        // 1. 입력 (연환산 평균/공분산)
+        PortfolioInputs inputs = portfolioInputService.loadInputs(sessionId);
+        double[] mean = inputs.getMean();
+        double[][] cov = inputs.getCovariance();
+        double riskFreeRate = inputs.getRiskFreeRate();
+
+        // 2. 최적화 (최소분산 해를 최대 샤프의 시작점으로 사용)
+        // 모든 종목의 기대수익률이 무위험 수익률 이하이면 최대 샤프는 최소분산 비중으로 대체됨
+        if (!PortfolioOptimizer.hasPositiveExcessReturn(mean, riskFreeRate)) {
+            log.warn("무위험 수익률({})을 초과하는 기대수익률 종목 없음 - 최대 샤프 포트폴리오를 최소분산 비중으로 대체 (세션: {})",
+                    riskFreeRate, sessionId);
+        }
+        double[] minVariance = PortfolioOptimizer.minimizeVariance(cov);
+        double[] maxSharpe = PortfolioOptimizer.maximizeSharpe(cov, mean, riskFreeRate, minVariance);
+
+        List<PortfolioResult> portfolios = List.of(
+                toResult(TYPE_MAX_SHARPE, NAME_MAX_SHARPE, inputs, maxSharpe),
+                toResult(TYPE_MIN_VARIANCE, NAME_MIN_VARIANCE, inputs, minVariance)
+        );
+
+        // 3. 저장 (세션 단위 교체)
+        savePortfolios(sessionId, portfolios);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("포트폴리오 최적화 완료 - 세션: {}, 종목수: {}, 거래일수: {}, 소요: {}ms",
+                sessionId, inputs.size(), inputs.getObservations(), elapsedMillis);
+
+        return PortfolioOptimizationResponse.builder()
+                .sessionId(sessionId)
+                .riskFreeRate(riskFreeRate)
+                .analysisStartDate(inputs.getStartDate())
+                .analysisEndDate(inputs.getEndDate())
+                .observationCount(inputs.getObservations())
+                .portfolios(portfolios)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioOptimizationResponse getOptimalPortfolios(String sessionId) {
+        List<OptimalPortfolio> rows = portfolioMapper.findOptimalPortfoliosBySessionId(sessionId);
+        Map<String, String> stockNames = portfolioInputService.findStockNames(sessionId);
+
+        // 유형별 그룹핑 (조회 순서 유지)
+        Map<String, PortfolioResult> grouped = new LinkedHashMap<>();
+        for (OptimalPortfolio row : rows) {
+            PortfolioResult result = grouped.computeIfAbsent(row.getPortfolioType(), type -> PortfolioResult.builder()
+                    .portfolioType(type)
+                    .portfolioName(row.getPortfolioName())
+                    .expectedReturn(row.getExpectedReturn())
+                    .portfolioRisk(row.getPortfolioRisk())
+                    .sharpeRatio(row.getSharpeRatio())
+                    .weights(new ArrayList<>())
+                    .build());
+            result.getWeights().add(AssetWeight.builder()
+                    .ticker(row.getTicker())
+                    .stockName(stockNames.getOrDefault(row.getTicker(), row.getTicker()))
+                    .weight(row.getWeight())
+                    .build());
+        }
+
+        return PortfolioOptimizationResponse.builder()
+                .sessionId(sessionId)
+                .riskFreeRate(portfolioInputService.resolveRiskFreeRate(sessionId))
+                .portfolios(new ArrayList<>(grouped.values()))
+                .build();
+    }
+
+    private PortfolioResult toResult(String type, String name, PortfolioInputs inputs, double[] weights) {
+        List<String> tickers = inputs.getTickers();
+        double expectedReturn = PortfolioOptimizer.expectedReturn(inputs.getMean(), weights);
+        double risk = PortfolioOptimizer.risk(inputs.getCovariance(), weights);
+
+        List<AssetWeight> assetWeights = new ArrayList<>(tickers.size());
+        for (int i = 0; i < tickers.size(); i++) {
+            assetWeights.add(AssetWeight.builder()
+                    .ticker(tickers.get(i))
+                    .stockName(inputs.getStockNames().get(tickers.get(i)))
+                    .weight(PortfolioRounding.round(weights[i]))
+                    .build());
+        }
+        assetWeights.sort(Comparator.comparing(AssetWeight::getWeight).reversed());
+
+        return PortfolioResult.builder()
+                .portfolioType(type)
+                .portfolioName(name)
+                .expectedReturn(PortfolioRounding.round(expectedReturn))
+                .portfolioRisk(PortfolioRounding.round(risk))
+                .sharpeRatio(PortfolioRounding.round(PortfolioOptimizer.sharpeRatio(expectedReturn, risk, inputs.getRiskFreeRate())))
+                .weights(assetWeights)
+                .build();
+    }
+
+    private void savePortfolios(String sessionId, List<PortfolioResult> portfolios) {
+        List<OptimalPortfolio> rows = new ArrayList<>();
+        for (PortfolioResult portfolio : portfolios) {
+            for (AssetWeight weight : portfolio.getWeights()) {
+                rows.add(OptimalPortfolio.builder()
+                        .sessionId(sessionId)
+                        .ticker(weight.getTicker())
+                        .weight(weight.getWeight())
+                        .portfolioType(portfolio.getPortfolioType())
+                        .portfolioRank(1)
+                        .expectedReturn(portfolio.getExpectedReturn())
+                        .portfolioRisk(portfolio.getPortfolioRisk())
+                        .sharpeRatio(portfolio.getSharpeRatio())
+                        .portfolioName(portfolio.getPortfolioName())
+                        .build());
+            }
+        }
+
+        portfolioMapper.deleteOptimalPortfolios(sessionId);
+        portfolioMapper.insertOptimalPortfoliosBatch(rows);
+    }
+
+}//class
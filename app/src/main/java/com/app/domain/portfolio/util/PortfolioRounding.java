@@ -0,0 +1,24 @@
+package com.app.domain.portfolio.util;
+
+/**
+ * 포트폴리오 응답/저장 값 반올림 유틸리티
+ * - 최적 포트폴리오, 효율적 투자선, 몬테카를로 결과가 같은 정밀도를 사용하도록 공유
+ */
+public final class PortfolioRounding {
+
+    /**
+     * 소수점 6자리 (저장 컬럼 정밀도와 동일)
+     */
+    private static final double SCALE = 1_000_000.0;
+
+    private PortfolioRounding() {
+    }
+
+    /**
+     * 응답/저장용 반올림 (소수점 6자리)
+     */
+    public static double round(double value) {
+        return Math.round(value * SCALE) / SCALE;
+    }
+
+}//class
@@ -0,0 +1,108 @@
+package com.app.domain.price.controller;
+
+import com.app.app.global.common.ApiResponse;
+import com.app.domain.price.service.MappedReturnStore;
+import com.app.domain.price.service.StockReturnIngestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주가/수익률 데이터 관리 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/price")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceController {
+
+    private final StockReturnIngestionService stockReturnIngestionService;
+    private final MappedReturnStore mappedReturnStore;
+
+    /**
+     * 일별 수익률 증분 적재 (새 주가 데이터 반영)
+     */
+    @PostMapping("/returns/refresh")
+    public ResponseEntity<ApiResponse> refreshReturns() {
+        log.info("일별 수익률 증분 적재 요청");
+
+        try {
+            int rowCount = stockReturnIngestionService.refresh();
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("일별 수익률 %d건을 적재했습니다.", rowCount),
+                    summary(rowCount)
+            ));
+
+        } catch (Exception e) {
+            log.error("일별 수익률 적재 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "일별 수익률 적재 중 오류가 발생했습니다.",
+                    "INGESTION_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 일별 수익률 전체 재적재 (과거 주가 수정 시)
+     */
+    @PostMapping("/returns/rebuild")
+    public ResponseEntity<ApiResponse> rebuildReturns() {
+        log.info("일별 수익률 전체 재적재 요청");
+
+        try {
+            int rowCount = stockReturnIngestionService.rebuild();
+
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("일별 수익률 %d건을 재적재했습니다.", rowCount),
+                    summary(rowCount)
+            ));
+
+        } catch (Exception e) {
+            log.error("일별 수익률 재적재 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "일별 수익률 재적재 중 오류가 발생했습니다.",
+                    "INGESTION_ERROR"
+            ));
+        }
+    }
+
+    /**
+     * 로컬 수익률 파일 재생성 (stock_return 기준)
+     */
+    @PostMapping("/store/rebuild")
+    public ResponseEntity<ApiResponse> rebuildStore() {
+        log.info("로컬 수익률 파일 재생성 요청");
+
+        try {
+            if (!mappedReturnStore.rebuild()) {
+                return ResponseEntity.badRequest().body(ApiResponse.error(
+                        "적재된 일별 수익률이 없습니다. 먼저 수익률을 적재해주세요.",
+                        "NO_DATA"
+                ));
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("로컬 수익률 파일을 재생성했습니다."));
+
+        } catch (Exception e) {
+            log.error("로컬 수익률 파일 재생성 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error(
+                    "로컬 수익률 파일 재생성 중 오류가 발생했습니다.",
+                    "STORE_ERROR"
+            ));
+        }
+    }
+
+    private Map<String, Object> summary(int rowCount) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("rowCount", rowCount);
+        summary.put("lastReturnDate", stockReturnIngestionService.getWatermark());
+        return summary;
+    }
+
+
+}//class
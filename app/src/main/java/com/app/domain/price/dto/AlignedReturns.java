@@ -0,0 +1,82 @@
+package com.app.domain.price.dto;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래일(price_date) 기준으로 정렬된 종목별 일수익률 시계열
+ * - returns[종목 인덱스][날짜 인덱스] 구조의 primitive 배열
+ * - 해당 일자에 수익률이 없는 경우 Double.NaN
+ * - dates는 오름차순 (과거 → 최근)
+ */
+public final class AlignedReturns {
+
+    private final List<String> tickers;
+    private final Map<String, Integer> tickerIndex;
+    private final LocalDate[] dates;
+    private final double[][] returns;
+
+    public AlignedReturns(List<String> tickers, LocalDate[] dates, double[][] returns) {
+        if (tickers.size() != returns.length) {
+            throw new IllegalArgumentException("종목 수와 수익률 시계열 수가 일치하지 않습니다.");
+        }
+        this.tickers = Collections.unmodifiableList(tickers);
+        this.dates = dates;
+        this.returns = returns;
+        this.tickerIndex = new HashMap<>(tickers.size() * 2);
+        for (int i = 0; i < tickers.size(); i++) {
+            tickerIndex.put(tickers.get(i), i);
+        }
+    }
+
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    public LocalDate[] getDates() {
+        return dates;
+    }
+
+    /**
+     * 종목 수
+     */
+    public int size() {
+        return tickers.size();
+    }
+
+    /**
+     * 정렬된 거래일 수
+     */
+    public int length() {
+        return dates.length;
+    }
+
+    /**
+     * 종목 인덱스 조회 (없으면 -1)
+     */
+    public int indexOf(String ticker) {
+        Integer index = tickerIndex.get(ticker);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 종목별 수익률 시계열 (복사 없이 내부 배열 반환)
+     */
+    public double[] series(int tickerIndex) {
+        return returns[tickerIndex];
+    }
+
+    /**
+     * 기준일 이상인 첫 번째 날짜 인덱스 (모두 이전이면 length())
+     */
+    public int firstIndexOnOrAfter(LocalDate date) {
+        int index = Arrays.binarySearch(dates, date);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+
+}//class
@@ -0,0 +1,25 @@
+package com.app.domain.price.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 주가 엔티티 (stock_price 테이블)
+ * - 수익률 계산에 필요한 컬럼만 매핑
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockPrice {
+
+    private String ticker;          // 티커 심볼
+    private LocalDate priceDate;    // 거래일
+    private Double closePrice;      // 종가
+
+
+}//class
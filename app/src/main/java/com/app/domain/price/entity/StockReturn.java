@@ -0,0 +1,28 @@
+package com.app.domain.price.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 수익률 엔티티 (stock_return 테이블)
+ * - 거래일 캘린더의 모든 날짜에 대해 종목 상장(첫 가격) 이후 행이 존재
+ * - 종가가 없는 거래일은 hasPrice = false, 수익률 NULL
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReturn {
+
+    private String ticker;          // 티커 심볼
+    private LocalDate returnDate;   // 거래일
+    private Double simpleReturn;    // 단순수익률
+    private Double logReturn;       // 로그수익률
+    private Boolean hasPrice;       // 종가 존재 여부 (결측일 마스크)
+
+
+}//class
@@ -0,0 +1,12 @@
+package com.app.domain.price.event;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 수익률 적재 완료 이벤트 (새 수익률이 저장된 경우에만 발행)
+ * @param lastDate 적재 후 마지막 거래일
+ * @param rowCount 저장된 행 수
+ * @param rebuilt 전체 재적재 여부
+ */
+public record StockReturnsRefreshedEvent(LocalDate lastDate, int rowCount, boolean rebuilt) {
+}
@@ -0,0 +1,56 @@
+package com.app.domain.price.mapper;
+
+import com.app.domain.price.entity.StockPrice;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 주가 Mapper
+ */
+@Mapper
+public interface StockPriceMapper {
+
+    /**
+     * 여러 종목의 기간별 종가 일괄 조회 (ticker, price_date 순 정렬)
+     * @param tickers 티커 목록
+     * @param startDate 조회 시작일
+     * @param endDate 조회 종료일
+     * @return 종가 목록
+     */
+    List<StockPrice> selectClosePricesByTickers(@Param("tickers") List<String> tickers,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기준일 이후 거래일 목록 조회 (전 종목 price_date 합집합, 오름차순)
+     * @param afterDate 기준일 (null이면 전체)
+     * @return 거래일 목록
+     */
+    List<LocalDate> selectTradingDatesAfter(@Param("afterDate") LocalDate afterDate);
+
+    /**
+     * 기준일 이후 전 종목 종가 조회 (ticker, price_date 순 정렬)
+     * @param afterDate 기준일 (null이면 전체)
+     * @return 종가 목록
+     */
+    List<StockPrice> selectClosePricesAfter(@Param("afterDate") LocalDate afterDate);
+
+    /**
+     * 종목별 기준일 이전(포함) 마지막 종가 조회
+     * @param date 기준일
+     * @return 종목별 마지막 종가
+     */
+    List<StockPrice> selectLastClosesOnOrBefore(@Param("date") LocalDate date);
+
+    /**
+     * 종목들의 가장 이른 주가 일자 조회 (전체 이력 분석 시작일)
+     * @param tickers 티커 목록
+     * @return 가장 이른 price_date (데이터가 없으면 null)
+     */
+    LocalDate selectFirstPriceDate(@Param("tickers") List<String> tickers);
+
+
+}//interface
@@ -0,0 +1,68 @@
+package com.app.domain.price.mapper;
+
+import com.app.domain.price.entity.StockReturn;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 수익률 Mapper
+ */
+@Mapper
+public interface StockReturnMapper {
+
+    /**
+     * 마지막으로 적재된 거래일 조회 (적재 이력이 없으면 null)
+     */
+    LocalDate selectMaxReturnDate();
+
+    /**
+     * stock_return 변경 감지용 요약 문자열 (행 수, 마지막 거래일, 전체 행 내용의 CRC32 합/XOR)
+     * @return 요약 문자열
+     */
+    String selectReturnSignature();
+
+    /**
+     * 여러 종목의 기간별 수익률 일괄 조회 (ticker, return_date 순 정렬)
+     * @param tickers 티커 목록
+     * @param startDate 조회 시작일
+     * @param endDate 조회 종료일
+     * @return 수익률 목록
+     */
+    List<StockReturn> selectReturnsByTickers(@Param("tickers") List<String> tickers,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 수익률 일괄 저장 (이미 있는 행은 갱신)
+     * @param returns 수익률 목록
+     * @return 영향받은 행 수
+     */
+    int upsertReturnsBatch(@Param("returns") List<StockReturn> returns);
+
+    /**
+     * 적재된 전체 종목 목록 (오름차순)
+     */
+    List<String> selectDistinctTickers();
+
+    /**
+     * 적재된 전체 거래일 목록 (오름차순)
+     */
+    List<LocalDate> selectDistinctDates();
+
+    /**
+     * 전체 수익률을 한 행씩 스트리밍 조회 (ticker, return_date 순 정렬)
+     * @param handler 행 처리기
+     */
+    void selectAllReturns(ResultHandler<StockReturn> handler);
+
+    /**
+     * 전체 수익률 삭제 (재적재용)
+     */
+    void deleteAll();
+
+
+}//interface
@@ -0,0 +1,567 @@
+package com.app.domain.price.service;
+
+import com.app.domain.price.dto.AlignedReturns;
+import com.app.domain.price.entity.StockReturn;
+import com.app.domain.price.event.StockReturnsRefreshedEvent;
+import com.app.domain.price.mapper.StockReturnMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑 일수익률 파일 저장소
+ * - stock_return 전체를 [종목 인덱스][거래일 인덱스] → double 수익률 배열로 로컬 파일에 저장
+ * - 파일은 읽기 전용으로 매핑하여 조회 시 JDBC 없이 필요한 구간만 복사
+ * - 헤더에 stock_return 내용 fingerprint(전체 행 CRC 집계)와 CRC32를 기록하여 재시작 시 재사용 여부 판단
+ * - 재생성할 때마다 새 버전 파일({이름}.{세대}.bin)을 만들고 참조만 교체
+ *   (조회 중인 스냅샷이 매핑한 파일은 덮어쓰지 않으며, 이전 파일은 삭제 가능할 때 정리)
+ *
+ * 파일 구조:
+ * <pre>
+ * [0]  int    MAGIC
+ * [4]  int    VERSION
+ * [8]  long   stock_return fingerprint
+ * [16] int    종목 수 (N)
+ * [20] int    거래일 수 (D)
+ * [24] long   데이터 시작 오프셋
+ * [32] long   CRC32 (헤더 이후 전체)
+ * [40] 종목 테이블: N × (short 길이 + UTF-8 티커)
+ *      거래일 테이블: D × int epochDay
+ *      (8바이트 정렬)
+ *      데이터: N × D × double (결측은 NaN)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MappedReturnStore {
+
+    private static final int MAGIC = 0x52535452; // "RSTR"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+
+    private final StockReturnMapper stockReturnMapper;
+
+    @Value("${price.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${price.store.path:${java.io.tmpdir}/portfolio-analysis/return-store.bin}")
+    private String storePath;
+
+    @Value("${price.store.verify-checksum:true}")
+    private boolean verifyChecksum;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 시작 시 최신 버전 파일 재사용, 없거나 stock_return이 변경되었으면 재생성
+     * - 수익률 증분 적재(StockReturnIngestionService) 이후 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void initialize() {
+        if (!enabled || snapshot.get() != null) return;
+
+        try {
+            long fingerprint = currentFingerprint();
+            Snapshot opened = openLatest(fingerprint);
+            if (opened != null) {
+                snapshot.set(opened);
+                deleteStaleFiles(opened.path);
+                log.info("수익률 파일 재사용 - 종목수: {}, 거래일수: {}", opened.tickers.size(), opened.dates.length);
+                return;
+            }
+            rebuild();
+        } catch (Exception e) {
+            log.warn("수익률 파일 초기화 실패 (DB 조회로 대체): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 수익률이 새로 적재되면 파일 재생성 (적재 트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReturnsRefreshed(StockReturnsRefreshedEvent event) {
+        if (!enabled) return;
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            snapshot.set(null);
+            log.warn("수익률 파일 재생성 실패 (DB 조회로 대체): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * stock_return 전체로 새 버전 파일 생성 후 교체
+     * @return 재생성 여부 (적재된 수익률이 없으면 false)
+     */
+    public synchronized boolean rebuild() throws IOException {
+        long fingerprint = currentFingerprint();
+        List<String> tickers = stockReturnMapper.selectDistinctTickers();
+        List<LocalDate> dates = stockReturnMapper.selectDistinctDates();
+        if (tickers.isEmpty() || dates.isEmpty()) {
+            snapshot.set(null);
+            return false;
+        }
+
+        Path base = Paths.get(storePath);
+        if (base.getParent() != null) {
+            Files.createDirectories(base.getParent());
+        }
+
+        Path target = nextVersionPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        write(temp, fingerprint, tickers, dates);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        Snapshot rebuilt = open(target, fingerprint);
+        snapshot.set(rebuilt);
+        deleteStaleFiles(rebuilt != null ? rebuilt.path : null);
+        log.info("수익률 파일 생성 완료 - 종목수: {}, 거래일수: {}, 경로: {}", tickers.size(), dates.size(), target);
+        return rebuilt != null;
+    }
+
+    /**
+     * 파일이 준비되었는지 여부
+     */
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * 기간 내 종목별 일수익률 조회 (파일이 준비되지 않았으면 null)
+     * - 요청 종목 모두가 결측인 거래일은 제외 (DB 조회 시의 거래일 합집합과 동일)
+     */
+    public AlignedReturns loadAlignedReturns(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot.get();
+        return current != null ? current.load(tickers, startDate, endDate) : null;
+    }
+
+    // === Private Methods ===
+
+    private long currentFingerprint() {
+        String signature = stockReturnMapper.selectReturnSignature();
+        return fnv1a(signature != null ? signature : "");
+    }
+
+    /**
+     * 최신 버전 파일부터 fingerprint가 일치하는 파일을 찾아 매핑 (없으면 null)
+     */
+    private Snapshot openLatest(long fingerprint) throws IOException {
+        for (Path path : listVersions()) {
+            Snapshot opened = open(path, fingerprint);
+            if (opened != null) return opened;
+        }
+        return null;
+    }
+
+    /**
+     * 다음 버전 파일 경로 (세대 = 생성 시각, 기존 최신 세대보다 항상 큼)
+     */
+    private Path nextVersionPath() throws IOException {
+        List<Path> versions = listVersions();
+        long generation = System.currentTimeMillis();
+        if (!versions.isEmpty()) {
+            generation = Math.max(generation, generationOf(versions.get(0)) + 1);
+        }
+        return versionPath(generation);
+    }
+
+    /**
+     * 버전 파일 목록 (최신 세대 먼저)
+     */
+    private List<Path> listVersions() throws IOException {
+        Path base = Paths.get(storePath);
+        Path directory = base.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) return Collections.emptyList();
+
+        List<Path> versions = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (generationOf(path) >= 0) versions.add(path);
+            }
+        }
+        versions.sort(Comparator.comparingLong(this::generationOf).reversed());
+        return versions;
+    }
+
+    private Path versionPath(long generation) {
+        Path base = Paths.get(storePath);
+        return base.resolveSibling(fileStem() + "." + generation + fileExtension());
+    }
+
+    /**
+     * 버전 파일의 세대 (버전 파일이 아니면 -1)
+     */
+    private long generationOf(Path path) {
+        String name = path.getFileName().toString();
+        String prefix = fileStem() + ".";
+        String suffix = fileExtension();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix) || name.length() <= prefix.length() + suffix.length()) {
+            return -1;
+        }
+
+        String generation = name.substring(prefix.length(), name.length() - suffix.length());
+        for (int k = 0; k < generation.length(); k++) {
+            if (!Character.isDigit(generation.charAt(k))) return -1;
+        }
+        return generation.length() <= 18 ? Long.parseLong(generation) : -1;
+    }
+
+    private String fileStem() {
+        String name = Paths.get(storePath).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private String fileExtension() {
+        String name = Paths.get(storePath).getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(dot) : "";
+    }
+
+    /**
+     * 현재 버전 외의 이전 파일 정리
+     * - 아직 매핑이 해제되지 않아 삭제할 수 없는 파일(Windows)은 다음 재생성/시작 시 다시 시도
+     */
+    private void deleteStaleFiles(Path keep) {
+        try {
+            List<Path> stale = new ArrayList<>(listVersions());
+            Path legacy = Paths.get(storePath);
+            stale.add(legacy);
+            stale.add(legacy.resolveSibling(legacy.getFileName() + ".tmp"));
+
+            for (Path path : stale) {
+                if (keep != null && path.toAbsolutePath().equals(keep.toAbsolutePath())) continue;
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.debug("이전 수익률 파일 삭제 보류 - 경로: {}, 사유: {}", path, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.debug("이전 수익률 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void write(Path path, long fingerprint, List<String> tickers, List<LocalDate> dates) throws IOException {
+        int tickerCount = tickers.size();
+        int dateCount = dates.size();
+
+        long tableSize = 0;
+        List<byte[]> encodedTickers = new ArrayList<>(tickerCount);
+        for (String ticker : tickers) {
+            byte[] bytes = ticker.getBytes(StandardCharsets.UTF_8);
+            encodedTickers.add(bytes);
+            tableSize += Short.BYTES + bytes.length;
+        }
+        tableSize += (long) Integer.BYTES * dateCount;
+
+        long dataOffset = align8(HEADER_SIZE + tableSize);
+        long fileSize = dataOffset + (long) tickerCount * dateCount * Double.BYTES;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("수익률 파일 크기가 매핑 가능한 크기(2GB)를 초과합니다.");
+        }
+
+        Map<String, Integer> tickerIndex = new HashMap<>(tickerCount * 2);
+        for (int i = 0; i < tickerCount; i++) tickerIndex.put(tickers.get(i), i);
+        Map<LocalDate, Integer> dateIndex = new HashMap<>(dateCount * 2);
+        for (int d = 0; d < dateCount; d++) dateIndex.put(dates.get(d), d);
+
+        // 매핑 없이 채널로 기록 (쓰기 매핑은 명시적으로 해제할 수 없어 파일 교체/삭제를 막으므로 사용하지 않음)
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            // 1. 헤더 + 종목/거래일 테이블 (CRC는 마지막에 기록, 정렬 패딩은 0)
+            ByteBuffer head = ByteBuffer.allocate((int) dataOffset);
+            head.putInt(MAGIC).putInt(VERSION).putLong(fingerprint)
+                    .putInt(tickerCount).putInt(dateCount).putLong(dataOffset).putLong(0L);
+            for (byte[] bytes : encodedTickers) {
+                head.putShort((short) bytes.length).put(bytes);
+            }
+            for (LocalDate date : dates) {
+                head.putInt((int) date.toEpochDay());
+            }
+            head.clear();
+            writeFully(channel, head, 0);
+
+            // 2. 데이터: 수익률을 종목 행 단위로 모아 기록 (ticker 순 스트리밍, 결측은 NaN)
+            RowWriter rows = new RowWriter(channel, dataOffset, tickerCount, dateCount);
+            try {
+                stockReturnMapper.selectAllReturns(context -> {
+                    StockReturn row = context.getResultObject();
+                    Integer i = tickerIndex.get(row.getTicker());
+                    Integer d = dateIndex.get(row.getReturnDate());
+                    if (i != null && d != null) {
+                        rows.accept(i, d, Boolean.TRUE.equals(row.getHasPrice()) ? row.getSimpleReturn() : null);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            rows.finish();
+
+            // 3. CRC32 기록
+            ByteBuffer crc = ByteBuffer.allocate(Long.BYTES).putLong(checksum(channel, fileSize));
+            crc.flip();
+            writeFully(channel, crc, 32);
+            channel.force(true);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑 (없거나 헤더/fingerprint/CRC가 맞지 않으면 null)
+     */
+    private Snapshot open(Path path, long expectedFingerprint) throws IOException {
+        if (!Files.exists(path)) return null;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) return null;
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                log.info("수익률 파일 형식 불일치 - 재생성 필요");
+                return null;
+            }
+            if (buffer.getLong(8) != expectedFingerprint) {
+                log.info("stock_return 변경 감지 - 수익률 파일 재생성 필요");
+                return null;
+            }
+            if (verifyChecksum && buffer.getLong(32) != checksum(buffer, fileSize)) {
+                log.warn("수익률 파일 체크섬 불일치 - 재생성 필요");
+                return null;
+            }
+
+            int tickerCount = buffer.getInt(16);
+            int dateCount = buffer.getInt(20);
+            long dataOffset = buffer.getLong(24);
+
+            buffer.position(HEADER_SIZE);
+            List<String> tickers = new ArrayList<>(tickerCount);
+            for (int i = 0; i < tickerCount; i++) {
+                byte[] bytes = new byte[buffer.getShort()];
+                buffer.get(bytes);
+                tickers.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            LocalDate[] dates = new LocalDate[dateCount];
+            for (int d = 0; d < dateCount; d++) {
+                dates[d] = LocalDate.ofEpochDay(buffer.getInt());
+            }
+
+            buffer.position((int) dataOffset);
+            return new Snapshot(path, tickers, dates, buffer.slice().asDoubleBuffer().asReadOnlyBuffer());
+        }
+    }
+
+    /**
+     * 기록된 파일의 CRC32 (헤더 이후 전체, 매핑 없이 순차 읽기)
+     */
+    private static long checksum(FileChannel channel, long fileSize) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer chunk = ByteBuffer.allocate(1 << 20);
+        long position = HEADER_SIZE;
+        while (position < fileSize) {
+            chunk.clear();
+            int read = channel.read(chunk, position);
+            if (read < 0) break;
+            chunk.flip();
+            crc.update(chunk);
+            position += read;
+        }
+        return crc.getValue();
+    }
+
+    private static long checksum(ByteBuffer buffer, long fileSize) {
+        CRC32 crc = new CRC32();
+        ByteBuffer body = buffer.duplicate();
+        body.limit((int) fileSize).position(HEADER_SIZE);
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    private static long align8(long value) {
+        return (value + 7) & ~7L;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 종목 행 단위 데이터 기록기 (같은 종목의 수익률을 모아 한 번에 기록)
+     */
+    private static final class RowWriter {
+        private final FileChannel channel;
+        private final long dataOffset;
+        private final boolean[] written;
+        private final ByteBuffer rowBytes;
+        private final DoubleBuffer row;
+        private int current = -1;
+
+        private RowWriter(FileChannel channel, long dataOffset, int tickerCount, int dateCount) {
+            this.channel = channel;
+            this.dataOffset = dataOffset;
+            this.written = new boolean[tickerCount];
+            this.rowBytes = ByteBuffer.allocate(dateCount * Double.BYTES);
+            this.row = rowBytes.asDoubleBuffer();
+            clearRow();
+        }
+
+        /**
+         * 수익률 한 건 반영 (종목이 바뀌면 이전 종목 행 기록, 수익률이 없으면 NaN 유지)
+         */
+        private void accept(int tickerIndex, int dateIndex, Double value) {
+            if (tickerIndex != current) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                current = tickerIndex;
+            }
+            if (value != null) {
+                row.put(dateIndex, value);
+            }
+        }
+
+        /**
+         * 마지막 종목 행과 수익률이 하나도 없는 종목의 NaN 행 기록
+         */
+        private void finish() throws IOException {
+            flush();
+            for (int i = 0; i < written.length; i++) {
+                if (!written[i]) {
+                    current = i;
+                    flush();
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            if (current < 0) return;
+
+            rowBytes.clear();
+            writeFully(channel, rowBytes, dataOffset + (long) current * rowBytes.capacity());
+            written[current] = true;
+            current = -1;
+            clearRow();
+        }
+
+        private void clearRow() {
+            for (int d = 0; d < row.capacity(); d++) {
+                row.put(d, Double.NaN);
+            }
+        }
+    }
+
+    /**
+     * 매핑된 파일의 불변 스냅샷 (여러 스레드에서 동시 조회 가능)
+     */
+    private static final class Snapshot {
+        private final Path path;
+        private final List<String> tickers;
+        private final Map<String, Integer> tickerIndex;
+        private final LocalDate[] dates;
+        private final DoubleBuffer data;
+
+        private Snapshot(Path path, List<String> tickers, LocalDate[] dates, DoubleBuffer data) {
+            this.path = path;
+            this.tickers = tickers;
+            this.dates = dates;
+            this.data = data;
+            this.tickerIndex = new HashMap<>(tickers.size() * 2);
+            for (int i = 0; i < tickers.size(); i++) {
+                tickerIndex.put(tickers.get(i), i);
+            }
+        }
+
+        private AlignedReturns load(List<String> requested, LocalDate startDate, LocalDate endDate) {
+            int from = lowerBound(startDate);
+            int to = lowerBound(endDate.plusDays(1));
+            int length = Math.max(0, to - from);
+
+            // 1. 종목별 구간 복사 (절대 위치 bulk get, 파일에 없는 종목은 NaN)
+            double[][] rows = new double[requested.size()][length];
+            boolean[] present = new boolean[length];
+            for (int r = 0; r < requested.size(); r++) {
+                Integer i = tickerIndex.get(requested.get(r));
+                if (i == null) {
+                    Arrays.fill(rows[r], Double.NaN);
+                    continue;
+                }
+                data.get(i * dates.length + from, rows[r], 0, length);
+                for (int t = 0; t < length; t++) {
+                    if (!Double.isNaN(rows[r][t])) present[t] = true;
+                }
+            }
+
+            // 2. 요청 종목 모두 결측인 거래일 제외
+            int kept = 0;
+            for (boolean p : present) if (p) kept++;
+
+            LocalDate[] keptDates = new LocalDate[kept];
+            double[][] returns = kept == length ? rows : new double[requested.size()][kept];
+            for (int t = 0, k = 0; t < length; t++) {
+                if (!present[t]) continue;
+                keptDates[k] = dates[from + t];
+                if (returns != rows) {
+                    for (int r = 0; r < requested.size(); r++) returns[r][k] = rows[r][t];
+                }
+                k++;
+            }
+
+            return new AlignedReturns(new ArrayList<>(requested), keptDates, returns);
+        }
+
+        private int lowerBound(LocalDate date) {
+            int low = 0;
+            int high = dates.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dates[mid].isBefore(date)) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+
+
+}//class
@@ -0,0 +1,154 @@
+package com.app.domain.price.service;
+
+import com.app.domain.price.dto.AlignedReturns;
+import com.app.domain.price.entity.StockPrice;
+import com.app.domain.price.entity.StockReturn;
+import com.app.domain.price.mapper.StockPriceMapper;
+import com.app.domain.price.mapper.StockReturnMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 종목별 일수익률 시계열 로딩 서비스
+ * - 로컬 메모리 매핑 수익률 파일(MappedReturnStore)이 준비되어 있으면 JDBC 없이 조회
+ * - 그 외에는 사전 계산된 stock_return을 한 번의 쿼리로 읽어 거래일 기준으로 정렬된 double[] 시계열 생성
+ * - stock_return이 아직 적재되지 않은 경우 stock_price 종가에서 직접 계산
+ * - 일수익률은 종목별 직전 거래일 종가 대비 단순수익률
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReturnSeriesService {
+
+    /**
+     * 시작일 첫 수익률 계산을 위해 추가로 조회하는 직전 기간 (휴장일 고려)
+     */
+    private static final int LOOKBACK_DAYS = 14;
+
+    private final StockPriceMapper stockPriceMapper;
+    private final StockReturnMapper stockReturnMapper;
+    private final StockReturnIngestionService stockReturnIngestionService;
+    private final MappedReturnStore mappedReturnStore;
+
+    /**
+     * 기간 내 종목별 일수익률을 거래일 기준으로 정렬하여 로딩
+     * @param tickers 티커 목록
+     * @param startDate 시작일 (이 날짜 이후의 수익률만 포함)
+     * @param endDate 종료일
+     * @return 정렬된 수익률 시계열
+     */
+    public AlignedReturns loadAlignedReturns(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+        AlignedReturns stored = mappedReturnStore.loadAlignedReturns(tickers, startDate, endDate);
+        if (stored != null) {
+            return stored;
+        }
+
+        if (stockReturnIngestionService.getWatermark() == null) {
+            return loadFromPrices(tickers, startDate, endDate);
+        }
+
+        List<StockReturn> rows = stockReturnMapper.selectReturnsByTickers(tickers, startDate, endDate);
+
+        // 1. 거래일 캘린더 (조회된 종목들의 return_date 합집합)
+        TreeSet<LocalDate> calendar = new TreeSet<>();
+        for (StockReturn row : rows) {
+            calendar.add(row.getReturnDate());
+        }
+        LocalDate[] dates = calendar.toArray(new LocalDate[0]);
+        Map<LocalDate, Integer> dateIndex = indexDates(dates);
+
+        // 2. 종목별 수익률 배열 (결측일/마스크된 날은 NaN)
+        double[][] returns = newSeries(tickers.size(), dates.length);
+        Map<String, Integer> tickerIndex = indexTickers(tickers);
+
+        for (StockReturn row : rows) {
+            Integer i = tickerIndex.get(row.getTicker());
+            if (i == null || !Boolean.TRUE.equals(row.getHasPrice()) || row.getSimpleReturn() == null) continue;
+
+            returns[i][dateIndex.get(row.getReturnDate())] = row.getSimpleReturn();
+        }
+
+        log.debug("수익률 시계열 로딩 완료 - 종목수: {}, 거래일수: {}, 조회행수: {}",
+                tickers.size(), dates.length, rows.size());
+
+        return new AlignedReturns(new ArrayList<>(tickers), dates, returns);
+    }
+
+    /**
+     * stock_price 종가에서 직접 수익률 계산 (stock_return 미적재 시)
+     */
+    private AlignedReturns loadFromPrices(List<String> tickers, LocalDate startDate, LocalDate endDate) {
+        List<StockPrice> prices = stockPriceMapper.selectClosePricesByTickers(
+                tickers, startDate.minusDays(LOOKBACK_DAYS), endDate);
+
+        // 1. 거래일 캘린더 생성 (조회된 종목들의 price_date 합집합)
+        TreeSet<LocalDate> calendar = new TreeSet<>();
+        for (StockPrice price : prices) {
+            if (!price.getPriceDate().isBefore(startDate)) {
+                calendar.add(price.getPriceDate());
+            }
+        }
+        LocalDate[] dates = calendar.toArray(new LocalDate[0]);
+        Map<LocalDate, Integer> dateIndex = indexDates(dates);
+
+        // 2. 종목별 수익률 배열 초기화 (결측치는 NaN)
+        double[][] returns = newSeries(tickers.size(), dates.length);
+        Map<String, Integer> tickerIndex = indexTickers(tickers);
+
+        // 3. ticker, price_date 순으로 정렬된 종가에서 일수익률 계산
+        String currentTicker = null;
+        Double previousClose = null;
+        for (StockPrice price : prices) {
+            if (!price.getTicker().equals(currentTicker)) {
+                currentTicker = price.getTicker();
+                previousClose = null;
+            }
+
+            Double close = price.getClosePrice();
+            Integer d = dateIndex.get(price.getPriceDate());
+            Integer i = tickerIndex.get(currentTicker);
+
+            if (d != null && i != null && close != null && previousClose != null && previousClose > 0) {
+                returns[i][d] = close / previousClose - 1.0;
+            }
+            previousClose = close;
+        }
+
+        log.debug("수익률 시계열 로딩 완료 - 종목수: {}, 거래일수: {}, 조회행수: {}",
+                tickers.size(), dates.length, prices.size());
+
+        return new AlignedReturns(new ArrayList<>(tickers), dates, returns);
+    }
+
+    private Map<LocalDate, Integer> indexDates(LocalDate[] dates) {
+        Map<LocalDate, Integer> dateIndex = new HashMap<>(dates.length * 2);
+        for (int d = 0; d < dates.length; d++) {
+            dateIndex.put(dates[d], d);
+        }
+        return dateIndex;
+    }
+
+    private Map<String, Integer> indexTickers(List<String> tickers) {
+        Map<String, Integer> tickerIndex = new HashMap<>(tickers.size() * 2);
+        for (int i = 0; i < tickers.size(); i++) {
+            tickerIndex.put(tickers.get(i), i);
+        }
+        return tickerIndex;
+    }
+
+    private double[][] newSeries(int tickerCount, int length) {
+        double[][] returns = new double[tickerCount][length];
+        for (double[] series : returns) {
+            Arrays.fill(series, Double.NaN);
+        }
+        return returns;
+    }
+
+
+}//class
@@ -0,0 +1,229 @@
+package com.app.domain.price.service;
+
+import com.app.domain.price.entity.StockPrice;
+import com.app.domain.price.entity.StockReturn;
+import com.app.domain.price.event.StockReturnsRefreshedEvent;
+import com.app.domain.price.mapper.StockPriceMapper;
+import com.app.domain.price.mapper.StockReturnMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 일별 수익률 적재 서비스 (stock_price → stock_return)
+ * - 거래일 캘린더(전 종목 price_date 합집합) 기준으로 종목별 단순/로그 수익률 사전 계산
+ * - 종목의 첫 가격 이후 종가가 없는 거래일은 hasPrice = false 행으로 명시
+ * - 마지막 적재 거래일 이후의 가격만 읽어 증분 적재 (과거 가격이 수정된 경우 rebuild 사용)
+ * - 적재는 락을 잡은 상태에서 트랜잭션으로 실행 (커밋까지 다른 적재와 겹치지 않음)
+ * - 적재 완료 이벤트는 트랜잭션 안에서 발행되어 구독자는 커밋 후 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReturnIngestionService {
+
+    private final StockPriceMapper stockPriceMapper;
+    private final StockReturnMapper stockReturnMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 수익률 다중 행 INSERT 1회당 최대 행 수
+     */
+    @Value("${price.returns.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 애플리케이션 시작 시 증분 적재 여부
+     */
+    @Value("${price.returns.refresh-on-startup:true}")
+    private boolean refreshOnStartup;
+
+    /**
+     * 마지막 적재 거래일 (null = 미확인 또는 적재 이력 없음)
+     */
+    private volatile LocalDate watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void refreshOnStartup() {
+        if (!refreshOnStartup) return;
+
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("시작 시 수익률 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 적재 거래일 이후 가격으로 수익률 증분 적재
+     * @return 저장된 행 수
+     */
+    public synchronized int refresh() {
+        return inTransaction(() -> {
+            int rowCount = ingest(stockReturnMapper.selectMaxReturnDate());
+            publishIfChanged(rowCount, false);
+            return rowCount;
+        });
+    }
+
+    /**
+     * 전체 수익률 재적재
+     * @return 저장된 행 수
+     */
+    public synchronized int rebuild() {
+        return inTransaction(() -> {
+            stockReturnMapper.deleteAll();
+            watermark = null;
+            int rowCount = ingest(null);
+            publishIfChanged(rowCount, true);
+            return rowCount;
+        });
+    }
+
+    /**
+     * 적재 작업을 트랜잭션으로 실행 (롤백되면 마지막 적재 거래일을 다시 조회하도록 초기화)
+     */
+    private int inTransaction(Supplier<Integer> work) {
+        try {
+            Integer rowCount = transactionTemplate.execute(status -> work.get());
+            return rowCount != null ? rowCount : 0;
+        } catch (RuntimeException e) {
+            watermark = null;
+            throw e;
+        }
+    }
+
+    /**
+     * 마지막 적재 거래일 (적재 이력이 없으면 null)
+     */
+    public LocalDate getWatermark() {
+        LocalDate current = watermark;
+        if (current == null) {
+            current = stockReturnMapper.selectMaxReturnDate();
+            watermark = current;
+        }
+        return current;
+    }
+
+    /**
+     * 기준일 이후 거래일들의 수익률 계산 및 저장
+     * @param afterDate 기준일 (null이면 전체)
+     */
+    private int ingest(LocalDate afterDate) {
+        List<LocalDate> calendar = stockPriceMapper.selectTradingDatesAfter(afterDate);
+        if (calendar.isEmpty()) {
+            log.debug("적재할 신규 거래일 없음 - 기준일: {}", afterDate);
+            return 0;
+        }
+
+        // 1. 종목별 직전 종가 (증분 적재 시 기준일 이전 마지막 가격)
+        Map<String, Double> previousCloses = new TreeMap<>();
+        if (afterDate != null) {
+            for (StockPrice price : stockPriceMapper.selectLastClosesOnOrBefore(afterDate)) {
+                previousCloses.put(price.getTicker(), price.getClosePrice());
+            }
+        }
+
+        // 2. 기준일 이후 종가를 종목별로 그룹화 (ticker, price_date 순 정렬)
+        Map<String, List<StockPrice>> pricesByTicker = new TreeMap<>();
+        for (StockPrice price : stockPriceMapper.selectClosePricesAfter(afterDate)) {
+            pricesByTicker.computeIfAbsent(price.getTicker(), key -> new ArrayList<>()).add(price);
+        }
+
+        Set<String> tickers = new TreeSet<>(previousCloses.keySet());
+        tickers.addAll(pricesByTicker.keySet());
+
+        // 3. 종목별로 캘린더를 따라 수익률 계산, chunk 단위 저장
+        List<StockReturn> buffer = new ArrayList<>(Math.max(1, chunkSize));
+        int rowCount = 0;
+
+        for (String ticker : tickers) {
+            List<StockPrice> prices = pricesByTicker.getOrDefault(ticker, Collections.emptyList());
+            Double previousClose = previousCloses.get(ticker);
+            boolean listed = previousCloses.containsKey(ticker);
+            int p = 0;
+
+            for (LocalDate date : calendar) {
+                StockPrice price = null;
+                if (p < prices.size() && prices.get(p).getPriceDate().equals(date)) {
+                    price = prices.get(p++);
+                }
+
+                if (price == null) {
+                    // 상장 전 거래일은 행을 만들지 않고, 상장 이후 결측일은 마스크 행으로 저장
+                    if (listed) buffer.add(missing(ticker, date));
+                } else {
+                    buffer.add(toReturn(ticker, date, previousClose, price.getClosePrice()));
+                    previousClose = price.getClosePrice();
+                    listed = true;
+                }
+
+                if (buffer.size() >= chunkSize) {
+                    rowCount += flush(buffer);
+                }
+            }
+        }
+        rowCount += flush(buffer);
+
+        watermark = calendar.get(calendar.size() - 1);
+        log.info("수익률 적재 완료 - 기준일: {}, 거래일: {}~{}, 종목수: {}, 저장행수: {}",
+                afterDate, calendar.get(0), watermark, tickers.size(), rowCount);
+        return rowCount;
+    }
+
+    private StockReturn toReturn(String ticker, LocalDate date, Double previousClose, Double close) {
+        Double simpleReturn = null;
+        Double logReturn = null;
+        if (previousClose != null && previousClose > 0 && close != null && close > 0) {
+            double ratio = close / previousClose;
+            simpleReturn = ratio - 1.0;
+            logReturn = Math.log(ratio);
+        }
+
+        return StockReturn.builder()
+                .ticker(ticker)
+                .returnDate(date)
+                .simpleReturn(simpleReturn)
+                .logReturn(logReturn)
+                .hasPrice(close != null)
+                .build();
+    }
+
+    private StockReturn missing(String ticker, LocalDate date) {
+        return StockReturn.builder()
+                .ticker(ticker)
+                .returnDate(date)
+                .hasPrice(false)
+                .build();
+    }
+
+    private int flush(List<StockReturn> buffer) {
+        if (buffer.isEmpty()) return 0;
+
+        stockReturnMapper.upsertReturnsBatch(buffer);
+        int size = buffer.size();
+        buffer.clear();
+        return size;
+    }
+
+    private void publishIfChanged(int rowCount, boolean rebuilt) {
+        if (rowCount > 0) {
+            eventPublisher.publishEvent(new StockReturnsRefreshedEvent(watermark, rowCount, rebuilt));
+        }
+    }
+
+
+}//class
@@ -0,0 +1,162 @@
+package com.app.domain.screening.dto;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 스크리닝 대상 종목 팩터 스냅샷 (불변, 컬럼 기반)
+ * - 모든 배열의 인덱스는 종목 인덱스 (ticker 오름차순)
+ * - 값이 없는 컬럼(부채비율, 종가)은 Double.NaN
+ * - 업종은 industries 사전의 인덱스 코드로 보관 (업종 없음은 -1)
+ * - 재무지표 재계산/데이터 적재 시 새 스냅샷으로 통째로 교체되며 version이 증가
+ * - version은 재시작 시 다시 1부터 시작하므로, 재시작 전후 비교에는 내용 기반 fingerprint 사용
+ */
+public final class FactorSnapshot {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final String[] tickers;
+    private final String[] stockNames;
+    private final String[] industries;
+    private final int[] industryCodes;
+    private final double[] per;
+    private final double[] pbr;
+    private final double[] roe;
+    private final double[] debtRatio;
+    private final double[] closePrice;
+    private final long fingerprint;
+
+    public FactorSnapshot(long version, LocalDateTime builtAt, String[] tickers, String[] stockNames,
+                          String[] industries, int[] industryCodes, double[] per, double[] pbr, double[] roe,
+                          double[] debtRatio, double[] closePrice) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.tickers = tickers;
+        this.stockNames = stockNames;
+        this.industries = industries;
+        this.industryCodes = industryCodes;
+        this.per = per;
+        this.pbr = pbr;
+        this.roe = roe;
+        this.debtRatio = debtRatio;
+        this.closePrice = closePrice;
+        this.fingerprint = fingerprint(tickers, per, pbr, roe, debtRatio, closePrice);
+    }
+
+    /**
+     * 스냅샷 버전 (재구성마다 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * 스냅샷 내용 지문 (종목, 팩터 값이 같으면 재시작 후에도 같은 값)
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 종목 수
+     */
+    public int size() {
+        return tickers.length;
+    }
+
+    public String ticker(int index) {
+        return tickers[index];
+    }
+
+    public String stockName(int index) {
+        return stockNames[index];
+    }
+
+    /**
+     * 업종명 (없으면 null)
+     */
+    public String industry(int index) {
+        int code = industryCodes[index];
+        return code >= 0 ? industries[code] : null;
+    }
+
+    public double per(int index) {
+        return per[index];
+    }
+
+    public double pbr(int index) {
+        return pbr[index];
+    }
+
+    public double roe(int index) {
+        return roe[index];
+    }
+
+    public double debtRatio(int index) {
+        return debtRatio[index];
+    }
+
+    public double closePrice(int index) {
+        return closePrice[index];
+    }
+
+    /**
+     * 부채비율 조건을 만족하는 종목 인덱스 (부채비율 미상 종목은 포함, maxDebtRatio가 null이면 전체)
+     */
+    public int[] filterByDebtRatio(Double maxDebtRatio) {
+        int n = size();
+        int[] selected = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (maxDebtRatio == null || Double.isNaN(debtRatio[i]) || debtRatio[i] <= maxDebtRatio) {
+                selected[count++] = i;
+            }
+        }
+        return count == n ? selected : Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * 선택된 종목들의 컬럼 값 추출 (selected 순서)
+     */
+    public static double[] gather(double[] column, int[] selected) {
+        double[] values = new double[selected.length];
+        for (int k = 0; k < selected.length; k++) {
+            values[k] = column[selected[k]];
+        }
+        return values;
+    }
+
+    /**
+     * PER 컬럼 (복사 없이 내부 배열 반환)
+     */
+    public double[] perColumn() {
+        return per;
+    }
+
+    /**
+     * PBR 컬럼 (복사 없이 내부 배열 반환)
+     */
+    public double[] pbrColumn() {
+        return pbr;
+    }
+
+    /**
+     * ROE 컬럼 (복사 없이 내부 배열 반환)
+     */
+    public double[] roeColumn() {
+        return roe;
+    }
+
+    private static long fingerprint(String[] tickers, double[]... columns) {
+        long hash = Arrays.hashCode(tickers);
+        for (double[] column : columns) {
+            hash = 31 * hash + Arrays.hashCode(column);
+        }
+        return hash;
+    }
+
+}//class
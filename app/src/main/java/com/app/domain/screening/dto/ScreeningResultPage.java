@@ -26,6 +26,7 @@ public class ScreeningResultPage {
     // 요약 정보
     private int totalStocksAnalyzed;
     private int selectedStocksCount; // 상위 50개
+    private boolean storedRowsOnly; // true면 저장된 상위 행(totalElements)만 조회·정렬 대상, 전체 분석 종목은 totalStocksAnalyzed
     private String sessionId;
 
 
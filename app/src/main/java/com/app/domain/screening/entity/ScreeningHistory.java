@@ -0,0 +1,20 @@
+package com.app.domain.screening.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScreeningHistory {
+
+    private String analysisParams;      // 스크리닝 매개변수 (JSON)
+    private String resultSummary;       // 결과 요약 (JSON, 팩터 스냅샷 버전/지문 포함)
+    private LocalDateTime createdAt;    // 실행일시
+
+}//class
@@ -2,10 +2,10 @@ package com.app.domain.screening.mapper;
 
 
 import com.app.domain.screening.entity.MultifactorScreening;
+import com.app.domain.screening.entity.ScreeningHistory;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Mapper
@@ -24,15 +24,28 @@ public interface MultifactorScreeningMapper {
                            @Param("userAgent") String userAgent);
 
     /**
-     * 모든 종목의 팩터 데이터 조회 (스크리닝용)
+     * 팩터 스냅샷용 전체 종목 팩터 조회 (부채비율 조건 없음, ticker 순 정렬)
      */
-    List<MultifactorScreening> selectAllStocksForScreening(@Param("maxDebtRatio") BigDecimal maxDebtRatio);
+    List<MultifactorScreening> selectFactorSnapshot();
 
     /**
      * 스크리닝 결과 일괄 저장
      */
     void insertScreeningResults(@Param("results") List<MultifactorScreening> results);
 
+    /**
+     * 스크리닝 실행 이력 저장 (순위 재현용 매개변수 포함)
+     */
+    void insertScreeningHistory(@Param("sessionId") String sessionId,
+                                @Param("analysisParams") String analysisParams,
+                                @Param("resultSummary") String resultSummary,
+                                @Param("executionTimeMs") int executionTimeMs);
+
+    /**
+     * 세션의 최근 스크리닝 이력 조회 (매개변수, 결과 요약, 없으면 null)
+     */
+    ScreeningHistory selectLatestScreeningHistory(@Param("sessionId") String sessionId);
+
     /**
      * 기존 스크리닝 결과 삭제 (세션별)
      */
@@ -0,0 +1,100 @@
+package com.app.domain.screening.service;
+
+/**
+ * 팩터 값 순위 계산기 (primitive 인덱스 배열 기반)
+ * - argsort: 값 순서대로 정렬된 인덱스 배열 (안정 정렬, O(n log n))
+ * - 동률은 평균 순위 (예: 2, 3위 동률이면 둘 다 2.5위)
+ * - 값이 없는 종목(NaN)은 정렬 방향과 무관하게 맨 뒤, 서로 동률
+ */
+public final class FactorRanker {
+
+    private FactorRanker() {
+    }
+
+    /**
+     * 값 기준 정렬 인덱스
+     * @param values 팩터 값 (없으면 NaN)
+     * @param ascending true면 낮을수록 앞 (PER, PBR), false면 높을수록 앞 (ROE)
+     * @return 정렬 순서의 원본 인덱스 (동률은 원본 순서 유지)
+     */
+    public static int[] argsort(double[] values, boolean ascending) {
+        int n = values.length;
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) index[i] = i;
+
+        // 상향식 병합 정렬 (두 버퍼를 번갈아 사용)
+        int[] buffer = new int[n];
+        int[] source = index;
+        int[] target = buffer;
+        for (int width = 1; width < n; width <<= 1) {
+            for (int from = 0; from < n; from += width << 1) {
+                int mid = Math.min(from + width, n);
+                int to = Math.min(from + (width << 1), n);
+                merge(values, ascending, source, target, from, mid, to);
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source;
+    }
+
+    /**
+     * 동률 평균 순위 (0부터 시작, 1위 = 0.0)
+     * @param values 팩터 값 (없으면 NaN)
+     * @param ascending true면 낮을수록 상위, false면 높을수록 상위
+     * @return 원본 인덱스 순서의 순위
+     */
+    public static double[] averageRanks(double[] values, boolean ascending) {
+        int n = values.length;
+        int[] order = argsort(values, ascending);
+        double[] ranks = new double[n];
+
+        int start = 0;
+        while (start < n) {
+            int end = start + 1;
+            while (end < n && sameValue(values[order[start]], values[order[end]])) end++;
+
+            double rank = (start + end - 1) / 2.0;
+            for (int k = start; k < end; k++) {
+                ranks[order[k]] = rank;
+            }
+            start = end;
+        }
+        return ranks;
+    }
+
+    private static void merge(double[] values, boolean ascending, int[] source, int[] target,
+                              int from, int mid, int to) {
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            // 오른쪽이 엄격히 앞설 때만 먼저 꺼내 안정성 유지
+            if (compare(values[source[j]], values[source[i]], ascending) < 0) {
+                target[k++] = source[j++];
+            } else {
+                target[k++] = source[i++];
+            }
+        }
+        while (i < mid) target[k++] = source[i++];
+        while (j < to) target[k++] = source[j++];
+    }
+
+    /**
+     * 정렬 방향 기준 비교 (NaN은 항상 뒤)
+     */
+    private static int compare(double a, double b, boolean ascending) {
+        boolean missingA = Double.isNaN(a);
+        boolean missingB = Double.isNaN(b);
+        if (missingA || missingB) {
+            return Boolean.compare(missingA, missingB);
+        }
+        return ascending ? Double.compare(a, b) : Double.compare(b, a);
+    }
+
+    private static boolean sameValue(double a, double b) {
+        return Double.isNaN(a) ? Double.isNaN(b) : a == b;
+    }
+
+}//class
@@ -0,0 +1,143 @@
+package com.app.domain.screening.service;
+
+import com.app.domain.price.event.StockReturnsRefreshedEvent;
+import com.app.domain.screening.dto.FactorSnapshot;
+import com.app.domain.screening.entity.MultifactorScreening;
+import com.app.domain.screening.mapper.MultifactorScreeningMapper;
+import com.app.domain.stock.event.StockFundamentalsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스크리닝용 종목 팩터 스냅샷 관리 서비스
+ * - stock 테이블을 한 번 읽어 컬럼 기반 불변 스냅샷으로 보관, 스크리닝은 DB 조회 없이 스냅샷 사용
+ * - 재무지표 재계산(커밋 후)/수익률 데이터 적재 시 새 스냅샷을 만들어 원자적으로 교체
+ * - 재구성 실패 시 기존 스냅샷 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FactorSnapshotService {
+
+    private final MultifactorScreeningMapper screeningMapper;
+
+    private final AtomicReference<FactorSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * 현재 스냅샷 조회 (아직 없으면 생성)
+     */
+    public FactorSnapshot getSnapshot() {
+        FactorSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : rebuild();
+        }
+    }
+
+    /**
+     * stock 테이블에서 스냅샷 재구성 후 교체
+     */
+    public synchronized FactorSnapshot rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<MultifactorScreening> rows = screeningMapper.selectFactorSnapshot();
+
+        int n = rows.size();
+        String[] tickers = new String[n];
+        String[] stockNames = new String[n];
+        int[] industryCodes = new int[n];
+        double[] per = new double[n];
+        double[] pbr = new double[n];
+        double[] roe = new double[n];
+        double[] debtRatio = new double[n];
+        double[] closePrice = new double[n];
+
+        List<String> industries = new ArrayList<>();
+        Map<String, Integer> industryIndex = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            MultifactorScreening row = rows.get(i);
+            tickers[i] = row.getTicker();
+            stockNames[i] = row.getStockName();
+            per[i] = toDouble(row.getPer());
+            pbr[i] = toDouble(row.getPbr());
+            roe[i] = toDouble(row.getRoe());
+            debtRatio[i] = toDouble(row.getDebtRatio());
+            closePrice[i] = toDouble(row.getClosePrice());
+
+            String industry = row.getIndustry();
+            if (industry == null) {
+                industryCodes[i] = -1;
+            } else {
+                industryCodes[i] = industryIndex.computeIfAbsent(industry, key -> {
+                    industries.add(key);
+                    return industries.size() - 1;
+                });
+            }
+        }
+
+        FactorSnapshot snapshot = new FactorSnapshot(versions.incrementAndGet(), LocalDateTime.now(),
+                tickers, stockNames, industries.toArray(new String[0]), industryCodes,
+                per, pbr, roe, debtRatio, closePrice);
+        current.set(snapshot);
+
+        log.info("팩터 스냅샷 구성 완료 - 버전: {}, 종목수: {}, 업종수: {}, 소요: {}ms",
+                snapshot.getVersion(), n, industries.size(), System.currentTimeMillis() - startedAt);
+        return snapshot;
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷 미리 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildQuietly("시작");
+    }
+
+    /**
+     * 재무지표 재계산 트랜잭션 커밋 후 재구성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFundamentalsChanged(StockFundamentalsChangedEvent event) {
+        rebuildQuietly("재무지표 재계산");
+    }
+
+    /**
+     * 주가/수익률 데이터 적재 트랜잭션 커밋 후 재구성 (종가 반영)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReturnsRefreshed(StockReturnsRefreshedEvent event) {
+        rebuildQuietly("데이터 적재");
+    }
+
+    private void rebuildQuietly(String reason) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("팩터 스냅샷 재구성 실패 ({}), 기존 스냅샷 유지: {}", reason, e.getMessage());
+        }
+    }
+
+    private double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+}//class
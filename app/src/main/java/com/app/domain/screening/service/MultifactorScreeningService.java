@@ -1,33 +1,66 @@
 package com.app.domain.screening.service;
 
 
+import com.app.domain.screening.dto.FactorSnapshot;
 import com.app.domain.screening.dto.ScreeningRequest;
 import com.app.domain.screening.dto.ScreeningResponse;
 import com.app.domain.screening.dto.ScreeningResultPage;
 import com.app.domain.screening.entity.MultifactorScreening;
+import com.app.domain.screening.entity.ScreeningHistory;
 import com.app.domain.screening.mapper.MultifactorScreeningMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MultifactorScreeningService {
 
+    /**
+     * 상위 선별 종목 수
+     */
+    private static final int TOP_SELECTION_COUNT = 50;
+
+    private static final String STORAGE_MODE_FULL = "full";
+
     private final MultifactorScreeningMapper screeningMapper;
+    private final FactorSnapshotService factorSnapshotService;
+    private final ScreeningResultCache screeningResultCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결과 저장 방식 (top-k: 상위 K개 행 + 재현용 매개변수, full: 전체 순위를 batch 단위로 저장)
+     */
+    @Value("${screening.storage.mode:top-k}")
+    private String storageMode;
+
+    /**
+     * top-k 모드에서 저장할 상위 행 수 (상위 선별 종목 수 이상)
+     */
+    @Value("${screening.storage.top-k:50}")
+    private int storageTopK;
+
+    /**
+     * 다중 행 INSERT 한 번에 저장할 최대 행 수
+     */
+    @Value("${screening.storage.batch-size:500}")
+    private int storageBatchSize;
 
     /**
      * 멀티팩터 스크리닝 수행
@@ -44,33 +77,22 @@ public class MultifactorScreeningService {
         // 가중치 합계 검증
         validateWeights(request);
 
-        // 기존 스크리닝 결과 삭제
-        screeningMapper.deleteScreeningResultsBySession(sessionId);
-
-        // 가중치 합계 검증
-        validateWeights(request);
+        long startedAt = System.currentTimeMillis();
 
-        // 기존 스크리닝 결과 삭제
-        screeningMapper.deleteScreeningResultsBySession(sessionId);
+        // 같은 조건(가중치, 부채비율, 스냅샷 버전)의 순위 결과는 세션 간 공유
+        FactorSnapshot snapshot = factorSnapshotService.getSnapshot();
+        RankedScreening ranked = screeningResultCache.getOrCompute(request, snapshot.getVersion(),
+                () -> rankUniverse(request, snapshot));
 
-        // 모든 종목 데이터 조회
-        List<MultifactorScreening> allStocks = screeningMapper.selectAllStocksForScreening(request.getMaxDebtRatio());
+        // 세션에는 공유 결과 참조와 세션의 스크리닝 일시만 보관 (행 복사 없음)
+        LocalDateTime createdAt = LocalDateTime.now();
+        screeningResultCache.attach(sessionId, ranked, createdAt);
 
-        log.info("분석 대상 종목 수: {}", allStocks.size());
+        // 상위 K개 행(최소 상위 선별 종목 수, 또는 전체를 제한된 batch로)과 재현용 매개변수만 저장
+        int storedRows = persistResults(sessionId, request, ranked, createdAt, startedAt);
 
-        // 팩터별 점수 계산 및 순위 매기기
-        List<MultifactorScreening> scoredStocks = calculateFactorScores(allStocks, request, sessionId);
-
-        // 복합 점수 계산 및 최종 순위 결정
-        List<MultifactorScreening> rankedStocks = calculateCompositeScoresAndRanking(scoredStocks, request);
-
-        // 상위 50개 선별
-        markTop50Stocks(rankedStocks);
-
-        // 결과 저장
-        screeningMapper.insertScreeningResults(rankedStocks);
-
-        log.info("멀티팩터 스크리닝 완료 - 총 {}개 종목 분석", rankedStocks.size());
+        log.info("멀티팩터 스크리닝 완료 - 총 {}개 종목 분석, {}개 행 저장 (스냅샷 버전: {})",
+                ranked.size(), storedRows, snapshot.getVersion());
 
         // 첫 페이지 결과 반환
         return getScreeningResults(sessionId, 0, 30, "ranking", "ASC");
@@ -98,118 +120,194 @@ public class MultifactorScreeningService {
     }
 
     /**
-     * 팩터별 점수 계산 (순위 기반 점수화)
+     * 스크리닝 결과 저장
+     * - top-k: 상위 K개 행만 저장 (K는 최소 상위 선별 종목 수, 나머지 순위는 이력의 매개변수로 재현)
+     * - full: 전체 순위를 batch-size 단위 다중 행 INSERT로 나누어 저장
+     * @return 저장한 행 수
      */
-    private List<MultifactorScreening> calculateFactorScores(List<MultifactorScreening> stocks,
-                                                             ScreeningRequest request, String sessionId) {
-
-        // PER 기준 정렬 (낮을수록 좋음 - 오름차순)
-        List<MultifactorScreening> perSorted = new ArrayList<>(stocks);
-        perSorted.sort(Comparator.comparing(MultifactorScreening::getPer, Comparator.nullsLast(Comparator.naturalOrder())));
-
-        // PBR 기준 정렬 (낮을수록 좋음 - 오름차순)
-        List<MultifactorScreening> pbrSorted = new ArrayList<>(stocks);
-        pbrSorted.sort(Comparator.comparing(MultifactorScreening::getPbr, Comparator.nullsLast(Comparator.naturalOrder())));
-
-        // ROE 기준 정렬 (높을수록 좋음 - 내림차순)
-        List<MultifactorScreening> roeSorted = new ArrayList<>(stocks);
-        roeSorted.sort(Comparator.comparing(MultifactorScreening::getRoe, Comparator.nullsLast(Comparator.reverseOrder())));
-
-        // 각 종목에 대해 순위 기반 점수 부여
-        for (int i = 0; i < stocks.size(); i++) {
-            MultifactorScreening stock = stocks.get(i);
-
-            // PER 점수 (순위 기반, 1위=1.0, 꼴등=0)
-            int perRank = findRankInList(perSorted, stock.getTicker());
-            BigDecimal perScore = calculateRankScore(perRank, stocks.size());
-
-            // PBR 점수 (순위 기반, 1위=1.0, 꼴등=0)
-            int pbrRank = findRankInList(pbrSorted, stock.getTicker());
-            BigDecimal pbrScore = calculateRankScore(pbrRank, stocks.size());
-
-            // ROE 점수 (순위 기반, 1위=1.0, 꼴등=0)
-            int roeRank = findRankInList(roeSorted, stock.getTicker());
-            BigDecimal roeScore = calculateRankScore(roeRank, stocks.size());
-
-            // 점수 설정
-            stock.setPerScore(perScore);
-            stock.setPbrScore(pbrScore);
-            stock.setRoeScore(roeScore);
-
-            // 가중치 설정
-            stock.setPerWeight(request.getPerWeight());
-            stock.setPbrWeight(request.getPbrWeight());
-            stock.setRoeWeight(request.getRoeWeight());
-
-            // 메타 정보 설정
-            stock.setSessionId(sessionId);
-            stock.setScreeningDate(LocalDate.now());
-            stock.setCreatedAt(LocalDateTime.now());
+    private int persistResults(String sessionId, ScreeningRequest request, RankedScreening ranked,
+                               LocalDateTime createdAt, long startedAt) {
+        screeningMapper.deleteScreeningResultsBySession(sessionId);
+
+        int rows = STORAGE_MODE_FULL.equals(storageMode)
+                ? ranked.size() : Math.min(ranked.size(), Math.max(storageTopK, TOP_SELECTION_COUNT));
+        int chunkSize = Math.max(1, storageBatchSize);
+
+        // batch 단위로 엔티티를 만들어 저장 (한 번에 메모리에 두는 행 수 제한)
+        for (int from = 0; from < rows; from += chunkSize) {
+            int to = Math.min(from + chunkSize, rows);
+            List<MultifactorScreening> chunk = new ArrayList<>(to - from);
+            for (int rank = from; rank < to; rank++) {
+                chunk.add(toEntity(sessionId, ranked, rank, createdAt));
+            }
+            screeningMapper.insertScreeningResults(chunk);
         }
 
-        return stocks;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("analyzedCount", ranked.size());
+        summary.put("storedRows", rows);
+        summary.put("storageMode", storageMode);
+        summary.put("snapshotVersion", ranked.getSnapshot().getVersion());
+        summary.put("snapshotFingerprint", ranked.getSnapshot().getFingerprint());
+        screeningMapper.insertScreeningHistory(sessionId, toJson(request), toJson(summary),
+                (int) (System.currentTimeMillis() - startedAt));
+
+        return rows;
     }
 
     /**
-     * 복합 점수 계산 및 최종 순위 결정
+     * 세션 참조가 없을 때(재시작, 만료) 이력의 매개변수로 순위 결과 재현
+     * - 저장 당시와 팩터 스냅샷이 다르면(재무지표 재계산 등) 재현 순위가 저장된 상위 행과 달라지므로 재현하지 않음
+     * @return 재현한 결과 (이력이 없거나 매개변수가 유효하지 않거나 스냅샷이 바뀌었으면 null → 저장된 행 사용)
      */
-    private List<MultifactorScreening> calculateCompositeScoresAndRanking(List<MultifactorScreening> stocks,
-                                                                          ScreeningRequest request) {
-
-        // 복합 점수 계산
-        for (MultifactorScreening stock : stocks) {
-            BigDecimal compositeScore = stock.getPerScore().multiply(request.getPerWeight())
-                    .add(stock.getPbrScore().multiply(request.getPbrWeight()))
-                    .add(stock.getRoeScore().multiply(request.getRoeWeight()));
+    private ScreeningResultCache.SessionScreening restoreSession(String sessionId) {
+        ScreeningHistory history = screeningMapper.selectLatestScreeningHistory(sessionId);
+        if (history == null || history.getAnalysisParams() == null) return null;
 
-            stock.setCompositeScore(compositeScore.setScale(6, RoundingMode.HALF_UP));
+        ScreeningRequest request;
+        JsonNode summary;
+        try {
+            request = objectMapper.readValue(history.getAnalysisParams(), ScreeningRequest.class);
+            summary = history.getResultSummary() != null ? objectMapper.readTree(history.getResultSummary()) : null;
+            validateWeights(request);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("스크리닝 매개변수 복원 실패 - 세션: {} - {}", sessionId, e.getMessage());
+            return null;
         }
 
-        // 복합 점수 기준 정렬 (높은 순)
-        stocks.sort(Comparator.comparing(MultifactorScreening::getCompositeScore).reversed());
+        FactorSnapshot snapshot = factorSnapshotService.getSnapshot();
+        if (!isSameSnapshot(summary, snapshot)) {
+            log.info("팩터 스냅샷 변경으로 저장된 스크리닝 결과 사용 - 세션: {}", sessionId);
+            return null;
+        }
 
-        // 순위 부여
-        IntStream.range(0, stocks.size())
-                .forEach(i -> stocks.get(i).setRanking(i + 1));
+        RankedScreening ranked = screeningResultCache.getOrCompute(request, snapshot.getVersion(),
+                () -> rankUniverse(request, snapshot));
+        LocalDateTime createdAt = history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now();
+        ScreeningResultCache.SessionScreening restored = screeningResultCache.attach(sessionId, ranked, createdAt);
 
-        return stocks;
+        log.info("스크리닝 결과 재현 - 세션: {}, 종목수: {}", sessionId, ranked.size());
+        return restored;
     }
 
     /**
-     * 상위 50개 종목 표시
+     * 이력의 결과 요약이 현재 팩터 스냅샷으로 계산된 것인지 확인
+     * - 지문이 있으면 지문으로 비교 (버전은 재시작 시 다시 1부터 시작하므로 재시작 후에는 의미 없음)
+     * - 지문이 없는 이전 이력은 버전으로 비교, 둘 다 없으면 다른 스냅샷으로 간주
      */
-    private void markTop50Stocks(List<MultifactorScreening> rankedStocks) {
-        for (int i = 0; i < rankedStocks.size(); i++) {
-            rankedStocks.get(i).setIsSelected(i < 50);
+    private boolean isSameSnapshot(JsonNode summary, FactorSnapshot snapshot) {
+        if (summary == null) return false;
+
+        JsonNode fingerprint = summary.get("snapshotFingerprint");
+        if (fingerprint != null && fingerprint.canConvertToLong()) {
+            return fingerprint.asLong() == snapshot.getFingerprint();
+        }
+        JsonNode version = summary.get("snapshotVersion");
+        return version != null && version.canConvertToLong() && version.asLong() == snapshot.getVersion();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스크리닝 이력 직렬화 실패", e);
         }
     }
 
     /**
-     * 순위 기반 점수 계산 (1위=1.0, 꼴등=0에 가까운 값)
+     * 팩터 스냅샷에서 부채비율 조건을 만족하는 종목을 선별하여 순위 계산 (DB 조회 없음)
      */
-    private BigDecimal calculateRankScore(int rank, int totalCount) {
-        if (totalCount <= 1) return BigDecimal.ONE;
+    private RankedScreening rankUniverse(ScreeningRequest request, FactorSnapshot snapshot) {
+        int[] universe = snapshot.filterByDebtRatio(
+                request.getMaxDebtRatio() != null ? request.getMaxDebtRatio().doubleValue() : null);
+
+        log.info("분석 대상 종목 수: {} (스냅샷 버전: {})", universe.length, snapshot.getVersion());
+
+        // 팩터별 점수, 복합 점수, 최종 순위 계산 (double 컬럼 기반)
+        ScreeningEngine.Result result = ScreeningEngine.score(
+                FactorSnapshot.gather(snapshot.perColumn(), universe),
+                FactorSnapshot.gather(snapshot.pbrColumn(), universe),
+                FactorSnapshot.gather(snapshot.roeColumn(), universe),
+                request.getPerWeight().doubleValue(),
+                request.getPbrWeight().doubleValue(),
+                request.getRoeWeight().doubleValue());
+
+        return new RankedScreening(request.getPerWeight(), request.getPbrWeight(), request.getRoeWeight(),
+                request.getMaxDebtRatio(), snapshot, universe, result);
+    }
 
-        double score = (double) (totalCount - rank) / (totalCount - 1);
-        return BigDecimal.valueOf(score).setScale(6, RoundingMode.HALF_UP);
+    /**
+     * 세션 결과의 한 종목을 응답 DTO로 변환 (고정소수점 반올림은 이 시점에만 적용)
+     */
+    private ScreeningResponse toResponse(ScreeningResultCache.SessionScreening screening, int rank) {
+        RankedScreening ranked = screening.ranked();
+        FactorSnapshot snapshot = ranked.getSnapshot();
+        int i = ranked.stockIndex(rank);
+
+        return ScreeningResponse.builder()
+                .ticker(snapshot.ticker(i))
+                .stockName(snapshot.stockName(i))
+                .industry(snapshot.industry(i))
+                .per(toDecimal(snapshot.per(i)))
+                .pbr(toDecimal(snapshot.pbr(i)))
+                .roe(toDecimal(snapshot.roe(i)))
+                .perScore(toScore(ranked.perScore(rank)))
+                .pbrScore(toScore(ranked.pbrScore(rank)))
+                .roeScore(toScore(ranked.roeScore(rank)))
+                .compositeScore(toScore(ranked.compositeScore(rank)))
+                .ranking(rank + 1)
+                .isSelected(rank < TOP_SELECTION_COUNT)
+                .closePrice(toDecimal(snapshot.closePrice(i)))
+                .debtRatio(toDecimal(snapshot.debtRatio(i)))
+                .screeningDate(screening.createdAt().toLocalDate())
+                .createdAt(screening.createdAt())
+                .build();
     }
 
     /**
-     * 특정 종목의 순위 찾기
+     * 공유 순위 결과의 한 종목을 저장용 엔티티로 변환
+     * @param createdAt 해당 세션의 스크리닝 일시
      */
-    private int findRankInList(List<MultifactorScreening> sortedList, String ticker) {
-        for (int i = 0; i < sortedList.size(); i++) {
-            if (sortedList.get(i).getTicker().equals(ticker)) {
-                return i;
-            }
-        }
-        return sortedList.size() - 1; // 못 찾으면 꼴등
+    private MultifactorScreening toEntity(String sessionId, RankedScreening ranked, int rank, LocalDateTime createdAt) {
+        return MultifactorScreening.builder()
+                .sessionId(sessionId)
+                .ticker(ranked.getSnapshot().ticker(ranked.stockIndex(rank)))
+                .perScore(toScore(ranked.perScore(rank)))
+                .pbrScore(toScore(ranked.pbrScore(rank)))
+                .roeScore(toScore(ranked.roeScore(rank)))
+                .perWeight(ranked.getPerWeight())
+                .pbrWeight(ranked.getPbrWeight())
+                .roeWeight(ranked.getRoeWeight())
+                .compositeScore(toScore(ranked.compositeScore(rank)))
+                .ranking(rank + 1)
+                .isSelected(rank < TOP_SELECTION_COUNT)
+                .screeningDate(createdAt.toLocalDate())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /**
+     * 스냅샷 값 변환 (NaN은 null)
+     */
+    private BigDecimal toDecimal(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value);
+    }
+
+    /**
+     * 점수 저장 정밀도 변환 (소수점 6자리)
+     */
+    private BigDecimal toScore(double score) {
+        return BigDecimal.valueOf(score).setScale(6, RoundingMode.HALF_UP);
     }
 
     /**
      * 가중치 검증
      */
     private void validateWeights(ScreeningRequest request) {
+        if (request.getPerWeight() == null || request.getPbrWeight() == null || request.getRoeWeight() == null) {
+            throw new IllegalArgumentException("PER, PBR, ROE 가중치를 모두 입력해야 합니다.");
+        }
+
         BigDecimal sum = request.getPerWeight()
                 .add(request.getPbrWeight())
                 .add(request.getRoeWeight());
@@ -222,17 +320,72 @@ public class MultifactorScreeningService {
     //--------------------------------------------------------------
     /**
      * 스크리닝 결과 조회 (페이징)
+     * - 재현할 수 없어 저장된 행으로 조회하면 top-k 모드에서는 상위 K개 행만 페이징/정렬 대상
+     *   (totalElements = 저장된 행 수, totalStocksAnalyzed = 이력의 분석 종목 수, storedRowsOnly = true)
      */
     public ScreeningResultPage getScreeningResults(String sessionId, int page, int size, String sortBy, String sortDirection) {
+        ScreeningResultCache.SessionScreening screening = findSessionScreening(sessionId);
+        if (screening != null) {
+            return getScreeningResults(sessionId, screening, page, size, sortBy, sortDirection);
+        }
+
         int offset = page * size;
 
         List<MultifactorScreening> results = screeningMapper.selectScreeningResults(sessionId, offset, size, sortBy, sortDirection);
         int totalElements = screeningMapper.countScreeningResults(sessionId);
+        int analyzedCount = analyzedCount(sessionId, totalElements);
 
         List<ScreeningResponse> responses = results.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
 
+        return ScreeningResultPage.builder()
+                .screeningResults(responses)
+                .totalElements(totalElements)
+                .totalPages((int) Math.ceil((double) totalElements / size))
+                .currentPage(page)
+                .pageSize(size)
+                .hasNext((page + 1) * size < totalElements)
+                .hasPrevious(page > 0)
+                .totalStocksAnalyzed(analyzedCount)
+                .selectedStocksCount(Math.min(analyzedCount, TOP_SELECTION_COUNT))
+                .storedRowsOnly(totalElements < analyzedCount)
+                .sessionId(sessionId)
+                .build();
+    }
+
+    /**
+     * 최근 이력 요약의 분석 종목 수 (요약이 없거나 읽을 수 없으면 저장된 행 수)
+     */
+    private int analyzedCount(String sessionId, int storedRows) {
+        ScreeningHistory history = screeningMapper.selectLatestScreeningHistory(sessionId);
+        if (history == null || history.getResultSummary() == null) return storedRows;
+
+        try {
+            JsonNode count = objectMapper.readTree(history.getResultSummary()).get("analyzedCount");
+            return count != null && count.canConvertToInt() ? Math.max(storedRows, count.asInt()) : storedRows;
+        } catch (JsonProcessingException e) {
+            log.warn("스크리닝 결과 요약 읽기 실패 - 세션: {} - {}", sessionId, e.getMessage());
+            return storedRows;
+        }
+    }
+
+    /**
+     * 공유 순위 결과에서 페이지 조회 (정렬 순서는 결과별로 한 번만 계산)
+     */
+    private ScreeningResultPage getScreeningResults(String sessionId, ScreeningResultCache.SessionScreening screening,
+                                                    int page, int size, String sortBy, String sortDirection) {
+        RankedScreening ranked = screening.ranked();
+        int totalElements = ranked.size();
+        int[] order = ranked.sortedRanks(sortBy, "DESC".equals(sortDirection));
+
+        int from = Math.min(Math.max(0, page * size), totalElements);
+        int to = Math.min(from + size, totalElements);
+        List<ScreeningResponse> responses = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            responses.add(toResponse(screening, order[k]));
+        }
+
         return ScreeningResultPage.builder()
                 .screeningResults(responses)
                 .totalElements(totalElements)
@@ -242,7 +395,7 @@ public class MultifactorScreeningService {
                 .hasNext((page + 1) * size < totalElements)
                 .hasPrevious(page > 0)
                 .totalStocksAnalyzed(totalElements)
-                .selectedStocksCount(Math.min(totalElements, 50))
+                .selectedStocksCount(Math.min(totalElements, TOP_SELECTION_COUNT))
                 .sessionId(sessionId)
                 .build();
     }
@@ -251,12 +404,30 @@ public class MultifactorScreeningService {
      * 상위 50개 종목 조회
      */
     public List<ScreeningResponse> getTop50Results(String sessionId) {
+        ScreeningResultCache.SessionScreening screening = findSessionScreening(sessionId);
+        if (screening != null) {
+            int count = Math.min(screening.ranked().size(), TOP_SELECTION_COUNT);
+            List<ScreeningResponse> top50 = new ArrayList<>(count);
+            for (int rank = 0; rank < count; rank++) {
+                top50.add(toResponse(screening, rank));
+            }
+            return top50;
+        }
+
         List<MultifactorScreening> top50 = screeningMapper.selectTop50Results(sessionId);
         return top50.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 세션의 스크리닝 결과 (참조가 없으면 이력 매개변수로 재현)
+     */
+    private ScreeningResultCache.SessionScreening findSessionScreening(String sessionId) {
+        ScreeningResultCache.SessionScreening screening = screeningResultCache.findBySession(sessionId);
+        return screening != null ? screening : restoreSession(sessionId);
+    }
+
     /**
      * Entity를 Response DTO로 변환
      */
@@ -0,0 +1,153 @@
+package com.app.domain.screening.service;
+
+import com.app.domain.screening.dto.FactorSnapshot;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스크리닝 순위 결과 (불변, 같은 조건의 세션들이 공유)
+ * - rank는 0부터 시작하는 최종 순위, stockIndex(rank)는 팩터 스냅샷의 종목 인덱스
+ * - 순위 외 정렬(PER, 종목명 등) 순서는 처음 요청될 때 한 번 계산하여 보관
+ * - 스크리닝 일시는 세션마다 다르므로 보관하지 않음 (ScreeningResultCache.SessionScreening)
+ */
+public final class RankedScreening {
+
+    /**
+     * 지원하는 정렬 기준 (그 외는 순위 오름차순, selectScreeningResults와 동일)
+     */
+    private static final Set<String> SORT_KEYS = Set.of("ranking", "compositeScore", "per", "pbr", "roe", "stockName");
+
+    private final BigDecimal perWeight;
+    private final BigDecimal pbrWeight;
+    private final BigDecimal roeWeight;
+    private final BigDecimal maxDebtRatio;
+    private final FactorSnapshot snapshot;
+    private final int[] universe;
+    private final ScreeningEngine.Result result;
+
+    /**
+     * 정렬 기준별 순위 순서 ("sortBy:방향" → rank 배열)
+     */
+    private final Map<String, int[]> sortOrders = new ConcurrentHashMap<>();
+
+    public RankedScreening(BigDecimal perWeight, BigDecimal pbrWeight, BigDecimal roeWeight, BigDecimal maxDebtRatio,
+                           FactorSnapshot snapshot, int[] universe, ScreeningEngine.Result result) {
+        this.perWeight = perWeight;
+        this.pbrWeight = pbrWeight;
+        this.roeWeight = roeWeight;
+        this.maxDebtRatio = maxDebtRatio;
+        this.snapshot = snapshot;
+        this.universe = universe;
+        this.result = result;
+    }
+
+    public BigDecimal getPerWeight() {
+        return perWeight;
+    }
+
+    public BigDecimal getPbrWeight() {
+        return pbrWeight;
+    }
+
+    public BigDecimal getRoeWeight() {
+        return roeWeight;
+    }
+
+    public BigDecimal getMaxDebtRatio() {
+        return maxDebtRatio;
+    }
+
+    public FactorSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 분석 종목 수
+     */
+    public int size() {
+        return universe.length;
+    }
+
+    /**
+     * 순위의 팩터 스냅샷 종목 인덱스
+     */
+    public int stockIndex(int rank) {
+        return universe[result.indexAt(rank)];
+    }
+
+    public double perScore(int rank) {
+        return result.perScore(result.indexAt(rank));
+    }
+
+    public double pbrScore(int rank) {
+        return result.pbrScore(result.indexAt(rank));
+    }
+
+    public double roeScore(int rank) {
+        return result.roeScore(result.indexAt(rank));
+    }
+
+    public double compositeScore(int rank) {
+        return result.compositeScore(result.indexAt(rank));
+    }
+
+    /**
+     * 정렬 기준에 따른 순위 순서 (지원하지 않는 기준은 순위 오름차순)
+     * @param sortBy ranking, compositeScore, per, pbr, roe, stockName
+     * @param descending 내림차순 여부
+     * @return 정렬된 rank 배열
+     */
+    public int[] sortedRanks(String sortBy, boolean descending) {
+        boolean supported = sortBy != null && SORT_KEYS.contains(sortBy);
+        String appliedSortBy = supported ? sortBy : "ranking";
+        boolean appliedDescending = supported && descending;
+        return sortOrders.computeIfAbsent(appliedSortBy + (appliedDescending ? ":DESC" : ":ASC"),
+                key -> computeOrder(appliedSortBy, appliedDescending));
+    }
+
+    private int[] computeOrder(String sortBy, boolean descending) {
+        int n = size();
+        double[] values;
+        switch (sortBy) {
+            case "compositeScore" -> {
+                values = new double[n];
+                for (int r = 0; r < n; r++) values[r] = compositeScore(r);
+            }
+            case "per" -> values = column(snapshot.perColumn());
+            case "pbr" -> values = column(snapshot.pbrColumn());
+            case "roe" -> values = column(snapshot.roeColumn());
+            case "stockName" -> {
+                Integer[] ranks = new Integer[n];
+                for (int r = 0; r < n; r++) ranks[r] = r;
+                Comparator<String> names = Comparator.nullsFirst(Comparator.naturalOrder());
+                Arrays.sort(ranks, Comparator.comparing((Integer r) -> snapshot.stockName(stockIndex(r)),
+                        descending ? names.reversed() : names));
+                return Arrays.stream(ranks).mapToInt(Integer::intValue).toArray();
+            }
+            default -> {
+                int[] ranks = new int[n];
+                for (int r = 0; r < n; r++) ranks[r] = descending ? n - 1 - r : r;
+                return ranks;
+            }
+        }
+        return FactorRanker.argsort(values, !descending);
+    }
+
+    /**
+     * 스냅샷 컬럼을 순위 순서로 추출
+     */
+    private double[] column(double[] source) {
+        int n = size();
+        double[] values = new double[n];
+        for (int r = 0; r < n; r++) {
+            values[r] = source[stockIndex(r)];
+        }
+        return values;
+    }
+
+}//class
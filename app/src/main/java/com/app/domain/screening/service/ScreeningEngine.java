@@ -0,0 +1,107 @@
+package com.app.domain.screening.service;
+
+import java.util.Arrays;
+
+/**
+ * 멀티팩터 스크리닝 점수 계산 엔진 (primitive double 컬럼 기반)
+ *
+ * 알고리즘:
+ * 1. 팩터별 동률 평균 순위 (PER, PBR은 낮을수록 / ROE는 높을수록 상위)
+ * 2. 순위 점수 = (n - 1 - 순위) / (n - 1) (1위=1.0, 꼴등=0)
+ * 3. 복합 점수 = Σ 가중치 × 순위 점수, 내림차순 안정 정렬로 최종 순위 (동점은 입력 순서)
+ *
+ * 종목별 객체 없이 몇 개의 배열만 할당하며, 고정소수점 반올림은 저장/응답 변환 시점에만 적용
+ */
+public final class ScreeningEngine {
+
+    private ScreeningEngine() {
+    }
+
+    /**
+     * 팩터 점수 및 최종 순위 계산
+     * @param per PER 컬럼 (없으면 NaN)
+     * @param pbr PBR 컬럼 (없으면 NaN)
+     * @param roe ROE 컬럼 (없으면 NaN)
+     * @return 입력 인덱스 기준 점수와 최종 순위 순서
+     */
+    public static Result score(double[] per, double[] pbr, double[] roe,
+                               double perWeight, double pbrWeight, double roeWeight) {
+        int n = per.length;
+        double[] perScore = rankScores(FactorRanker.averageRanks(per, true));
+        double[] pbrScore = rankScores(FactorRanker.averageRanks(pbr, true));
+        double[] roeScore = rankScores(FactorRanker.averageRanks(roe, false));
+
+        double[] composite = new double[n];
+        for (int i = 0; i < n; i++) {
+            composite[i] = perWeight * perScore[i] + pbrWeight * pbrScore[i] + roeWeight * roeScore[i];
+        }
+
+        return new Result(FactorRanker.argsort(composite, false), perScore, pbrScore, roeScore, composite);
+    }
+
+    /**
+     * 순위를 점수로 변환 (배열 재사용)
+     */
+    private static double[] rankScores(double[] ranks) {
+        int n = ranks.length;
+        if (n <= 1) {
+            Arrays.fill(ranks, 1.0);
+            return ranks;
+        }
+        for (int i = 0; i < n; i++) {
+            ranks[i] = (n - 1 - ranks[i]) / (n - 1);
+        }
+        return ranks;
+    }
+
+    /**
+     * 스크리닝 점수 계산 결과 (점수 배열은 입력 인덱스 순서)
+     */
+    public static final class Result {
+
+        private final int[] order;
+        private final double[] perScore;
+        private final double[] pbrScore;
+        private final double[] roeScore;
+        private final double[] compositeScore;
+
+        Result(int[] order, double[] perScore, double[] pbrScore, double[] roeScore, double[] compositeScore) {
+            this.order = order;
+            this.perScore = perScore;
+            this.pbrScore = pbrScore;
+            this.roeScore = roeScore;
+            this.compositeScore = compositeScore;
+        }
+
+        /**
+         * 종목 수
+         */
+        public int size() {
+            return order.length;
+        }
+
+        /**
+         * 최종 순위 (0부터)의 입력 인덱스
+         */
+        public int indexAt(int rank) {
+            return order[rank];
+        }
+
+        public double perScore(int index) {
+            return perScore[index];
+        }
+
+        public double pbrScore(int index) {
+            return pbrScore[index];
+        }
+
+        public double roeScore(int index) {
+            return roeScore[index];
+        }
+
+        public double compositeScore(int index) {
+            return compositeScore[index];
+        }
+    }
+
+}//class
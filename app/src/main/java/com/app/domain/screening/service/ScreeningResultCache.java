@@ -0,0 +1,145 @@
+package com.app.domain.screening.service;
+
+import com.app.app.global.util.LruCache;
+import com.app.domain.screening.dto.ScreeningRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 스크리닝 순위 결과 캐시 (세션 간 공유)
+ * - 키: 정규화된 요청(가중치 3종, 최대 부채비율) + 팩터 스냅샷 버전
+ *   → 스냅샷이 재구성되면 자연히 새 키가 되어 이전 결과는 LRU/TTL로 정리
+ * - 세션은 행 복사 없이 공유 결과에 대한 참조와 자신의 스크리닝 일시만 보관
+ * - 같은 키의 동시 미스는 한 번만 계산 (나머지는 진행 중인 계산 결과를 기다림)
+ */
+@Slf4j
+@Service
+public class ScreeningResultCache {
+
+    private final LruCache<Key, RankedScreening> results;
+    private final LruCache<String, SessionScreening> sessions;
+
+    /**
+     * 키별 진행 중인 계산 (계산이 끝나면 결과를 캐시에 저장한 뒤 제거)
+     */
+    private final ConcurrentHashMap<Key, CompletableFuture<RankedScreening>> inFlight = new ConcurrentHashMap<>();
+
+    public ScreeningResultCache(@Value("${screening.cache.max-size:50}") int maxSize,
+                                @Value("${screening.cache.ttl-minutes:60}") long ttlMinutes,
+                                @Value("${screening.cache.max-sessions:10000}") int maxSessions,
+                                @Value("${screening.cache.session-ttl-minutes:180}") long sessionTtlMinutes) {
+        this.results = new LruCache<>(maxSize, Duration.ofMinutes(ttlMinutes));
+        this.sessions = new LruCache<>(maxSessions, Duration.ofMinutes(sessionTtlMinutes));
+    }
+
+    /**
+     * 같은 조건의 순위 결과 조회, 없으면 계산하여 저장
+     * - 같은 키를 이미 다른 요청이 계산 중이면 새로 계산하지 않고 그 결과를 기다림
+     * @param request 스크리닝 요청
+     * @param snapshotVersion 팩터 스냅샷 버전
+     * @param compute 캐시 미스 시 순위 계산
+     */
+    public RankedScreening getOrCompute(ScreeningRequest request, long snapshotVersion,
+                                        Supplier<RankedScreening> compute) {
+        Key key = Key.of(request, snapshotVersion);
+
+        RankedScreening cached = results.get(key);
+        if (cached != null) {
+            log.debug("스크리닝 결과 캐시 적중 - 키: {}", key);
+            return cached;
+        }
+
+        CompletableFuture<RankedScreening> pending = new CompletableFuture<>();
+        CompletableFuture<RankedScreening> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            log.debug("진행 중인 스크리닝 계산 대기 - 키: {}", key);
+            return await(running);
+        }
+
+        try {
+            // 조회와 등록 사이에 앞선 계산이 끝났을 수 있으므로 다시 확인 (통계에 반영하지 않는 조회)
+            RankedScreening computed = results.find(key::equals);
+            if (computed == null) {
+                computed = compute.get();
+                results.put(key, computed);
+            }
+            pending.complete(computed);
+            return computed;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    /**
+     * 다른 요청의 계산 결과 대기 (계산 실패는 원래 예외로 전달)
+     */
+    private RankedScreening await(CompletableFuture<RankedScreening> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 세션에 순위 결과 연결 (참조만 보관)
+     * @param createdAt 해당 세션의 스크리닝 일시
+     */
+    public SessionScreening attach(String sessionId, RankedScreening ranked, LocalDateTime createdAt) {
+        SessionScreening screening = new SessionScreening(ranked, createdAt);
+        sessions.put(sessionId, screening);
+        return screening;
+    }
+
+    /**
+     * 세션의 순위 결과 (없거나 만료되었으면 null)
+     */
+    public SessionScreening findBySession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public long getHitCount() {
+        return results.getHitCount();
+    }
+
+    public long getMissCount() {
+        return results.getMissCount();
+    }
+
+    /**
+     * 세션별 스크리닝 결과 (공유 순위 결과 참조 + 세션의 스크리닝 일시)
+     */
+    public record SessionScreening(RankedScreening ranked, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 캐시 키 (BigDecimal 척도 차이는 정규화: 0.3 == 0.30)
+     */
+    private record Key(BigDecimal perWeight, BigDecimal pbrWeight, BigDecimal roeWeight,
+                       BigDecimal maxDebtRatio, long snapshotVersion) {
+
+        static Key of(ScreeningRequest request, long snapshotVersion) {
+            return new Key(normalize(request.getPerWeight()), normalize(request.getPbrWeight()),
+                    normalize(request.getRoeWeight()), normalize(request.getMaxDebtRatio()), snapshotVersion);
+        }
+
+        private static BigDecimal normalize(BigDecimal value) {
+            return value != null ? value.stripTrailingZeros() : null;
+        }
+    }
+
+}//class
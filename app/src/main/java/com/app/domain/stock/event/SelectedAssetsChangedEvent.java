@@ -0,0 +1,16 @@
+package com.app.domain.stock.event;
+
+/**
+ * 세션의 선택 자산 변경 이벤트 (선택 추가/취소/초기화 트랜잭션 안에서 발행, 구독자는 커밋 후 처리)
+ * @param sessionId 세션 ID
+ * @param ticker 추가/취소된 티커 (초기화 시 null)
+ * @param changeType 변경 유형
+ */
+public record SelectedAssetsChangedEvent(String sessionId, String ticker, ChangeType changeType) {
+
+    public enum ChangeType {
+        ADDED,
+        REMOVED,
+        CLEARED
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.domain.stock.event;
+
+/**
+ * 종목 재무지표(PER, PBR, ROE, 부채비율) 변경 이벤트 (재계산 트랜잭션 안에서 발행)
+ * @param ticker 재계산된 티커 (전체 종목 재계산 시 null)
+ * @param updatedCount 갱신된 행 수
+ */
+public record StockFundamentalsChangedEvent(String ticker, int updatedCount) {
+}
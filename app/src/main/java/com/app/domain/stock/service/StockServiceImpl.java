@@ -3,9 +3,11 @@ package com.app.domain.stock.service;
 import com.app.domain.stock.dto.PageResponseDto;
 import com.app.domain.stock.dto.StockSearchDto;
 import com.app.domain.stock.entity.Stock;
+import com.app.domain.stock.event.StockFundamentalsChangedEvent;
 import com.app.domain.stock.mapper.StockMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -22,6 +24,7 @@ public class StockServiceImpl implements StockService {
 
 
     private final StockMapper stockMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주식 목록 조회 (페이지네이션)
@@ -205,6 +208,7 @@ public class StockServiceImpl implements StockService {
             // 모든 재무지표 일괄 계산
             int updatedCount = stockMapper.calculateAllRatios();
             log.info("재무지표 업데이트 완료: {} 건", updatedCount);
+            eventPublisher.publishEvent(new StockFundamentalsChangedEvent(null, updatedCount));
 
             // 결과 확인
             validateCalculationResults();
@@ -226,6 +230,7 @@ public class StockServiceImpl implements StockService {
         log.info("ROE 계산 시작");
         int count = stockMapper.updateROE();
         log.info("ROE 계산 완료: {} 건", count);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(null, count));
         return count;
     }
 
@@ -238,6 +243,7 @@ public class StockServiceImpl implements StockService {
         log.info("부채비율 계산 시작");
         int count = stockMapper.updateDebtRatio();
         log.info("부채비율 계산 완료: {} 건", count);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(null, count));
         return count;
     }
 
@@ -250,6 +256,7 @@ public class StockServiceImpl implements StockService {
         log.info("PER 계산 시작");
         int count = stockMapper.updatePER();
         log.info("PER 계산 완료: {} 건", count);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(null, count));
         return count;
     }
 
@@ -262,6 +269,7 @@ public class StockServiceImpl implements StockService {
         log.info("PBR 계산 시작");
         int count = stockMapper.updatePBR();
         log.info("PBR 계산 완료: {} 건", count);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(null, count));
         return count;
     }
 
@@ -274,6 +282,7 @@ public class StockServiceImpl implements StockService {
         log.info("종목 {} 재무지표 계산 시작", ticker);
         int count = stockMapper.calculateRatiosByTicker(ticker);
         log.info("종목 {} 재무지표 계산 완료: {} 건", ticker, count);
+        eventPublisher.publishEvent(new StockFundamentalsChangedEvent(ticker, count));
     }
 
     /**
@@ -3,10 +3,12 @@ package com.app.domain.stock.service;
 import com.app.domain.stock.dto.AssetSelectionRequest;
 import com.app.domain.stock.dto.AssetSelectionResponse;  // 👈 변경됨
 import com.app.domain.stock.entity.UserSelectedAssets;
+import com.app.domain.stock.event.SelectedAssetsChangedEvent;
 import com.app.domain.stock.mapper.StockMapper;
 import com.app.domain.stock.mapper.UserSelectedAssetsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UserSelectedAssetsService {
     // ===== 의존성 주입 =====
     private final UserSelectedAssetsMapper userSelectedAssetsMapper;
     private final StockMapper stockMapper;  // 주식 정보 조회용
+    private final ApplicationEventPublisher eventPublisher;  // 선택 변경 알림 (분석 결과 증분 갱신용)
 
     // ===== 상수 정의 =====
     private static final int MIN_SELECTION_COUNT = 5;   // 최소 선택 개수
@@ -72,6 +75,8 @@ public class UserSelectedAssetsService {
         if (insertedCount == 0) {
             throw new RuntimeException("자산 선택 저장에 실패했습니다.");
         }
+        eventPublisher.publishEvent(new SelectedAssetsChangedEvent(
+                sessionId, request.getTicker(), SelectedAssetsChangedEvent.ChangeType.ADDED));
 
         // ===== 6. 저장된 데이터 조회 및 응답 생성 =====
         List<UserSelectedAssets> assets = userSelectedAssetsMapper.selectAssetsBySession(sessionId);
@@ -115,6 +120,10 @@ public class UserSelectedAssetsService {
         // ===== 2. 선택 삭제 =====
         int deletedCount = userSelectedAssetsMapper.deleteSelectedAsset(sessionId, ticker);
         boolean success = deletedCount > 0;
+        if (success) {
+            eventPublisher.publishEvent(new SelectedAssetsChangedEvent(
+                    sessionId, ticker, SelectedAssetsChangedEvent.ChangeType.REMOVED));
+        }
 
         log.info("자산 선택 취소 결과 - 티커: {}, 성공: {}", ticker, success);
         return success;
@@ -129,6 +138,8 @@ public class UserSelectedAssetsService {
         log.info("모든 자산 선택 초기화 - 세션: {}", sessionId);
 
         int deletedCount = userSelectedAssetsMapper.deleteAllSelectedAssets(sessionId);
+        eventPublisher.publishEvent(new SelectedAssetsChangedEvent(
+                sessionId, null, SelectedAssetsChangedEvent.ChangeType.CLEARED));
 
         log.info("자산 선택 초기화 완료 - 삭제된 개수: {}", deletedCount);
         return deletedCount > 0;
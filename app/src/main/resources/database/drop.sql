@@ -12,6 +12,7 @@ DROP TABLE IF EXISTS correlation_analysis;
 DROP TABLE IF EXISTS user_selected_assets;
 DROP TABLE IF EXISTS multifactor_screening;
 DROP TABLE IF EXISTS portfolio_settings;
+DROP TABLE IF EXISTS stock_return;
 
 -- 단계 2: 주가 데이터 테이블
 DROP TABLE IF EXISTS stock_price;
@@ -287,7 +287,19 @@ CREATE TABLE analysis_history (
     FOREIGN KEY (session_id) REFERENCES user_session(session_id) ON DELETE CASCADE
 ) ENGINE=InnoDB COMMENT='분석 실행 이력 및 성능 모니터링';
 
--- 13. 일별 수익률 계산 뷰 (stock_price 테이블 사용 시에만)
+-- 13. 일별 수익률 저장 테이블 (stock_price에서 사전 계산, 거래일 캘린더 기준 정렬)
+CREATE TABLE stock_return (
+    ticker VARCHAR(10) NOT NULL COMMENT '티커 심볼',
+    return_date DATE NOT NULL COMMENT '거래일 (전 종목 price_date 합집합 캘린더)',
+    simple_return DOUBLE COMMENT '단순수익률 (직전 가격 대비, 결측일/첫 거래일은 NULL)',
+    log_return DOUBLE COMMENT '로그수익률 (직전 가격 대비, 결측일/첫 거래일은 NULL)',
+    has_price BOOLEAN NOT NULL COMMENT '해당 거래일 종가 존재 여부 (결측일 마스크)',
+
+    PRIMARY KEY (ticker, return_date),
+    INDEX idx_return_date (return_date)
+) ENGINE=InnoDB COMMENT='종목별 일수익률 (상관관계/변동성/최적화 계산용)';
+
+-- 14. 일별 수익률 계산 뷰 (stock_price 테이블 사용 시에만)
 CREATE OR REPLACE VIEW daily_returns AS
 SELECT 
     ticker,
@@ -0,0 +1,191 @@
+package com.app.domain.correlation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CorrelationCalculator 누적합 커널을 두 번 순회하는 직접 계산(평균 → 편차곱)과 비교
+ */
+class CorrelationCalculatorTest {
+
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    void pearsonNestedMatchesTwoPassForEveryWindow() {
+        double[] x = series(300, 1, 0.1);
+        double[] y = correlated(x, 2, 0.6);
+        int[] starts = {150, 0, 237};
+
+        Double[] result = CorrelationCalculator.pearsonNested(x, y, starts, x.length);
+
+        for (int k = 0; k < starts.length; k++) {
+            assertEquals(twoPass(x, y, starts[k], x.length), result[k], TOLERANCE, "start " + starts[k]);
+        }
+    }
+
+    @Test
+    void pearsonNestedSkipsDaysMissingInEitherSeries() {
+        double[] x = series(120, 3, 0.0);
+        double[] y = correlated(x, 4, 0.3);
+        for (int t = 0; t < x.length; t += 7) x[t] = Double.NaN;
+        for (int t = 3; t < y.length; t += 11) y[t] = Double.NaN;
+
+        Double[] result = CorrelationCalculator.pearsonNested(x, y, new int[]{60, 0}, x.length);
+
+        assertEquals(twoPass(x, y, 60, x.length), result[0], TOLERANCE);
+        assertEquals(twoPass(x, y, 0, x.length), result[1], TOLERANCE);
+    }
+
+    @Test
+    void pearsonNestedReturnsNullForConstantSeries() {
+        double[] x = new double[50];
+        java.util.Arrays.fill(x, 0.01);
+        double[] y = series(50, 5, 0.0);
+
+        assertNull(CorrelationCalculator.pearsonNested(x, y, new int[]{0}, x.length)[0]);
+        assertNull(CorrelationCalculator.pearsonNested(y, x, new int[]{0}, x.length)[0]);
+    }
+
+    @Test
+    void pearsonNestedHandlesWindowsWithFewerThanThreeObservations() {
+        double[] x = {Double.NaN, 0.01, 0.03, Double.NaN, 0.02};
+        double[] y = {0.05, 0.02, -0.01, 0.04, Double.NaN};
+
+        // [3, 5): 공통 관측 0개, [2, 5): 1개, [1, 5): 2개 (SQL과 같이 2개부터 계산)
+        Double[] result = CorrelationCalculator.pearsonNested(x, y, new int[]{3, 2, 1}, x.length);
+
+        assertNull(result[0]);
+        assertNull(result[1]);
+        assertNotNull(result[2]);
+        assertEquals(-1.0, result[2], TOLERANCE);
+    }
+
+    @Test
+    void rollingPearsonMatchesTwoPassAcrossResyncBoundaries() {
+        double[] x = series(400, 6, 0.05);
+        double[] y = correlated(x, 7, 0.8);
+        for (int t = 5; t < x.length; t += 13) x[t] = Double.NaN;
+        for (int t = 9; t < y.length; t += 17) y[t] = Double.NaN;
+
+        int window = 20;
+        double[] out = new double[x.length];
+        CorrelationCalculator.rollingPearson(x, y, window, 15, out);
+
+        for (int t = 0; t < x.length; t++) {
+            int start = t - window + 1;
+            if (start < 0 || observations(x, y, start, t + 1) < 15) {
+                assertTrue(Double.isNaN(out[t]), "t=" + t);
+            } else {
+                assertEquals(twoPass(x, y, start, t + 1), out[t], TOLERANCE, "t=" + t);
+            }
+        }
+    }
+
+    @Test
+    void rollingPearsonReturnsNaNForConstantWindows() {
+        double[] x = series(60, 8, 0.0);
+        double[] y = series(60, 9, 0.0);
+        for (int t = 20; t < 40; t++) x[t] = 0.02;
+
+        double[] out = new double[x.length];
+        CorrelationCalculator.rollingPearson(x, y, 10, 2, out);
+
+        for (int t = 29; t < 40; t++) {
+            assertTrue(Double.isNaN(out[t]), "t=" + t);
+        }
+        assertEquals(twoPass(x, y, 50, 60), out[59], TOLERANCE);
+    }
+
+    @Test
+    void rollingPearsonWithShortWindowOrSeries() {
+        double[] x = {0.01, 0.02, -0.01};
+        double[] y = {0.02, 0.01, 0.03};
+
+        double[] out = new double[x.length];
+        CorrelationCalculator.rollingPearson(x, y, 2, 2, out);
+        assertTrue(Double.isNaN(out[0]));
+        assertEquals(-1.0, out[1], TOLERANCE);
+        assertEquals(-1.0, out[2], TOLERANCE);
+
+        CorrelationCalculator.rollingPearson(x, y, 1, 1, out);
+        for (double value : out) assertTrue(Double.isNaN(value));
+
+        CorrelationCalculator.rollingPearson(x, y, 5, 2, out);
+        for (double value : out) assertTrue(Double.isNaN(value));
+    }
+
+    /**
+     * 두 번 순회하는 피어슨 상관계수 (평균을 먼저 구한 뒤 편차곱 합산, 계산 불가 시 NaN)
+     */
+    private static double twoPass(double[] x, double[] y, int from, int to) {
+        int n = 0;
+        double meanX = 0.0, meanY = 0.0;
+        for (int t = from; t < to; t++) {
+            if (Double.isNaN(x[t]) || Double.isNaN(y[t])) continue;
+            n++;
+            meanX += x[t];
+            meanY += y[t];
+        }
+        if (n < 2) return Double.NaN;
+        meanX /= n;
+        meanY /= n;
+
+        double sxy = 0.0, sxx = 0.0, syy = 0.0;
+        for (int t = from; t < to; t++) {
+            if (Double.isNaN(x[t]) || Double.isNaN(y[t])) continue;
+            double dx = x[t] - meanX;
+            double dy = y[t] - meanY;
+            sxy += dx * dy;
+            sxx += dx * dx;
+            syy += dy * dy;
+        }
+        if (sxx == 0.0 || syy == 0.0) return Double.NaN;
+        return sxy / Math.sqrt(sxx * syy);
+    }
+
+    private static void assertEquals(double expected, Double actual, double tolerance) {
+        assertEquals(expected, actual, tolerance, "");
+    }
+
+    private static void assertEquals(double expected, Double actual, double tolerance, String message) {
+        if (Double.isNaN(expected)) {
+            assertNull(actual, message);
+        } else {
+            assertNotNull(actual, message);
+            org.junit.jupiter.api.Assertions.assertEquals(expected, actual.doubleValue(), tolerance, message);
+        }
+    }
+
+    private static int observations(double[] x, double[] y, int from, int to) {
+        int n = 0;
+        for (int t = from; t < to; t++) {
+            if (!Double.isNaN(x[t]) && !Double.isNaN(y[t])) n++;
+        }
+        return n;
+    }
+
+    private static double[] series(int length, long seed, double drift) {
+        Random random = new Random(seed);
+        double[] values = new double[length];
+        for (int t = 0; t < length; t++) {
+            values[t] = drift * 0.01 + random.nextGaussian() * 0.02;
+        }
+        return values;
+    }
+
+    private static double[] correlated(double[] base, long seed, double rho) {
+        Random random = new Random(seed);
+        double[] values = new double[base.length];
+        for (int t = 0; t < base.length; t++) {
+            values[t] = rho * base[t] + Math.sqrt(1 - rho * rho) * random.nextGaussian() * 0.02;
+        }
+        return values;
+    }
+
+}//class
@@ -0,0 +1,273 @@
+package com.app.domain.correlation.service;
+
+import com.app.domain.correlation.dto.CorrelationMatrix;
+import com.app.domain.correlation.service.CorrelationClustering.Linkage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CorrelationClustering NN-chain 결과를 매 단계 전체 쌍을 훑는 단순 O(n³) 병합과 비교
+ */
+class CorrelationClusteringTest {
+
+    @Test
+    void singleLinkageMatchesNaiveAgglomeration() {
+        compareWithNaive(Linkage.SINGLE);
+    }
+
+    @Test
+    void averageLinkageMatchesNaiveAgglomeration() {
+        compareWithNaive(Linkage.AVERAGE);
+    }
+
+    @Test
+    void leafOrderFollowsDendrogramLeftFirst() {
+        // 0-2, 1-3이 각각 강한 상관 → 군집 {0, 2}, {1, 3} 순서로 병합
+        CorrelationMatrix matrix = matrix(new double[][]{
+                {1.0, 0.1, 0.9, 0.1},
+                {0.1, 1.0, 0.1, 0.8},
+                {0.9, 0.1, 1.0, 0.1},
+                {0.1, 0.8, 0.1, 1.0}
+        });
+
+        CorrelationClustering.Result average = CorrelationClustering.cluster(matrix, Linkage.AVERAGE);
+
+        assertArrayEquals(new int[]{0, 2, 1, 3}, average.getOrder());
+        assertMerge(average, 0, 0, 2, 0.1, 2);
+        assertMerge(average, 1, 1, 3, 0.2, 2);
+        assertMerge(average, 2, 4, 5, 0.9, 4);
+    }
+
+    @Test
+    void tiesMergeLowerIndicesFirst() {
+        // 모든 거리 동률: 인덱스 순서대로 하나씩 붙고, 번호가 작은 leaf가 왼쪽에 놓여 역순으로 펼쳐짐
+        double[][] equal = new double[5][5];
+        for (double[] row : equal) Arrays.fill(row, 0.5);
+        for (int i = 0; i < 5; i++) equal[i][i] = 1.0;
+
+        for (Linkage linkage : Linkage.values()) {
+            CorrelationClustering.Result result = CorrelationClustering.cluster(matrix(equal), linkage);
+
+            assertArrayEquals(new int[]{4, 3, 2, 0, 1}, result.getOrder(), linkage.getCode());
+            assertMerge(result, 0, 0, 1, 0.5, 2);
+            assertMerge(result, 1, 2, 5, 0.5, 3);
+            assertMerge(result, 2, 3, 6, 0.5, 4);
+            assertMerge(result, 3, 4, 7, 0.5, 5);
+        }
+    }
+
+    @Test
+    void tiedPairsAtEqualHeightKeepStableMergeOrder() {
+        CorrelationMatrix matrix = matrix(new double[][]{
+                {1.0, 0.1, 0.9, 0.1},
+                {0.1, 1.0, 0.1, 0.9},
+                {0.9, 0.1, 1.0, 0.1},
+                {0.1, 0.9, 0.1, 1.0}
+        });
+
+        CorrelationClustering.Result result = CorrelationClustering.cluster(matrix, Linkage.SINGLE);
+
+        assertArrayEquals(new int[]{0, 2, 1, 3}, result.getOrder());
+        assertMerge(result, 0, 0, 2, 0.1, 2);
+        assertMerge(result, 1, 1, 3, 0.1, 2);
+        assertMerge(result, 2, 4, 5, 0.9, 4);
+    }
+
+    @Test
+    void missingCorrelationIsTreatedAsZero() {
+        CorrelationMatrix matrix = CorrelationMatrix.of(List.of("A", "B", "C"), Double.NaN);
+        matrix.set(0, 2, 0.5);
+
+        CorrelationClustering.Result result = CorrelationClustering.cluster(matrix, Linkage.AVERAGE);
+
+        assertArrayEquals(new int[]{1, 0, 2}, result.getOrder());
+        assertMerge(result, 0, 0, 2, 0.5, 2);
+        assertMerge(result, 1, 1, 3, 1.0, 3);
+    }
+
+    @Test
+    void singleAndEmptyInputs() {
+        CorrelationClustering.Result one = CorrelationClustering.cluster(CorrelationMatrix.of(List.of("A"), 1.0),
+                Linkage.SINGLE);
+        assertArrayEquals(new int[]{0}, one.getOrder());
+        assertEquals(0, one.mergeCount());
+
+        CorrelationClustering.Result none = CorrelationClustering.cluster(CorrelationMatrix.of(List.of(), 1.0),
+                Linkage.SINGLE);
+        assertArrayEquals(new int[0], none.getOrder());
+        assertEquals(0, none.mergeCount());
+    }
+
+    private static void compareWithNaive(Linkage linkage) {
+        Random random = new Random(linkage.ordinal() + 17);
+        for (int trial = 0; trial < 60; trial++) {
+            int n = 2 + random.nextInt(29);
+            double[][] distance = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    distance[i][j] = distance[j][i] = random.nextDouble() * 2.0;
+                }
+            }
+
+            CorrelationClustering.Result result = CorrelationClustering.cluster(n, condensed(distance), linkage);
+            List<String> expected = naive(distance, linkage);
+            List<String> actual = merges(result, n);
+
+            assertEquals(expected, actual, linkage.getCode() + " trial " + trial);
+            assertDendrogramConsistent(result, n);
+        }
+    }
+
+    /**
+     * 매 단계 모든 활성 군집 쌍의 거리를 leaf 거리로부터 직접 계산하여 최소 쌍 병합
+     * @return 병합 목록 ("높이:leaf 집합", 높이 오름차순)
+     */
+    private static List<String> naive(double[][] distance, Linkage linkage) {
+        int n = distance.length;
+        List<BitSet> clusters = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            BitSet leaf = new BitSet();
+            leaf.set(i);
+            clusters.add(leaf);
+        }
+
+        List<String> merges = new ArrayList<>();
+        while (clusters.size() > 1) {
+            int bestA = -1;
+            int bestB = -1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int a = 0; a < clusters.size(); a++) {
+                for (int b = a + 1; b < clusters.size(); b++) {
+                    double d = linkageDistance(distance, clusters.get(a), clusters.get(b), linkage);
+                    if (d < best) {
+                        best = d;
+                        bestA = a;
+                        bestB = b;
+                    }
+                }
+            }
+
+            BitSet merged = (BitSet) clusters.get(bestA).clone();
+            merged.or(clusters.get(bestB));
+            clusters.remove(bestB);
+            clusters.set(bestA, merged);
+            merges.add(format(best, merged));
+        }
+        return merges;
+    }
+
+    private static double linkageDistance(double[][] distance, BitSet a, BitSet b, Linkage linkage) {
+        double min = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
+        int count = 0;
+        for (int i = a.nextSetBit(0); i >= 0; i = a.nextSetBit(i + 1)) {
+            for (int j = b.nextSetBit(0); j >= 0; j = b.nextSetBit(j + 1)) {
+                min = Math.min(min, distance[i][j]);
+                sum += distance[i][j];
+                count++;
+            }
+        }
+        return linkage == Linkage.SINGLE ? min : sum / count;
+    }
+
+    private static List<String> merges(CorrelationClustering.Result result, int n) {
+        List<BitSet> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            BitSet leaf = new BitSet();
+            leaf.set(i);
+            nodes.add(leaf);
+        }
+
+        List<String> merges = new ArrayList<>();
+        for (int k = 0; k < result.mergeCount(); k++) {
+            BitSet merged = (BitSet) nodes.get(result.left(k)).clone();
+            merged.or(nodes.get(result.right(k)));
+            nodes.add(merged);
+            merges.add(format(result.height(k), merged));
+        }
+        return merges;
+    }
+
+    /**
+     * 병합 높이 오름차순, 크기 일치, leaf 순서에서 모든 군집이 연속 구간인지 확인
+     */
+    private static void assertDendrogramConsistent(CorrelationClustering.Result result, int n) {
+        int[] position = new int[n];
+        boolean[] seen = new boolean[n];
+        int[] order = result.getOrder();
+        assertEquals(n, order.length);
+        for (int p = 0; p < n; p++) {
+            assertTrue(!seen[order[p]], "leaf 중복");
+            seen[order[p]] = true;
+            position[order[p]] = p;
+        }
+
+        int[] min = new int[n + result.mergeCount()];
+        int[] max = new int[n + result.mergeCount()];
+        int[] size = new int[n + result.mergeCount()];
+        for (int i = 0; i < n; i++) {
+            min[i] = max[i] = position[i];
+            size[i] = 1;
+        }
+        for (int k = 0; k < result.mergeCount(); k++) {
+            int left = result.left(k);
+            int right = result.right(k);
+            assertTrue(left < right && right < n + k, "병합 " + k);
+            if (k > 0) assertTrue(result.height(k - 1) <= result.height(k), "높이 오름차순");
+
+            int node = n + k;
+            min[node] = Math.min(min[left], min[right]);
+            max[node] = Math.max(max[left], max[right]);
+            size[node] = size[left] + size[right];
+            assertEquals(size[node], result.size(k));
+            assertEquals(size[node], max[node] - min[node] + 1, "군집이 leaf 순서에서 연속");
+        }
+    }
+
+    private static void assertMerge(CorrelationClustering.Result result, int merge, int left, int right,
+                                    double height, int size) {
+        assertEquals(left, result.left(merge), "left " + merge);
+        assertEquals(right, result.right(merge), "right " + merge);
+        assertEquals(height, result.height(merge), 1e-12, "height " + merge);
+        assertEquals(size, result.size(merge), "size " + merge);
+    }
+
+    private static String format(double height, BitSet leaves) {
+        return String.format("%.9f:%s", height, leaves);
+    }
+
+    private static double[] condensed(double[][] distance) {
+        int n = distance.length;
+        double[] packed = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                packed[k++] = distance[i][j];
+            }
+        }
+        return packed;
+    }
+
+    private static CorrelationMatrix matrix(double[][] rho) {
+        List<String> tickers = new ArrayList<>();
+        for (int i = 0; i < rho.length; i++) tickers.add("T" + i);
+
+        CorrelationMatrix matrix = CorrelationMatrix.of(tickers, Double.NaN);
+        for (int i = 0; i < rho.length; i++) {
+            for (int j = i + 1; j < rho.length; j++) {
+                matrix.set(i, j, rho[i][j]);
+            }
+        }
+        return matrix;
+    }
+
+}//class
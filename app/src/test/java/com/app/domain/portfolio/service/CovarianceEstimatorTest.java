@@ -0,0 +1,215 @@
+package com.app.domain.portfolio.service;
+
+import com.app.domain.portfolio.dto.CovarianceEstimate;
+import com.app.domain.price.dto.AlignedReturns;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CovarianceEstimator Ledoit-Wolf 축소 강도와 양의 준정부호 보정 검증
+ */
+class CovarianceEstimatorTest {
+
+    private static final double NaN = Double.NaN;
+
+    @Test
+    void shrinkageIntensityMatchesLedoitWolfFormula() {
+        double[][] series = randomSeries(4, 80, 21);
+        CovarianceEstimate estimate = CovarianceEstimator.estimate(returns(series), 0);
+
+        double[][] biased = naiveBiasedCovariance(series);
+        int n = series.length;
+        int length = series[0].length;
+        double[] mean = means(series);
+        double annual = PortfolioOptimizer.TRADING_DAYS;
+
+        double m = 0.0;
+        for (int i = 0; i < n; i++) m += biased[i][i];
+        m /= n;
+
+        double d2 = 0.0;
+        double b2 = 0.0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double diff = biased[i][j] - (i == j ? m : 0.0);
+                d2 += diff * diff;
+
+                double squares = 0.0;
+                for (int t = 0; t < length; t++) {
+                    double d = (series[i][t] - mean[i]) * (series[j][t] - mean[j]) * annual - biased[i][j];
+                    squares += d * d;
+                }
+                b2 += squares / length / length;
+            }
+        }
+        d2 /= n;
+        b2 /= n;
+        double expected = Math.min(b2, d2) / d2;
+
+        assertEquals(expected, estimate.getShrinkageIntensity(), 1e-12);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double shrunk = (1 - expected) * biased[i][j] + (i == j ? expected * m : 0.0);
+                assertEquals(shrunk, estimate.getShrinkageCovariance()[i][j], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void shrinkageIntensityStaysWithinUnitInterval() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 2 + random.nextInt(8);
+            int length = 3 + random.nextInt(60);
+            double[][] series = randomSeries(n, length, trial);
+            for (double[] values : series) {
+                for (int t = 0; t < length; t++) {
+                    if (random.nextDouble() < 0.15) values[t] = NaN;
+                }
+            }
+
+            double intensity = CovarianceEstimator.estimate(returns(series), 0).getShrinkageIntensity();
+            assertTrue(intensity >= 0.0 && intensity <= 1.0, "trial " + trial + ": " + intensity);
+        }
+    }
+
+    @Test
+    void subsetRecomputesIntensityForTheSubset() {
+        double[][] series = randomSeries(5, 60, 8);
+        CovarianceEstimate full = CovarianceEstimator.estimate(returns(series), 0);
+
+        CovarianceEstimate subset = CovarianceEstimator.subset(full, List.of("T3", "T1"));
+        CovarianceEstimate direct = CovarianceEstimator.estimate(
+                new AlignedReturns(List.of("T3", "T1"), dates(60), new double[][]{series[3], series[1]}), 0);
+
+        assertEquals(direct.getShrinkageIntensity(), subset.getShrinkageIntensity(), 1e-12);
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                assertEquals(direct.getShrinkageCovariance()[i][j], subset.getShrinkageCovariance()[i][j], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void pairwiseCovarianceIsRepairedToPositiveSemidefinite() {
+        // A-B, B-C는 공통 구간에서 완전 양의 상관, A-C는 완전 음의 상관 → 쌍별 공분산은 준정부호가 아님
+        double[][] series = {
+                {0.01, -0.01, 0.01, -0.01, NaN, NaN, NaN, NaN, 0.01, -0.01, 0.01, -0.01},
+                {0.01, -0.01, 0.01, -0.01, 0.01, -0.01, 0.01, -0.01, NaN, NaN, NaN, NaN},
+                {NaN, NaN, NaN, NaN, 0.01, -0.01, 0.01, -0.01, -0.01, 0.01, -0.01, 0.01}
+        };
+        CovarianceEstimate estimate = CovarianceEstimator.estimate(returns(series), 0);
+
+        assertTrue(minEigenvalue(estimate.getSampleCovariance()) < -1e-6, "표본 공분산이 준정부호가 아니어야 함");
+
+        assertTrue(minEigenvalue(estimate.getShrinkageCovariance()) >= -1e-12);
+        double[][] repaired = CovarianceEstimator.positiveSemidefinite(estimate.getSampleCovariance());
+        assertTrue(minEigenvalue(repaired) >= -1e-12);
+        for (int i = 0; i < repaired.length; i++) {
+            for (int j = 0; j < repaired.length; j++) {
+                assertEquals(repaired[i][j], repaired[j][i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void positiveSemidefiniteMatrixIsReturnedUnchanged() {
+        double[][] covariance = CovarianceEstimator.estimate(returns(randomSeries(4, 50, 3)), 0).getSampleCovariance();
+
+        assertSame(covariance, CovarianceEstimator.positiveSemidefinite(covariance));
+    }
+
+    @Test
+    void symmetricEigenReconstructsTheMatrix() {
+        double[][] matrix = {
+                {4.0, 1.0, -2.0, 0.5},
+                {1.0, 3.0, 0.0, 1.5},
+                {-2.0, 0.0, 1.0, -1.0},
+                {0.5, 1.5, -1.0, 2.0}
+        };
+        int n = matrix.length;
+        double[][] vectors = new double[n][n];
+        double[] values = CovarianceEstimator.symmetricEigen(matrix, vectors);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double reconstructed = 0.0;
+                double orthogonality = 0.0;
+                for (int k = 0; k < n; k++) {
+                    reconstructed += vectors[i][k] * values[k] * vectors[j][k];
+                    orthogonality += vectors[k][i] * vectors[k][j];
+                }
+                assertEquals(matrix[i][j], reconstructed, 1e-12);
+                assertEquals(i == j ? 1.0 : 0.0, orthogonality, 1e-12);
+            }
+        }
+    }
+
+    private static double minEigenvalue(double[][] matrix) {
+        double[] values = CovarianceEstimator.symmetricEigen(matrix, new double[matrix.length][matrix.length]);
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : values) min = Math.min(min, value);
+        return min;
+    }
+
+    private static double[][] naiveBiasedCovariance(double[][] series) {
+        int n = series.length;
+        int length = series[0].length;
+        double[] mean = means(series);
+        double[][] covariance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int t = 0; t < length; t++) {
+                    sum += (series[i][t] - mean[i]) * (series[j][t] - mean[j]);
+                }
+                covariance[i][j] = sum / length * PortfolioOptimizer.TRADING_DAYS;
+            }
+        }
+        return covariance;
+    }
+
+    private static double[] means(double[][] series) {
+        double[] mean = new double[series.length];
+        for (int i = 0; i < series.length; i++) {
+            for (double value : series[i]) mean[i] += value;
+            mean[i] /= series[i].length;
+        }
+        return mean;
+    }
+
+    private static double[][] randomSeries(int n, int length, long seed) {
+        Random random = new Random(seed);
+        double[] market = new double[length];
+        for (int t = 0; t < length; t++) market[t] = random.nextGaussian() * 0.01;
+
+        double[][] series = new double[n][length];
+        for (int i = 0; i < n; i++) {
+            double beta = 0.5 + random.nextDouble();
+            for (int t = 0; t < length; t++) {
+                series[i][t] = beta * market[t] + random.nextGaussian() * 0.015;
+            }
+        }
+        return series;
+    }
+
+    private static AlignedReturns returns(double[][] series) {
+        String[] tickers = new String[series.length];
+        for (int i = 0; i < series.length; i++) tickers[i] = "T" + i;
+        return new AlignedReturns(List.of(tickers), dates(series[0].length), series);
+    }
+
+    private static LocalDate[] dates(int length) {
+        LocalDate[] dates = new LocalDate[length];
+        for (int t = 0; t < length; t++) dates[t] = LocalDate.of(2024, 1, 1).plusDays(t);
+        return dates;
+    }
+
+}//class
@@ -0,0 +1,147 @@
+package com.app.domain.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PortfolioOptimizer 심플렉스 사영, 2종목 해석해, 최대 샤프 대체 동작 검증
+ */
+class PortfolioOptimizerTest {
+
+    private static final double WEIGHT_TOLERANCE = 1e-6;
+
+    @Test
+    void projectToSimplexKeepsPointsAlreadyOnSimplex() {
+        double[] v = {0.2, 0.5, 0.3};
+        double[] out = new double[3];
+        PortfolioOptimizer.projectToSimplex(v, out, new double[3]);
+
+        assertArrayEquals(v, out, 1e-15);
+    }
+
+    @Test
+    void projectToSimplexKnownCases() {
+        assertArrayEquals(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}, project(0.5, 0.5, 0.5), 1e-15);
+        assertArrayEquals(new double[]{1.0, 0.0, 0.0}, project(2.0, 0.0, -1.0), 1e-15);
+        assertArrayEquals(new double[]{0.5, 0.5, 0.0}, project(0.6, 0.6, -0.5), 1e-15);
+        assertArrayEquals(new double[]{1.0}, project(-3.0), 1e-15);
+    }
+
+    @Test
+    void projectToSimplexMatchesThresholdBisection() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + random.nextInt(12);
+            double[] v = new double[n];
+            for (int i = 0; i < n; i++) v[i] = random.nextGaussian() * 2.0;
+
+            double[] out = new double[n];
+            PortfolioOptimizer.projectToSimplex(v, out, new double[n]);
+
+            // 사영 결과는 max(v - τ, 0) 형태이고 합이 1인 τ는 유일
+            double low = min(v) - 1.0;
+            double high = max(v);
+            for (int k = 0; k < 200; k++) {
+                double tau = (low + high) / 2;
+                if (sumAbove(v, tau) > 1.0) low = tau; else high = tau;
+            }
+            double tau = (low + high) / 2;
+
+            double sum = 0.0;
+            for (int i = 0; i < n; i++) {
+                assertEquals(Math.max(v[i] - tau, 0.0), out[i], 1e-9, "trial " + trial);
+                sum += out[i];
+            }
+            assertEquals(1.0, sum, 1e-12);
+        }
+    }
+
+    @Test
+    void minimizeVarianceMatchesTwoAssetClosedForm() {
+        // w₁ = (σ₂² - σ₁₂) / (σ₁² + σ₂² - 2σ₁₂)
+        double[][] cov = covariance(0.2, 0.3, 0.25);
+        double expected = (cov[1][1] - cov[0][1]) / (cov[0][0] + cov[1][1] - 2 * cov[0][1]);
+
+        double[] weights = PortfolioOptimizer.minimizeVariance(cov);
+
+        assertArrayEquals(new double[]{expected, 1 - expected}, weights, WEIGHT_TOLERANCE);
+    }
+
+    @Test
+    void minimizeVarianceClipsTwoAssetClosedFormToLongOnly() {
+        // σ₁₂ > σ₁² 이면 무제약 해가 w₁ > 1 이므로 롱온리 해는 저위험 종목 100%
+        double[][] cov = covariance(0.1, 0.3, 0.9);
+
+        double[] weights = PortfolioOptimizer.minimizeVariance(cov);
+
+        assertArrayEquals(new double[]{1.0, 0.0}, weights, WEIGHT_TOLERANCE);
+    }
+
+    @Test
+    void maximizeSharpeMatchesTwoAssetTangencyPortfolio() {
+        // 내부해이면 w ∝ Σ⁻¹(μ - r_f)
+        double[][] cov = covariance(0.2, 0.3, 0.25);
+        double[] mean = {0.08, 0.12};
+        double riskFree = 0.03;
+
+        double det = cov[0][0] * cov[1][1] - cov[0][1] * cov[1][0];
+        double a = (cov[1][1] * (mean[0] - riskFree) - cov[0][1] * (mean[1] - riskFree)) / det;
+        double b = (cov[0][0] * (mean[1] - riskFree) - cov[1][0] * (mean[0] - riskFree)) / det;
+
+        double[] weights = PortfolioOptimizer.maximizeSharpe(cov, mean, riskFree, null);
+
+        assertArrayEquals(new double[]{a / (a + b), b / (a + b)}, weights, WEIGHT_TOLERANCE);
+    }
+
+    @Test
+    void maximizeSharpeFallsBackToMinimumVarianceWhenNoAssetBeatsRiskFreeRate() {
+        double[][] cov = covariance(0.2, 0.3, 0.25);
+        double[] mean = {0.01, 0.02};
+        double riskFree = 0.03;
+
+        assertFalse(PortfolioOptimizer.hasPositiveExcessReturn(mean, riskFree));
+        assertFalse(PortfolioOptimizer.hasPositiveExcessReturn(new double[]{0.03, 0.03}, riskFree));
+        assertTrue(PortfolioOptimizer.hasPositiveExcessReturn(new double[]{0.01, 0.031}, riskFree));
+
+        assertArrayEquals(PortfolioOptimizer.minimizeVariance(cov),
+                PortfolioOptimizer.maximizeSharpe(cov, mean, riskFree, new double[]{0.9, 0.1}), 0.0);
+    }
+
+    private static double[] project(double... v) {
+        double[] out = new double[v.length];
+        PortfolioOptimizer.projectToSimplex(v, out, new double[v.length]);
+        return out;
+    }
+
+    private static double[][] covariance(double sd1, double sd2, double rho) {
+        return new double[][]{
+                {sd1 * sd1, rho * sd1 * sd2},
+                {rho * sd1 * sd2, sd2 * sd2}
+        };
+    }
+
+    private static double sumAbove(double[] v, double tau) {
+        double sum = 0.0;
+        for (double value : v) sum += Math.max(value - tau, 0.0);
+        return sum;
+    }
+
+    private static double min(double[] v) {
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : v) min = Math.min(min, value);
+        return min;
+    }
+
+    private static double max(double[] v) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : v) max = Math.max(max, value);
+        return max;
+    }
+
+}//class
@@ -0,0 +1,98 @@
+package com.app.domain.screening.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * FactorRanker 정렬 안정성, 동률 평균 순위, NaN 후순위 처리 검증
+ */
+class FactorRankerTest {
+
+    private static final double NaN = Double.NaN;
+
+    @Test
+    void argsortIsStableForTies() {
+        double[] values = {3.0, 1.0, 3.0, 2.0, 1.0, 3.0};
+
+        assertArrayEquals(new int[]{1, 4, 3, 0, 2, 5}, FactorRanker.argsort(values, true));
+        assertArrayEquals(new int[]{0, 2, 5, 3, 1, 4}, FactorRanker.argsort(values, false));
+    }
+
+    @Test
+    void argsortMatchesStableLibrarySort() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = random.nextInt(40);
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(5) == 0 ? NaN : random.nextInt(6);
+            }
+
+            for (boolean ascending : new boolean[]{true, false}) {
+                assertArrayEquals(referenceArgsort(values, ascending), FactorRanker.argsort(values, ascending),
+                        "trial " + trial + " ascending " + ascending);
+            }
+        }
+    }
+
+    @Test
+    void averageRanksAverageTies() {
+        double[] values = {10.0, 20.0, 20.0, 30.0, 20.0};
+
+        assertArrayEquals(new double[]{0.0, 2.0, 2.0, 4.0, 2.0}, FactorRanker.averageRanks(values, true), 0.0);
+        assertArrayEquals(new double[]{4.0, 2.0, 2.0, 0.0, 2.0}, FactorRanker.averageRanks(values, false), 0.0);
+    }
+
+    @Test
+    void missingValuesRankLastAndTieInBothDirections() {
+        double[] values = {NaN, 5.0, NaN, 1.0, 3.0};
+
+        assertArrayEquals(new int[]{3, 4, 1, 0, 2}, FactorRanker.argsort(values, true));
+        assertArrayEquals(new int[]{1, 4, 3, 0, 2}, FactorRanker.argsort(values, false));
+
+        assertArrayEquals(new double[]{3.5, 2.0, 3.5, 0.0, 1.0}, FactorRanker.averageRanks(values, true), 0.0);
+        assertArrayEquals(new double[]{3.5, 0.0, 3.5, 2.0, 1.0}, FactorRanker.averageRanks(values, false), 0.0);
+    }
+
+    @Test
+    void allMissingValuesShareOneRank() {
+        double[] values = {NaN, NaN, NaN};
+
+        assertArrayEquals(new int[]{0, 1, 2}, FactorRanker.argsort(values, true));
+        assertArrayEquals(new double[]{1.0, 1.0, 1.0}, FactorRanker.averageRanks(values, false), 0.0);
+    }
+
+    @Test
+    void emptyAndSingleInputs() {
+        assertEquals(0, FactorRanker.argsort(new double[0], true).length);
+        assertEquals(0, FactorRanker.averageRanks(new double[0], false).length);
+
+        assertArrayEquals(new int[]{0}, FactorRanker.argsort(new double[]{4.2}, false));
+        assertArrayEquals(new double[]{0.0}, FactorRanker.averageRanks(new double[]{4.2}, true), 0.0);
+        assertArrayEquals(new double[]{0.0}, FactorRanker.averageRanks(new double[]{NaN}, true), 0.0);
+    }
+
+    /**
+     * Arrays.sort (객체 배열, 안정 정렬) 기반 참조 구현
+     */
+    private static int[] referenceArgsort(double[] values, boolean ascending) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = i;
+
+        Comparator<Integer> byValue = ascending
+                ? Comparator.comparingDouble(i -> values[i])
+                : Comparator.comparingDouble(i -> -values[i]);
+        Arrays.sort(boxed, Comparator.<Integer, Boolean>comparing(i -> Double.isNaN(values[i])).thenComparing(byValue));
+
+        int[] order = new int[values.length];
+        for (int i = 0; i < values.length; i++) order[i] = boxed[i];
+        return order;
+    }
+
+}//class
@@ -0,0 +1,89 @@
+package com.app.domain.screening.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ScreeningEngine 팩터 점수, 복합 점수, 최종 순위 검증 (소규모 유니버스, 동률 포함)
+ */
+class ScreeningEngineTest {
+
+    private static final double NaN = Double.NaN;
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    void scoresAndOrderWithTiesAndMissingValues() {
+        // 0: 10 / 1.0 / 15, 1: 20 / 1.0 / 10, 2: 20 / 2.0 / 10, 3: 없음 / 0.5 / 20, 4: 5 / 3.0 / 없음
+        double[] per = {10.0, 20.0, 20.0, NaN, 5.0};
+        double[] pbr = {1.0, 1.0, 2.0, 0.5, 3.0};
+        double[] roe = {15.0, 10.0, 10.0, 20.0, NaN};
+
+        ScreeningEngine.Result result = ScreeningEngine.score(per, pbr, roe, 0.4, 0.3, 0.3);
+
+        assertScores(result, 0, 0.75, 0.625, 0.75, 0.7125);
+        assertScores(result, 1, 0.375, 0.625, 0.375, 0.45);
+        assertScores(result, 2, 0.375, 0.25, 0.375, 0.3375);
+        assertScores(result, 3, 0.0, 1.0, 1.0, 0.6);
+        assertScores(result, 4, 1.0, 0.0, 0.0, 0.4);
+        assertOrder(result, 0, 3, 1, 4, 2);
+    }
+
+    @Test
+    void equalCompositeScoresKeepInputOrder() {
+        double[] per = {8.0, 5.0, 8.0, 5.0};
+        double[] pbr = {1.0, 2.0, 1.0, 2.0};
+        double[] roe = {10.0, 10.0, 10.0, 10.0};
+
+        ScreeningEngine.Result result = ScreeningEngine.score(per, pbr, roe, 0.5, 0.5, 0.0);
+
+        // 모든 종목의 복합 점수 0.5 동점
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0.5, result.compositeScore(i), EPSILON);
+            assertEquals(0.5, result.roeScore(i), EPSILON);
+        }
+        assertOrder(result, 0, 1, 2, 3);
+    }
+
+    @Test
+    void rankingUsesUnroundedComposite() {
+        // 0과 1은 소수점 6자리 반올림 시 모두 0.750000이지만 1이 미세하게 높음
+        double[] per = {1.0, 1.0, 2.0};
+        double[] pbr = {1.0, 1.0, 1.0};
+        double[] roe = {1.0, 2.0, 0.0};
+
+        ScreeningEngine.Result result = ScreeningEngine.score(per, pbr, roe, 1.0, 0.0, 1e-7);
+
+        assertEquals(0.75 + 0.5e-7, result.compositeScore(0), EPSILON);
+        assertEquals(0.75 + 1e-7, result.compositeScore(1), EPSILON);
+        assertOrder(result, 1, 0, 2);
+    }
+
+    @Test
+    void emptyAndSingleUniverse() {
+        ScreeningEngine.Result empty = ScreeningEngine.score(new double[0], new double[0], new double[0],
+                0.4, 0.3, 0.3);
+        assertEquals(0, empty.size());
+
+        ScreeningEngine.Result single = ScreeningEngine.score(new double[]{12.0}, new double[]{NaN},
+                new double[]{7.0}, 0.4, 0.3, 0.3);
+        assertEquals(1, single.size());
+        assertScores(single, 0, 1.0, 1.0, 1.0, 1.0);
+    }
+
+    private static void assertScores(ScreeningEngine.Result result, int index,
+                                     double per, double pbr, double roe, double composite) {
+        assertEquals(per, result.perScore(index), EPSILON, "per " + index);
+        assertEquals(pbr, result.pbrScore(index), EPSILON, "pbr " + index);
+        assertEquals(roe, result.roeScore(index), EPSILON, "roe " + index);
+        assertEquals(composite, result.compositeScore(index), EPSILON, "composite " + index);
+    }
+
+    private static void assertOrder(ScreeningEngine.Result result, int... expected) {
+        assertEquals(expected.length, result.size());
+        for (int rank = 0; rank < expected.length; rank++) {
+            assertEquals(expected[rank], result.indexAt(rank), "rank " + rank);
+        }
+    }
+
+}//class